@@ -0,0 +1,78 @@
+package com.kyonggi.backend.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kyonggi.backend.global.ApiError;
+import com.kyonggi.backend.global.ApiErrorWriter;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * ApiErrorWriter: ApiException 응답 쓰기 (미리 직렬화한 본문 ↔ Jackson 직렬화)
+ *
+ * - retryAfter: false(INVALID_CREDENTIALS, 상수 본문) / true(LOGIN_LOCKED + Retry-After, 템플릿 본문)
+ * - jackson: GlobalExceptionHandler의 이전 경로와 같은 내용(ApiError.from → ObjectMapper)을 응답에 직접 쓴다.
+ * 응답 객체는 MockHttpServletResponse (Tomcat 버퍼 비용은 제외). 두 경로의 바이트 동치는 ApiErrorWriterTest
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiErrorWriterBenchmark {
+
+    @Param({"false", "true"})
+    boolean retryAfter;
+
+    private ObjectMapper objectMapper;
+    private ApiErrorWriter writer;
+    private ApiException exception;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        writer = new ApiErrorWriter(objectMapper);
+        exception = retryAfter
+                ? new ApiException(ErrorCode.LOGIN_LOCKED, 30)
+                : new ApiException(ErrorCode.INVALID_CREDENTIALS);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse precomputed() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.tryWrite(response, exception);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse jackson() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] payload = objectMapper.writeValueAsBytes(ApiError.from(exception));
+        response.setStatus(exception.getErrorCode().status().value());
+        if (exception.getRetryAfterSeconds() != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()));
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(payload.length);
+        response.getOutputStream().write(payload);
+        return response;
+    }
+}
@@ -0,0 +1,127 @@
+package com.kyonggi.backend.bench;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kyonggi.backend.auth.config.OtpProperties;
+import com.kyonggi.backend.auth.identity.signup.service.SignupOtpService;
+import com.kyonggi.backend.auth.identity.signup.support.OtpHasher;
+import com.kyonggi.backend.auth.repo.EmailOtpRepository;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.security.JwtService.InvalidJwtException;
+
+/**
+ * 예상된 오류 throw → catch 비용 (app.errors.stack-traces on/off)
+ *
+ * - 실제 요청처럼 MVC/Security/Tomcat 깊이(depth 프레임)에서 던지고 맨 위에서 잡는다.
+ * - failedLogin: ApiException(INVALID_CREDENTIALS), invalidJwt: JwtService.InvalidJwtException
+ * - otpMismatch: 실제 SignupOtpService.verifySignupOtp 불일치 경로 (OtpInvalidException, OTP HMAC 계산 포함)
+ *   리포지토리는 Proxy 스텁: markVerifiedIfMatches → 0, increaseFailureIfPending → 1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiExceptionBenchmark {
+
+    @Param({"false", "true"})
+    public boolean stackTraces;
+
+    @Param({"120"})
+    public int depth;
+
+    private SignupOtpService signupOtpService;
+    private Runnable failedLogin;
+    private Runnable invalidJwt;
+    private Runnable otpMismatch;
+
+    @Setup
+    public void setUp() {
+        ApiException.setStackTraceEnabled(stackTraces);
+
+        OtpProperties props = new OtpProperties(10, 5, 60, 10, "0123456789abcdef0123456789abcdef", null);
+        signupOtpService = new SignupOtpService(mismatchRepository(), null, null, null, null, null,
+                new OtpHasher(props), props, Clock.systemUTC());
+
+        failedLogin = () -> {
+            throw new ApiException(ErrorCode.INVALID_CREDENTIALS);
+        };
+        invalidJwt = () -> {
+            throw new InvalidJwtException("Invalid JWT", null);
+        };
+        otpMismatch = () -> signupOtpService.verifySignupOtp("someone@kyonggi.ac.kr", "000000");
+    }
+
+    @TearDown
+    public void tearDown() {
+        ApiException.setStackTraceEnabled(false);
+    }
+
+    @Benchmark
+    public RuntimeException failedLogin() {
+        try {
+            throwAt(depth, failedLogin);
+            return null;
+        } catch (ApiException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException invalidJwt() {
+        try {
+            throwAt(depth, invalidJwt);
+            return null;
+        } catch (InvalidJwtException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException otpMismatch() {
+        try {
+            throwAt(depth, otpMismatch);
+            return null;
+        } catch (ApiException e) {
+            return e;
+        }
+    }
+
+    // 요청 처리 스택 깊이 흉내 (필터 체인/디스패처/서비스 프레임)
+    private static void throwAt(int depth, Runnable thrower) {
+        if (depth == 0) {
+            thrower.run();
+            return;
+        }
+        throwAt(depth - 1, thrower);
+    }
+
+    // 코드 불일치 + 실패 횟수 +1 성공 상태의 리포지토리 (JMH 소스셋에는 Mockito가 없다)
+    private static EmailOtpRepository mismatchRepository() {
+        return (EmailOtpRepository) Proxy.newProxyInstance(
+                EmailOtpRepository.class.getClassLoader(),
+                new Class<?>[] {EmailOtpRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "markVerifiedIfMatches" -> 0;
+                    case "increaseFailureIfPending" -> 1;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,55 @@
+package com.kyonggi.backend.bench;
+
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 입력 생성 (고정 seed: 실행마다 같은 입력)
+ */
+final class BenchData {
+
+    private static final String ALPHANUMERIC =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    // 회원가입 검사기 경계 문자 (SignupValidatorsFuzzTest와 같은 알파벳)
+    private static final String[] SIGNUP_EDGE_CHARS = {
+            "a", "Z", "m", "0", "9", "5", "!", "_", "@", "-", "~",
+            " ", "\t", "\n", "\u000B", "\f", "\r", "\u00A0", "\u3000",
+            "\u0085", "\u2028", "\u2029",
+            "가", "힣", "\uABFF", "\uD7A4", "ㄱ", "é", "\uFF21", "\uFF11",
+            "😀", "\uD83D", "\uDE00"
+    };
+    private static final String SIGNUP_COMMON = "abcXYZ019!_#가나힣";
+
+    private BenchData() {}
+
+    static String ascii(int length) {
+        SplittableRandom random = new SplittableRandom(length);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length())));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 회원가입 비밀번호/닉네임 입력: 짝수 번째는 정상 위주(가끔 경계 문자), 홀수 번째는 경계 문자만으로 무작위
+     */
+    static String[] signupInputs(int count) {
+        SplittableRandom random = new SplittableRandom(7L);
+        String[] inputs = new String[count];
+        for (int i = 0; i < count; i++) {
+            boolean mostlyValid = (i % 2 == 0);
+            int length = mostlyValid ? random.nextInt(1, 23) : random.nextInt(0, 34);
+            StringBuilder sb = new StringBuilder(length * 2);
+            for (int j = 0; j < length; j++) {
+                if (!mostlyValid || random.nextInt(20) == 0) {
+                    sb.append(SIGNUP_EDGE_CHARS[random.nextInt(SIGNUP_EDGE_CHARS.length)]);
+                } else {
+                    sb.append(SIGNUP_COMMON.charAt(random.nextInt(SIGNUP_COMMON.length())));
+                }
+            }
+            inputs[i] = sb.toString();
+        }
+        return inputs;
+    }
+}
@@ -0,0 +1,76 @@
+package com.kyonggi.backend.bench;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kyonggi.backend.auth.config.AuthProperties;
+import com.kyonggi.backend.auth.domain.UserRole;
+import com.kyonggi.backend.security.AuthPrincipal;
+import com.kyonggi.backend.security.JwtService;
+import com.kyonggi.backend.security.JwtService.InvalidJwtException;
+
+/**
+ * JwtService: Access Token 발급 / 검증 / 위조 토큰 거절
+ *
+ * - issuerLength: iss 클레임 길이 → 토큰 길이(헤더/페이로드 Base64 + HMAC 입력)를 바꾼다.
+ * - verifyForged: 서명만 바꾼 토큰 (JwtAuthenticationFilter가 매 요청 겪을 수 있는 실패 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    @Param({"16", "128", "1024"})
+    int issuerLength;
+
+    private JwtService jwtService;
+    private String validToken;
+    private String forgedToken;
+
+    @Setup
+    public void setUp() {
+        AuthProperties props = new AuthProperties(
+                new AuthProperties.Jwt(BenchData.ascii(issuerLength), 900, BenchData.ascii(64)),
+                null);
+        jwtService = new JwtService(props, Clock.systemUTC());
+
+        validToken = jwtService.issueAccessToken(42L, UserRole.USER);
+        int sig = validToken.lastIndexOf('.') + 1;
+        char flipped = validToken.charAt(sig) == 'A' ? 'B' : 'A';
+        forgedToken = validToken.substring(0, sig) + flipped + validToken.substring(sig + 1);
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtService.issueAccessToken(42L, UserRole.USER);
+    }
+
+    @Benchmark
+    public AuthPrincipal verifyValid() {
+        return jwtService.verifyAccessToken(validToken);
+    }
+
+    @Benchmark
+    public Object verifyForged() {
+        try {
+            return jwtService.verifyAccessToken(forgedToken);
+        } catch (InvalidJwtException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.kyonggi.backend.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
+import com.kyonggi.backend.global.ApiException;
+
+/**
+ * KyonggiEmailUtils: 이메일 정규화 / 도메인 검증
+ *
+ * - email: 이미 정규화된 입력, 공백/대문자가 섞인 입력, 다른 도메인(ApiException 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KyonggiEmailUtilsBenchmark {
+
+    @Param({"student@kyonggi.ac.kr", "  Student.Name@Kyonggi.AC.KR ", "student@gmail.com"})
+    String email;
+
+    @Benchmark
+    public String normalize() {
+        return KyonggiEmailUtils.normalize(email);
+    }
+
+    @Benchmark
+    public Object validateDomain() {
+        try {
+            KyonggiEmailUtils.validateKyonggiDomain(email);
+            return email;
+        } catch (ApiException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.kyonggi.backend.bench;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kyonggi.backend.auth.config.OtpProperties;
+import com.kyonggi.backend.auth.identity.signup.support.OtpCodeGenerator;
+import com.kyonggi.backend.auth.identity.signup.support.OtpHasher;
+
+/**
+ * OTP: 코드 생성(OtpCodeGenerator) / HMAC 해시(OtpHasher.hash) / 비교(OtpHasher.matches)
+ *
+ * - hash: OTP 요청/검증마다 1회
+ * - matchesMismatch: 틀린 코드 (검증 실패 경로)
+ * - generate: SecureRandom + 6자리 포맷
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OtpBenchmark {
+
+    private OtpHasher hasher;
+    private OtpCodeGenerator generator;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        hasher = new OtpHasher(new OtpProperties(10, 5, 60, 10, BenchData.ascii(64), null));
+        generator = new OtpCodeGenerator(new SecureRandom());
+        storedHash = hasher.hash("123456");
+    }
+
+    @Benchmark
+    public String hash() {
+        return hasher.hash("123456");
+    }
+
+    @Benchmark
+    public boolean matchesMismatch() {
+        return hasher.matches("654321", storedHash);
+    }
+
+    @Benchmark
+    public String generate() {
+        return generator.generate6Digits();
+    }
+}
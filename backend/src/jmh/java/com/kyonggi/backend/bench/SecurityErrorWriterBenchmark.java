@@ -0,0 +1,59 @@
+package com.kyonggi.backend.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kyonggi.backend.global.ApiErrorWriter;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.security.SecurityErrorWriter;
+
+/**
+ * SecurityErrorWriter: 필터 체인의 401/403 JSON 응답 쓰기
+ *
+ * - defaultMessage: 미리 직렬화한 본문 (ApiErrorWriter)
+ * - messageOverride: ObjectMapper 직렬화 경로
+ * 응답 객체는 MockHttpServletResponse (Tomcat 버퍼 비용은 제외)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityErrorWriterBenchmark {
+
+    private SecurityErrorWriter writer;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        writer = new SecurityErrorWriter(objectMapper, new ApiErrorWriter(objectMapper));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse defaultMessage() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(response, ErrorCode.ACCESS_INVALID);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse messageOverride() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(response, ErrorCode.ACCESS_INVALID, "토큰이 올바르지 않습니다.");
+        return response;
+    }
+}
@@ -0,0 +1,77 @@
+package com.kyonggi.backend.bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kyonggi.backend.auth.identity.signup.support.SignupPatterns;
+import com.kyonggi.backend.auth.identity.signup.support.SignupValidators;
+
+/**
+ * 회원가입 비밀번호/닉네임 검사: SignupPatterns 정규식(스펙) ↔ SignupValidators(실제 사용)
+ *
+ * - input: 통과(valid) / 길이 초과(tooLong) / 규칙 위반(whitespace) 사례
+ *   / mixed: SignupValidatorsFuzzTest와 같은 분포(정상 위주 + 경계 문자 섞인 무작위) 1024개를 돌아가며
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignupPatternsBenchmark {
+
+    private static final Pattern PASSWORD = Pattern.compile(SignupPatterns.PASSWORD_REGEX);
+    private static final Pattern NICKNAME = Pattern.compile(SignupPatterns.NICKNAME_REGEX);
+
+    @Param({"valid", "tooLong", "whitespace", "mixed"})
+    String input;
+
+    private String[] passwords;
+    private String[] nicknames;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        switch (input) {
+            case "valid" -> { passwords = new String[] {"Abcdef12!"}; nicknames = new String[] {"학생_01"}; }
+            case "tooLong" -> {
+                passwords = new String[] {"Abcdef12!Abcdef12!Abcdef12!"};
+                nicknames = new String[] {"aaaaaaaaaaaaaaaaaaaaaaaaa"};
+            }
+            case "mixed" -> { passwords = BenchData.signupInputs(1024); nicknames = passwords; }
+            default -> { passwords = new String[] {"Abc def12!"}; nicknames = new String[] {"nick name"}; }
+        }
+    }
+
+    @Benchmark
+    public boolean passwordRegex() {
+        return PASSWORD.matcher(passwords[next++ & (passwords.length - 1)]).matches();
+    }
+
+    @Benchmark
+    public boolean passwordValidator() {
+        return SignupValidators.isValidPassword(passwords[next++ & (passwords.length - 1)]);
+    }
+
+    @Benchmark
+    public boolean nicknameRegex() {
+        return NICKNAME.matcher(nicknames[next++ & (nicknames.length - 1)]).matches();
+    }
+
+    @Benchmark
+    public boolean nicknameValidator() {
+        return SignupValidators.isValidNickname(nicknames[next++ & (nicknames.length - 1)]);
+    }
+}
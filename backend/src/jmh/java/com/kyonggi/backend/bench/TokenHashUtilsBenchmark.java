@@ -0,0 +1,46 @@
+package com.kyonggi.backend.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.kyonggi.backend.auth.token.support.TokenHashUtils;
+
+/**
+ * TokenHashUtils.sha256Hex: refresh token 조회/회전마다 호출
+ *
+ * - tokenLength: raw token 길이 (실제 refresh token은 43자 base64url, 긴 입력은 비교용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenHashUtilsBenchmark {
+
+    @Param({"43", "256", "4096"})
+    int tokenLength;
+
+    private String raw;
+
+    @Setup
+    public void setUp() {
+        raw = BenchData.ascii(tokenLength);
+    }
+
+    @Benchmark
+    public String sha256Hex() {
+        return TokenHashUtils.sha256Hex(raw);
+    }
+}
@@ -0,0 +1,94 @@
+package com.kyonggi.backend.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.kyonggi.backend.auth.identity.login.dto.LoginRequest;
+import com.kyonggi.backend.auth.identity.signup.dto.SignupCompleteRequest;
+
+/**
+ * @Trim(TrimStringDeserializer) 요청 바디 역직렬화: 이전 구현(getValueAsString().trim()) ↔ 파서 버퍼 기반
+ *
+ * - payload: clean(자를 게 없음) / padded(email 앞뒤 공백)
+ * - legacy*: 같은 모양의 record에 이전 구현 역직렬화기를 붙인 것
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrimStringDeserializerBenchmark {
+
+    @Param({"clean", "padded"})
+    String payload;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String loginJson;
+    private String signupJson;
+
+    @Setup
+    public void setUp() {
+        String email = "clean".equals(payload) ? "student@kyonggi.ac.kr" : "  student@kyonggi.ac.kr\\t";
+        loginJson = "{\"email\":\"" + email + "\",\"password\":\"Abcdef12!\",\"rememberMe\":true}";
+        signupJson = "{\"email\":\"" + email + "\",\"password\":\"Abcdef12!\",\"passwordConfirm\":\"Abcdef12!\","
+                + "\"nickname\":\"학생_01\"}";
+    }
+
+    @Benchmark
+    public Object login() throws IOException {
+        return objectMapper.readValue(loginJson, LoginRequest.class);
+    }
+
+    @Benchmark
+    public Object legacyLogin() throws IOException {
+        return objectMapper.readValue(loginJson, LegacyLoginRequest.class);
+    }
+
+    @Benchmark
+    public Object signup() throws IOException {
+        return objectMapper.readValue(signupJson, SignupCompleteRequest.class);
+    }
+
+    @Benchmark
+    public Object legacySignup() throws IOException {
+        return objectMapper.readValue(signupJson, LegacySignupCompleteRequest.class);
+    }
+
+    // 이전 구현: getValueAsString()으로 문자열을 만든 뒤 trim
+    static class LegacyTrimStringDeserializer extends JsonDeserializer<String> {
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String v = p.getValueAsString();
+            return v == null ? null : v.trim();
+        }
+    }
+
+    record LegacyLoginRequest(
+            @JsonDeserialize(using = LegacyTrimStringDeserializer.class) String email,
+            String password,
+            Boolean rememberMe) {}
+
+    record LegacySignupCompleteRequest(
+            @JsonDeserialize(using = LegacyTrimStringDeserializer.class) String email,
+            String password,
+            String passwordConfirm,
+            String nickname) {}
+}
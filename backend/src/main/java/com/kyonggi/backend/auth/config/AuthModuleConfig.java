@@ -8,9 +8,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.kyonggi.backend.auth.identity.password.PasswordEncoders;
+
 /**
  * @Configuration 
  * - 이 클래스가 "스프링 설정 클래스"임을 의미
@@ -18,12 +20,24 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * 
  * @EnableConfigurationProperties
  *  - @ConfigurationProperties가 붙은 클래스들을 스프링이 자동으로 바인딩 + 검증하도록 활성화
- *  - 여기서는: {OtpProperties, AuthProperties}
+ *  - 여기서는: {OtpProperties, AuthProperties, PasswordHashingProperties, PasswordEncodingProperties, LoginThrottleProperties, CredentialCacheProperties, LoginActivityProperties, ExistenceFilterProperties, UserImportProperties, MeCacheProperties}
+ *
+ * @EnableScheduling
+ *  - @Scheduled 배치(예: EmailOtpCleanupJob)를 활성화
  */
 @Configuration
+@EnableScheduling
 @EnableConfigurationProperties({
         OtpProperties.class, 
-        AuthProperties.class
+        AuthProperties.class,
+        PasswordHashingProperties.class,
+        PasswordEncodingProperties.class,
+        LoginThrottleProperties.class,
+        CredentialCacheProperties.class,
+        LoginActivityProperties.class,
+        ExistenceFilterProperties.class,
+        UserImportProperties.class,
+        MeCacheProperties.class
 })
 public class AuthModuleConfig {
 
@@ -43,8 +57,9 @@ public class AuthModuleConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(PasswordEncodingProperties props) {
         // ✅ 비밀번호 전용. OTP는 BCrypt로 하지 말고(느림) HMAC/SHA 계열로 별도 처리하는 게 좋다.
-        return new BCryptPasswordEncoder();
+        // "{bcrypt}/{argon2}/{pbkdf2}" 접두사로 알고리즘을 구분한다. (접두사 없는 기존 해시는 BCrypt로 검증)
+        return PasswordEncoders.delegating(props);
     }
 }
@@ -0,0 +1,20 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * 로그인 "없는 이메일" 캐시 설정 (NegativeEmailCache)
+ *
+ * - 존재하지 않는 이메일 조회 결과만 캐시한다. (계정 열거 트래픽이 MySQL까지 가지 않게)
+ * - 가입 시 같은 인스턴스에서는 즉시 지워지고, 다른 인스턴스는 ttlSeconds 안에 만료된다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.auth.credential-cache")
+public record CredentialCacheProperties(
+        boolean enabled,          // false면 매번 DB 조회
+        @Min(1) int maxEntries,   // 최대 항목 수 (넘으면 가장 오래 안 쓴 항목부터 제거)
+        @Min(1) long ttlSeconds   // 항목 유효 시간 (가입 직후 다른 인스턴스에서 로그인 실패할 수 있는 최대 시간)
+) {}
@@ -0,0 +1,29 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+
+/**
+ * 가입 이메일/닉네임 Bloom filter 설정 (RegisteredUserFilter)
+ *
+ * - "확실히 없음"만 DB를 건너뛰고, "있을 수도 있음"은 항상 DB로 확인한다.
+ * - 다른 인스턴스의 가입은 refreshIntervalMillis 안에 반영된다.
+ *   그 사이 "확실히 없음"이 틀릴 수 있으므로 가입/닉네임 사전 검사(유니크 제약이 뒤를 받침)에만 쓰고 로그인에는 쓰지 않는다.
+ * - 마지막 재구성/refresh 성공이 maxStalenessMillis보다 오래되면(= DB 장애 등으로 갱신이 밀림)
+ *   "확실히 없음"을 믿지 않고 구성 전과 같이 항상 DB로 확인한다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.auth.existence-filter")
+public record ExistenceFilterProperties(
+        boolean enabled,                    // false면 항상 DB 조회
+        @Min(1) long expectedInsertions,    // 최소 용량 (실제 row 수가 더 크면 그에 맞춰 잡는다)
+        @DecimalMin("0.0001") @DecimalMax("0.5") double falsePositiveRate, // 목표 오탐률
+        @Min(1) long refreshIntervalMillis, // 다른 인스턴스 가입분(id > watermark)을 읽어오는 주기
+        @Min(1) long maxStalenessMillis,    // 마지막 갱신 성공 후 이 시간이 지나면 filter를 쓰지 않는다 (refreshIntervalMillis보다 크게)
+        @Min(0) long refreshOverlapIds,     // 늦게 커밋된 row를 놓치지 않도록 watermark보다 이만큼 앞에서부터 다시 읽는다
+        @Min(1) long rebuildIntervalMinutes // 전체 재구성 주기 (삭제/닉네임 변경 반영, 용량 재계산)
+) {}
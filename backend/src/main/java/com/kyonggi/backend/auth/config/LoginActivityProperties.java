@@ -0,0 +1,23 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * 로그인 활동 기록(LoginActivityRecorder) 설정
+ *
+ * - last_login_at은 로그인마다 UPDATE 하지 않고, 사용자별 최신 시각만 메모리에 모아 주기적으로 배치 반영한다.
+ * - 같은 데이터로 "최근 N분 활성 사용자 수"를 메모리에서 센다. (대시보드용, 인스턴스 단위)
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.auth.login-activity")
+public record LoginActivityProperties(
+        boolean enabled,                 // false면 기록하지 않는다 (last_login_at 갱신 없음)
+        @Min(1) long flushIntervalMillis, // 모아둔 last_login_at을 DB에 반영하는 주기
+        @Min(1) int batchSize,           // UPDATE batch 1회당 최대 row 수
+        @Min(1) int maxPending,          // 아직 반영 안 한 사용자 수 상한 (넘으면 새 사용자는 이번 주기에 버린다)
+        @Min(1) int activeWindowMinutes, // 활성 사용자 집계 구간
+        @Min(1) int maxTracked           // 활성 사용자 집계용으로 추적하는 최대 사용자 수
+) {}
@@ -0,0 +1,37 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 로그인 실패 기반 잠금(LoginThrottle) 설정
+ *
+ * - 계정(정규화된 이메일) / IP 각각 슬라이딩 윈도우 안의 실패 횟수를 센다.
+ * - 실패가 maxFailures에 닿으면 baseLockoutSeconds만큼 잠그고, 다시 닿을 때마다 2배 (maxLockoutSeconds 상한)
+ * - 메모리 상한: maxKeys (가득 차면 새 키는 추적하지 않는다)
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.auth.login-throttle")
+public record LoginThrottleProperties(
+        boolean enabled,                 // false면 검사/기록하지 않는다
+        @Min(1) long windowSeconds,      // 실패 횟수를 세는 슬라이딩 윈도우 크기
+        @Min(1) int maxKeys,             // 메모리에 유지할 최대 키 수 (계정 + IP)
+        @Valid @NotNull Policy account,  // 계정 기준
+        @Valid @NotNull Policy ip        // IP 기준
+) {
+
+    /**
+     * @param maxFailures        윈도우 안에서 이 횟수에 닿으면 잠금
+     * @param baseLockoutSeconds 첫 잠금 시간 (이후 2배씩)
+     * @param maxLockoutSeconds  잠금 시간 상한
+     */
+    public record Policy(
+            @Min(1) int maxFailures,
+            @Min(1) long baseLockoutSeconds,
+            @Min(1) long maxLockoutSeconds
+    ) {}
+}
@@ -0,0 +1,26 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * /auth/me 프로필 캐시 설정 (MeProfileCache + UserChangeFeed)
+ *
+ * - 같은 인스턴스의 users 변경(JPA)은 커밋 시점에 바로 무효화된다.
+ * - 다른 인스턴스의 변경은 user_changes 피드로 feedPollIntervalMillis 안에 무효화된다. (피드를 끄면 ttlSeconds 안에)
+ * - JPA/피드를 거치지 않은 SQL 직접 변경은 ttlSeconds 안에 반영된다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.auth.me-cache")
+public record MeCacheProperties(
+        boolean enabled,                 // false면 매번 DB 조회
+        @Min(1) int maxEntries,          // 최대 사용자 수 (stripe마다 나눠 갖고, 넘으면 그 stripe에서 가장 오래 안 쓴 항목부터 제거)
+        @Min(1) long ttlSeconds,         // 항목 유효 시간 (무효화를 놓쳤을 때 최대 지연)
+        boolean feedEnabled,             // user_changes 기록/폴링 여부 (단일 인스턴스면 꺼도 된다)
+        @Min(100) long feedPollIntervalMillis,
+        @Min(1) int feedBatchSize,       // 폴링 1회 조회 row 수
+        @Min(0) int feedOverlapIds,      // 늦게 커밋된 row 대비 재조회 범위 (이미 적용한 id는 건너뜀)
+        @Min(1) int feedRetentionMinutes // user_changes 보관 기간
+) {}
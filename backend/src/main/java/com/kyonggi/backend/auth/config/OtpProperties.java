@@ -3,6 +3,7 @@ package com.kyonggi.backend.auth.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -19,5 +20,27 @@ public record OtpProperties(
         @Min(1) int maxFailures,            // 허용 실패 횟수
         @Min(1) int resendCooldownSeconds,  // 재전송 쿨다운
         @Min(1) int dailySendLimit,         // 일일 발송제한
-        @NotBlank @Size(min = 32)String hmacSecret // OTP 검증/서명(HMAC)용 비밀키
-) {}
\ No newline at end of file
+        @NotBlank @Size(min = 32)String hmacSecret, // OTP 검증/서명(HMAC)용 비밀키
+        @Valid Cleanup cleanup              // 만료 OTP row 정리 배치
+) {
+
+    public OtpProperties {
+        cleanup = (cleanup == null) ? Cleanup.DEFAULT : cleanup;
+    }
+
+    /**
+     * email_otp 정리 배치 설정
+     * - cron: 실행 주기 ("-"면 스케줄 비활성화, 수동 runOnce()만 가능)
+     * - batchSize: DELETE 1문장당 최대 삭제 row 수 (락 보유 시간/undo 크기 상한)
+     * - maxBatches: 1회 실행당 최대 배치 수 (남은 건 다음 실행으로 넘긴다)
+     * - pauseMillis: 배치 사이 휴지 시간 (다른 트랜잭션/복제에 숨 돌릴 틈)
+     */
+    public record Cleanup(
+            @NotBlank String cron,
+            @Min(1) int batchSize,
+            @Min(1) int maxBatches,
+            @Min(0) long pauseMillis
+    ) {
+        static final Cleanup DEFAULT = new Cleanup("-", 500, 100, 0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 비밀번호 해시 알고리즘/비용 설정 (DelegatingPasswordEncoder)
+ *
+ * - encodeId: 새로 저장하는 해시의 알고리즘. 나머지 알고리즘은 "검증만" 한다.
+ * - 저장된 해시가 encodeId/비용과 다르면 로그인 성공 시 재해시한다. (PasswordRehasher)
+ * - 비용은 보안과 처리량의 교환이다. calibration을 켜면 현재 장비에서 측정해 권장값을 로그로 남긴다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.auth.password")
+public record PasswordEncodingProperties(
+        @NotNull Algorithm encodeId,         // 새 해시 알고리즘
+        @Min(4) @Max(31) int bcryptCost,     // BCrypt log2 rounds (1 올릴 때마다 2배)
+        @Valid @NotNull Argon2 argon2,       // Argon2id 파라미터
+        @Min(1) int pbkdf2Iterations,        // PBKDF2-HMAC-SHA256 반복 횟수
+        @Valid @NotNull Calibration calibration
+) {
+
+    public enum Algorithm {
+        BCRYPT("bcrypt"),
+        ARGON2("argon2"),
+        PBKDF2("pbkdf2");
+
+        private final String id;
+
+        Algorithm(String id) {
+            this.id = id;
+        }
+
+        // 저장 포맷의 "{id}" 접두사
+        public String id() {
+            return id;
+        }
+    }
+
+    /**
+     * Argon2id 파라미터
+     * - memoryKib: 해시 1회당 메모리 (KiB)
+     * - iterations: 반복 횟수 (시간 비용)
+     * - parallelism: 레인 수
+     */
+    public record Argon2(
+            @Min(8) int memoryKib,
+            @Min(1) int iterations,
+            @Min(1) int parallelism
+    ) {}
+
+    /**
+     * 기동 시 해시 비용 측정
+     * - enabled: true면 기동 직후 백그라운드에서 측정 후 권장값을 로그로 남긴다. (설정을 바꾸지는 않는다)
+     * - targetMillis: 해시 1회 목표 시간
+     * - samples: 측정 반복 횟수 (중앙값 사용)
+     */
+    public record Calibration(
+            boolean enabled,
+            @Min(1) long targetMillis,
+            @Min(1) int samples
+    ) {}
+}
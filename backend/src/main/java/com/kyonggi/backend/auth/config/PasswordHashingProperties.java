@@ -0,0 +1,26 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * 비밀번호 해시 전용 풀 설정 (PasswordHashingExecutor)
+ *
+ * - BCrypt 같은 KDF는 일부러 느린 CPU 작업이라, 코어 수보다 많이 동시에 돌려도 처리량은 늘지 않고 지연만 커진다.
+ * - 대기 큐와 최대 대기 시간을 두어, 폭주 시 요청 스레드가 줄줄이 묶이지 않고 바로 503을 받게 한다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.auth.password-hashing")
+public record PasswordHashingProperties(
+        @Min(0) int workers,            // 해시 워커 수 (0이면 CPU 코어 수)
+        @Min(1) int queueCapacity,      // 대기 큐 최대 길이 (가득 차면 즉시 503)
+        @Min(1) long maxWaitMillis,     // 요청 스레드가 기다리는 최대 시간 (대기 + 해시)
+        @Min(1) int retryAfterSeconds   // 503 응답의 Retry-After
+) {
+
+    public int resolvedWorkers() {
+        return (workers > 0) ? workers : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,27 @@
+package com.kyonggi.backend.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * 관리자 일괄 가입(UserImportService) 설정
+ *
+ * - 파일은 chunkSize 행씩 읽어서 검증 → 해시(병렬) → 다중 행 INSERT 한다. 메모리에는 chunk 하나만 둔다.
+ * - 해시 풀은 로그인/가입용 PasswordHashingExecutor와 분리한다. (일괄 가입이 로그인을 굶기지 않게)
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.auth.user-import")
+public record UserImportProperties(
+        @Min(0) int hashWorkers,              // 해시 ForkJoinPool 병렬도 (0이면 CPU 코어 수 - 1, 최소 1)
+        @Min(1) @Max(5000) int chunkSize,     // 검증/해시/INSERT 단위 행 수 (= INSERT 1문장의 VALUES 수)
+        @Min(0) int maxErrors,                // 응답에 담을 행 단위 오류 최대 수 (초과분은 개수만 센다)
+        @Min(64) int maxLineChars             // 한 행 최대 길이 (넘으면 그 행은 오류)
+) {
+
+    public int resolvedHashWorkers() {
+        return hashWorkers > 0 ? hashWorkers : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+}
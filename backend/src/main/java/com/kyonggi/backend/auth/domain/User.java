@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -12,6 +13,10 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
+import com.kyonggi.backend.auth.identity.existence.RegisteredUserFilterListener;
+import com.kyonggi.backend.auth.identity.login.credential.UserCredentialCacheListener;
+import com.kyonggi.backend.auth.identity.me.cache.MeProfileCacheListener;
+
 /**
  * users 테이블 = "회원 저장소"
  * 
@@ -19,11 +24,16 @@ import jakarta.persistence.UniqueConstraint;
  * - OTP 인증 성공 -> SignupService.completeSignup()에서 users에 insert 
  * 
  * 로그인 흐름:
- * - LogonService.login()에서 users를 email로 조회
+ * - LogonService.login()에서 users를 email로 조회 (UserCredentials projection: id/password_hash/role/status만)
  * - password_hash 비교
  * - status/role로 인증/인가 정책 적용
  */
 @Entity
+@EntityListeners({
+        UserCredentialCacheListener.class,  // 가입(INSERT) 시 "없는 이메일" 캐시에서 제거
+        RegisteredUserFilterListener.class, // 가입(INSERT) 시 이메일/닉네임 Bloom filter에 추가
+        MeProfileCacheListener.class        // 변경/삭제(UPDATE/DELETE) 시 /auth/me 캐시 무효화 + user_changes 기록
+})
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(name = "uq_users_email", columnNames = "email"),
         @UniqueConstraint(name = "uq_users_nickname", columnNames = "nickname")
@@ -37,8 +47,8 @@ public class User {
     @Column(nullable = false, length = 255)
     private String email; // 로그인 ID (Unique)
 
-    @Column(name = "password_hash", nullable = false, length = 100)
-    private String passwordHash; // 비밀번호를 BCrypt된 해시로 저장 (원문 저장 금지)
+    @Column(name = "password_hash", nullable = false, length = 255)
+    private String passwordHash; // "{id}해시" 형식 (DelegatingPasswordEncoder). 원문 저장 금지
 
     @Column(nullable = false, length = 30) 
     private String nickname; // 커뮤니티 표시명. 유니크
@@ -54,6 +64,9 @@ public class User {
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt; // 운영/보안용(마지막 로그인)
 
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt; // DB가 관리 (ON UPDATE CURRENT_TIMESTAMP). /auth/me ETag 버전으로 쓴다
+
     // 가입 완료 시 생성 (SignupService.completeSignup()에서 호출)
     public static User create(String email, String passwordHash, String nickname) {
         User u = new User();
@@ -74,4 +87,5 @@ public class User {
     public String getPasswordHash() {return passwordHash;}
     public String getEmail() {return email;}
     public String getNickname() {return nickname;}
+    public LocalDateTime getUpdatedAt() {return updatedAt;}
 }
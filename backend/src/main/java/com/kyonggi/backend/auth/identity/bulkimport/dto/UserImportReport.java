@@ -0,0 +1,25 @@
+package com.kyonggi.backend.auth.identity.bulkimport.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 가입 결과
+ *
+ * - total = imported + rejected
+ * - errors: 행 단위 오류 (최대 app.auth.user-import.max-errors개, 나머지는 rejected 수에만 반영)
+ *   code는 ErrorCode 이름 (WEAK_PASSWORD, EMAIL_ALREADY_EXISTS, ...)
+ */
+public record UserImportReport(
+        long total,
+        long imported,
+        long rejected,
+        long elapsedMillis,
+        long usersPerSecond,
+        List<RowError> errors
+) {
+
+    /**
+     * @param line 파일 기준 행 번호 (1부터, CSV 헤더 포함)
+     */
+    public record RowError(long line, String email, String code) {}
+}
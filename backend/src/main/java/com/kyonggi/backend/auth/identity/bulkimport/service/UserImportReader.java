@@ -0,0 +1,260 @@
+package com.kyonggi.backend.auth.identity.bulkimport.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 일괄 가입 파일 스트리밍 리더 (한 번에 한 행)
+ *
+ * - CSV: 첫 행은 헤더(email,password,nickname 순서 무관). 큰따옴표 필드와 "" 이스케이프를 지원한다. (필드 안 줄바꿈은 미지원)
+ * - NDJSON: 한 행에 JSON 객체 하나 {"email":..,"password":..,"nickname":..}. 토큰 스트리밍으로 세 필드만 읽는다.
+ * - 빈 행은 건너뛴다. 형식이 깨진 행은 오류 행(VALIDATION_ERROR)으로 돌려주고 다음 행으로 넘어간다.
+ * - 행은 자체 버퍼에서 직접 자른다. maxLineChars + 1자까지만 담고 나머지는 줄 끝까지 읽어 버린다.
+ *   (BufferedReader.readLine은 줄 전체를 String으로 만든 뒤에야 길이를 볼 수 있어 줄바꿈 없는 거대한 입력에 약하다)
+ * - 줄 끝: \n, \r, \r\n (BufferedReader.readLine과 같다)
+ * - 파일 맨 앞의 UTF-8 BOM(U+FEFF)은 버린다. (Excel "CSV UTF-8" 저장 시 헤더가 \uFEFFemail이 된다)
+ * - CSV 헤더 행이 maxLineChars를 넘으면 오류 행이 아니라 요청 전체 오류(400)다. (헤더 없이는 어느 행도 읽을 수 없다)
+ */
+abstract class UserImportReader {
+
+    private static final int BUFFER_CHARS = 64 * 1024;
+
+    private final Reader reader;
+    private final int maxLineChars;
+    private final char[] buffer = new char[BUFFER_CHARS];
+    private final StringBuilder lineText;
+    private int pos;
+    private int limit;
+    private boolean skipLf; // 직전 줄이 \r로 끝났으면 바로 뒤 \n은 같은 줄 끝
+    private boolean started; // 첫 문자(BOM 여부)를 봤는지
+    private long line;
+
+    private UserImportReader(Reader reader, int maxLineChars) {
+        this.reader = reader;
+        this.maxLineChars = maxLineChars;
+        this.lineText = new StringBuilder(Math.min(maxLineChars + 1, 1024));
+    }
+
+    static UserImportReader csv(Reader reader, int maxLineChars) {
+        return new Csv(reader, maxLineChars);
+    }
+
+    static UserImportReader ndjson(Reader reader, int maxLineChars, JsonFactory jsonFactory) {
+        return new Ndjson(reader, maxLineChars, jsonFactory);
+    }
+
+    /**
+     * @return 다음 행, 파일 끝이면 null
+     */
+    UserImportRow next() {
+        while (true) {
+            String text = readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+            if (text.length() > maxLineChars) {
+                return tooLong(line);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            UserImportRow row = parse(line, text);
+            if (row != null) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * @return 행, 헤더처럼 데이터가 아닌 행이면 null
+     */
+    abstract UserImportRow parse(long line, String text);
+
+    /**
+     * maxLineChars를 넘는 행 (기본: 오류 행으로 돌려주고 다음 행으로)
+     */
+    UserImportRow tooLong(long line) {
+        return UserImportRow.invalid(line, ErrorCode.VALIDATION_ERROR.name());
+    }
+
+    /**
+     * @return 다음 행(최대 maxLineChars + 1자, 넘는 부분은 버림), 파일 끝이면 null
+     */
+    private String readLine() {
+        lineText.setLength(0);
+        boolean read = false;
+        while (true) {
+            if (pos >= limit && !fill()) {
+                return read ? lineText.toString() : null;
+            }
+            char c = buffer[pos++];
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') {
+                    continue;
+                }
+            }
+            if (skipLf) {
+                skipLf = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            if (c == '\n' || c == '\r') {
+                skipLf = (c == '\r');
+                return lineText.toString();
+            }
+            read = true;
+            if (lineText.length() <= maxLineChars) {
+                lineText.append(c);
+            }
+        }
+    }
+
+    private boolean fill() {
+        try {
+            int n = reader.read(buffer, 0, buffer.length);
+            pos = 0;
+            limit = Math.max(n, 0);
+            return n > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Csv extends UserImportReader {
+
+        private int emailIdx = -1;
+        private int passwordIdx = -1;
+        private int nicknameIdx = -1;
+        private boolean headerRead;
+
+        private Csv(Reader reader, int maxLineChars) {
+            super(reader, maxLineChars);
+        }
+
+        @Override
+        UserImportRow parse(long line, String text) {
+            List<String> fields = split(text);
+            if (fields == null) {
+                return UserImportRow.invalid(line, ErrorCode.VALIDATION_ERROR.name());
+            }
+            if (!headerRead) {
+                readHeader(fields);
+                return null;
+            }
+            int max = Math.max(emailIdx, Math.max(passwordIdx, nicknameIdx));
+            if (fields.size() <= max) {
+                return UserImportRow.invalid(line, ErrorCode.VALIDATION_ERROR.name());
+            }
+            return new UserImportRow(line, fields.get(emailIdx), fields.get(passwordIdx), fields.get(nicknameIdx), null);
+        }
+
+        @Override
+        UserImportRow tooLong(long line) {
+            if (!headerRead) {
+                throw new ApiException(ErrorCode.VALIDATION_ERROR, "CSV 헤더 행이 너무 깁니다.");
+            }
+            return super.tooLong(line);
+        }
+
+        private void readHeader(List<String> header) {
+            for (int i = 0; i < header.size(); i++) {
+                switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                    case "email" -> emailIdx = i;
+                    case "password" -> passwordIdx = i;
+                    case "nickname" -> nicknameIdx = i;
+                    default -> { } // 모르는 열은 무시
+                }
+            }
+            if (emailIdx < 0 || passwordIdx < 0 || nicknameIdx < 0) {
+                throw new ApiException(ErrorCode.VALIDATION_ERROR, "CSV 헤더에 email, password, nickname 열이 모두 있어야 합니다.");
+            }
+            headerRead = true;
+        }
+
+        // RFC 4180 한 행 분리 (따옴표가 닫히지 않으면 null)
+        private static List<String> split(String text) {
+            List<String> fields = new ArrayList<>(3);
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"' && current.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else if (c != '\r') {
+                    current.append(c);
+                }
+            }
+            if (quoted) {
+                return null;
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+
+    private static final class Ndjson extends UserImportReader {
+
+        private final JsonFactory jsonFactory;
+
+        private Ndjson(Reader reader, int maxLineChars, JsonFactory jsonFactory) {
+            super(reader, maxLineChars);
+            this.jsonFactory = jsonFactory;
+        }
+
+        @Override
+        UserImportRow parse(long line, String text) {
+            String email = null;
+            String password = null;
+            String nickname = null;
+
+            try (JsonParser p = jsonFactory.createParser(text)) {
+                if (p.nextToken() != JsonToken.START_OBJECT) {
+                    return UserImportRow.invalid(line, ErrorCode.VALIDATION_ERROR.name());
+                }
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = p.currentName();
+                    JsonToken value = p.nextToken();
+                    if (value != JsonToken.VALUE_STRING) {
+                        p.skipChildren();
+                        continue;
+                    }
+                    switch (name) {
+                        case "email" -> email = p.getText();
+                        case "password" -> password = p.getText();
+                        case "nickname" -> nickname = p.getText();
+                        default -> { }
+                    }
+                }
+            } catch (IOException e) {
+                return UserImportRow.invalid(line, ErrorCode.VALIDATION_ERROR.name());
+            }
+            return new UserImportRow(line, email, password, nickname, null);
+        }
+    }
+}
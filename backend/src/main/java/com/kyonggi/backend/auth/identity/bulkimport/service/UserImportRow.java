@@ -0,0 +1,14 @@
+package com.kyonggi.backend.auth.identity.bulkimport.service;
+
+/**
+ * 일괄 가입 파일의 한 행 (정규화 전 원본 값)
+ *
+ * @param line  파일 기준 행 번호
+ * @param error 파싱 단계 오류 (ErrorCode 이름, 없으면 null)
+ */
+record UserImportRow(long line, String email, String password, String nickname, String error) {
+
+    static UserImportRow invalid(long line, String code) {
+        return new UserImportRow(line, null, null, null, code);
+    }
+}
@@ -0,0 +1,327 @@
+package com.kyonggi.backend.auth.identity.bulkimport.service;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kyonggi.backend.auth.config.UserImportProperties;
+import com.kyonggi.backend.auth.identity.bulkimport.dto.UserImportReport;
+import com.kyonggi.backend.auth.identity.bulkimport.dto.UserImportReport.RowError;
+import com.kyonggi.backend.auth.identity.existence.RegisteredUserFilter;
+import com.kyonggi.backend.auth.identity.login.credential.NegativeEmailCache;
+import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
+import com.kyonggi.backend.auth.identity.signup.support.SignupValidators;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 일괄 가입 (학기 초 대량 계정 생성)
+ *
+ * 파일을 통째로 읽지 않고 chunk-size 행씩 흘려보낸다:
+ * 1) 검증: SignupValidators(비밀번호/닉네임) + 경기대 이메일 도메인, chunk 안 중복
+ * 2) 중복 선검사: chunk의 이메일/닉네임을 IN 조회 1번 → 이미 있는 행은 해시 전에 제외
+ * 3) 해시: 전용 ForkJoinPool에서 병렬 (로그인용 PasswordHashingExecutor와 분리)
+ * 4) INSERT IGNORE ... VALUES (...), (...), ... 다중 행 1문장 (rewriteBatchedStatements가 만드는 형태를 직접 만든다)
+ * 5) 결과 확인: 이메일 IN 조회로 실제로 들어간 행을 확인. 그 사이 다른 가입과 겹쳐 무시된 행은
+ *    두 컬럼을 다시 조회해서 실제로 걸린 제약으로 보고한다.
+ *    (이메일이 있으면 uq_users_email → EMAIL_ALREADY_EXISTS, 닉네임이 있으면 uq_users_nickname → NICKNAME_ALREADY_EXISTS)
+ *
+ * - 각 chunk는 독립적으로 커밋된다. (중간에 실패해도 앞 chunk는 남는다. 다시 올리면 중복으로 보고된다)
+ * - 들어간 계정은 RegisteredUserFilter/NegativeEmailCache에 바로 반영한다. (JPA 리스너를 거치지 않으므로)
+ *
+ * 메트릭: auth.user_import.rows{result=imported|rejected}, auth.user_import.chunk (timer)
+ */
+@Slf4j
+@Service
+public class UserImportService implements DisposableBean {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]{1,200}@kyonggi\\.ac\\.kr$");
+
+    private static final String EXISTING_SQL =
+            "SELECT email, nickname FROM users WHERE email IN (:emails) OR nickname IN (:nicknames)";
+    private static final String INSERTED_SQL =
+            "SELECT email, nickname FROM users WHERE email IN (:emails)";
+    private static final String TAKEN_NICKNAMES_SQL =
+            "SELECT nickname FROM users WHERE nickname IN (:nicknames)";
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final PasswordEncoder passwordEncoder;
+    private final RegisteredUserFilter registeredUserFilter;
+    private final NegativeEmailCache negativeEmailCache;
+    private final UserImportProperties props;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool hashPool;
+
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+    private final Timer chunkTimer;
+
+    public UserImportService(
+            DataSource dataSource,
+            PasswordEncoder passwordEncoder,
+            RegisteredUserFilter registeredUserFilter,
+            NegativeEmailCache negativeEmailCache,
+            UserImportProperties props,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.namedJdbc = new NamedParameterJdbcTemplate(jdbc);
+        this.passwordEncoder = passwordEncoder;
+        this.registeredUserFilter = registeredUserFilter;
+        this.negativeEmailCache = negativeEmailCache;
+        this.props = props;
+        this.objectMapper = objectMapper;
+        this.hashPool = new ForkJoinPool(props.resolvedHashWorkers());
+
+        this.importedCounter = Counter.builder("auth.user_import.rows").tag("result", "imported").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.user_import.rows").tag("result", "rejected").register(meterRegistry);
+        this.chunkTimer = Timer.builder("auth.user_import.chunk")
+                .description("chunk 1개 검증/해시/INSERT 시간")
+                .register(meterRegistry);
+    }
+
+    public UserImportReport importUsers(InputStream in, Format format) {
+        long startedAt = System.nanoTime();
+        InputStreamReader text = new InputStreamReader(in, StandardCharsets.UTF_8); // 버퍼링/줄 자르기는 UserImportReader가 한다
+        UserImportReader reader = (format == Format.CSV)
+                ? UserImportReader.csv(text, props.maxLineChars())
+                : UserImportReader.ndjson(text, props.maxLineChars(), objectMapper.getFactory());
+
+        Tally tally = new Tally(props.maxErrors());
+        List<UserImportRow> chunk = new ArrayList<>(props.chunkSize());
+        for (UserImportRow row = reader.next(); row != null; row = reader.next()) {
+            chunk.add(row);
+            if (chunk.size() == props.chunkSize()) {
+                process(chunk, tally);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            process(chunk, tally);
+        }
+
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("[user-import] format={} total={} imported={} rejected={} in {}ms ({} users/s)",
+                format, tally.total, tally.imported, tally.rejected, elapsedMillis, tally.imported * 1000 / elapsedMillis);
+        return new UserImportReport(tally.total, tally.imported, tally.rejected, elapsedMillis,
+                tally.imported * 1000 / elapsedMillis, tally.errors);
+    }
+
+    private void process(List<UserImportRow> rows, Tally tally) {
+        long startedAt = System.nanoTime();
+        tally.total += rows.size();
+
+        // 1) 검증 + chunk 안 중복
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        Set<String> emails = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        for (UserImportRow row : rows) {
+            Candidate c = validate(row, tally);
+            if (c == null) {
+                continue;
+            }
+            if (!emails.add(c.email())) {
+                tally.reject(c.line(), c.email(), ErrorCode.EMAIL_ALREADY_EXISTS);
+            } else if (!nicknames.add(c.nicknameKey())) {
+                tally.reject(c.line(), c.email(), ErrorCode.NICKNAME_ALREADY_EXISTS);
+            } else {
+                candidates.add(c);
+            }
+        }
+
+        // 2) 이미 있는 이메일/닉네임은 해시 전에 제외
+        candidates = withoutExisting(candidates, tally);
+        if (!candidates.isEmpty()) {
+            // 3) 병렬 해시 → 4) 다중 행 INSERT → 5) 실제 반영 확인
+            List<Candidate> toInsert = candidates;
+            List<String> hashes = hashPool.submit(() -> toInsert.parallelStream()
+                    .map(c -> passwordEncoder.encode(c.password()))
+                    .toList()).join();
+            insert(toInsert, hashes);
+            confirm(toInsert, tally);
+        }
+
+        chunkTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private Candidate validate(UserImportRow row, Tally tally) {
+        if (row.error() != null) {
+            tally.reject(row.line(), null, row.error());
+            return null;
+        }
+        String email = KyonggiEmailUtils.normalize(row.email());
+        if (email == null || email.isEmpty()) {
+            tally.reject(row.line(), null, ErrorCode.VALIDATION_ERROR);
+            return null;
+        }
+        try {
+            KyonggiEmailUtils.validateKyonggiDomain(email);
+        } catch (ApiException e) {
+            tally.reject(row.line(), email, e.getCode());
+            return null;
+        }
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
+            tally.reject(row.line(), email, ErrorCode.VALIDATION_ERROR);
+            return null;
+        }
+        if (!SignupValidators.isValidPassword(row.password())) {
+            tally.reject(row.line(), email, ErrorCode.WEAK_PASSWORD);
+            return null;
+        }
+        String nickname = row.nickname() == null ? "" : row.nickname().trim();
+        if (!SignupValidators.isValidNickname(nickname)) {
+            tally.reject(row.line(), email, ErrorCode.INVALID_NICKNAME);
+            return null;
+        }
+        return new Candidate(row.line(), email, row.password(), nickname);
+    }
+
+    private List<Candidate> withoutExisting(List<Candidate> candidates, Tally tally) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenNicknames = new HashSet<>();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("emails", candidates.stream().map(Candidate::email).toList())
+                .addValue("nicknames", candidates.stream().map(Candidate::nickname).toList());
+        namedJdbc.query(EXISTING_SQL, params, rs -> {
+            takenEmails.add(rs.getString("email").toLowerCase(Locale.ROOT));
+            takenNicknames.add(rs.getString("nickname").toLowerCase(Locale.ROOT));
+        });
+
+        List<Candidate> fresh = new ArrayList<>(candidates.size());
+        for (Candidate c : candidates) {
+            if (takenEmails.contains(c.email())) {
+                tally.reject(c.line(), c.email(), ErrorCode.EMAIL_ALREADY_EXISTS);
+            } else if (takenNicknames.contains(c.nicknameKey())) {
+                tally.reject(c.line(), c.email(), ErrorCode.NICKNAME_ALREADY_EXISTS);
+            } else {
+                fresh.add(c);
+            }
+        }
+        return fresh;
+    }
+
+    private void insert(List<Candidate> candidates, List<String> hashes) {
+        StringBuilder sql = new StringBuilder(64 + candidates.size() * 10)
+                .append("INSERT IGNORE INTO users (email, password_hash, nickname) VALUES ");
+        Object[] args = new Object[candidates.size() * 3];
+        for (int i = 0; i < candidates.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            Candidate c = candidates.get(i);
+            args[i * 3] = c.email();
+            args[i * 3 + 1] = hashes.get(i);
+            args[i * 3 + 2] = c.nickname();
+        }
+        jdbc.update(sql.toString(), args);
+    }
+
+    // INSERT IGNORE로 조용히 빠진 행(동시 가입과 충돌)을 찾아 어떤 유니크 제약에 걸렸는지 보고한다.
+    private void confirm(List<Candidate> candidates, Tally tally) {
+        Map<String, String> nicknameByEmail = new HashMap<>();
+        namedJdbc.query(INSERTED_SQL,
+                new MapSqlParameterSource("emails", candidates.stream().map(Candidate::email).toList()),
+                rs -> { nicknameByEmail.put(rs.getString("email").toLowerCase(Locale.ROOT), rs.getString("nickname")); });
+
+        List<Candidate> skipped = new ArrayList<>();
+        for (Candidate c : candidates) {
+            String stored = nicknameByEmail.get(c.email());
+            if (stored != null && stored.equals(c.nickname())) {
+                registeredUserFilter.add(c.email(), c.nickname());
+                negativeEmailCache.evict(c.email());
+                tally.imported++;
+                importedCounter.increment();
+            } else {
+                skipped.add(c);
+            }
+        }
+        if (!skipped.isEmpty()) {
+            reportSkipped(skipped, nicknameByEmail.keySet(), tally);
+        }
+    }
+
+    // 빠진 행은 두 컬럼을 모두 다시 확인한다. (이메일/닉네임 둘 다 걸렸으면 이메일 우선, 가입 API와 같은 순서)
+    private void reportSkipped(List<Candidate> skipped, Set<String> takenEmails, Tally tally) {
+        Set<String> takenNicknames = new HashSet<>();
+        namedJdbc.query(TAKEN_NICKNAMES_SQL,
+                new MapSqlParameterSource("nicknames", skipped.stream().map(Candidate::nickname).toList()),
+                rs -> { takenNicknames.add(rs.getString("nickname").toLowerCase(Locale.ROOT)); });
+
+        for (Candidate c : skipped) {
+            if (takenEmails.contains(c.email())) {
+                tally.reject(c.line(), c.email(), ErrorCode.EMAIL_ALREADY_EXISTS);    // uq_users_email
+            } else if (takenNicknames.contains(c.nicknameKey())) {
+                tally.reject(c.line(), c.email(), ErrorCode.NICKNAME_ALREADY_EXISTS); // uq_users_nickname
+            } else {
+                // 충돌한 row가 그 사이 지워졌다 → 어느 제약인지 알 수 없으니 추측하지 않는다 (다시 올리면 들어간다)
+                log.warn("[user-import] line {} was ignored by INSERT IGNORE but no conflicting row remains", c.line());
+                tally.reject(c.line(), c.email(), ErrorCode.INTERNAL_ERROR);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdownNow();
+    }
+
+    private record Candidate(long line, String email, String password, String nickname) {
+        String nicknameKey() {
+            return nickname.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final class Tally {
+        private final int maxErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long rejected;
+
+        private Tally(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(long line, String email, ErrorCode code) {
+            reject(line, email, code.name());
+        }
+
+        private void reject(long line, String email, String code) {
+            rejected++;
+            rejectedCounter.increment();
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(line, email, code));
+            }
+        }
+    }
+}
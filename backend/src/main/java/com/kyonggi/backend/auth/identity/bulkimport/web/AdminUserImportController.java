@@ -0,0 +1,51 @@
+package com.kyonggi.backend.auth.identity.bulkimport.web;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kyonggi.backend.auth.identity.bulkimport.dto.UserImportReport;
+import com.kyonggi.backend.auth.identity.bulkimport.service.UserImportService;
+import com.kyonggi.backend.auth.identity.bulkimport.service.UserImportService.Format;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 일괄 가입 API (MASTER 전용: SecurityConfig /admin/**)
+ *
+ * - 요청 바디를 DTO로 바인딩하지 않고 InputStream 그대로 서비스에 넘긴다. (파일 전체를 메모리에 올리지 않음)
+ * - Content-Type: text/csv (헤더 행 필수) | application/x-ndjson
+ * - 응답: 200 + UserImportReport (행 단위 오류 포함). 형식 자체가 잘못되면 400 VALIDATION_ERROR
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/users")
+public class AdminUserImportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final UserImportService userImportService;
+
+    @PostMapping("/import")
+    public UserImportReport importUsers(HttpServletRequest request) throws IOException {
+        return userImportService.importUsers(request.getInputStream(), formatOf(request.getContentType()));
+    }
+
+    private static Format formatOf(String contentType) {
+        MediaType type = (contentType == null) ? null : MediaType.parseMediaType(contentType);
+        if (type != null && TEXT_CSV.includes(type)) {
+            return Format.CSV;
+        }
+        if (type != null && NDJSON.includes(type)) {
+            return Format.NDJSON;
+        }
+        throw new ApiException(ErrorCode.VALIDATION_ERROR, "Content-Type은 text/csv 또는 application/x-ndjson 이어야 합니다.");
+    }
+}
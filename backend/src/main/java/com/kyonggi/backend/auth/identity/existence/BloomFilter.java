@@ -0,0 +1,119 @@
+package com.kyonggi.backend.auth.identity.existence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter (lock-free, 추가만 가능)
+ *
+ * - 크기: m = -n·ln(p) / (ln 2)², 해시 수 k = (m/n)·ln 2  (n = 예상 원소 수, p = 목표 오탐률)
+ * - 해시: UTF-8 바이트의 64-bit FNV-1a → fmix64로 h1, h2를 만들고 h1 + i·h2 (Kirsch–Mitzenmacher)
+ * - 비트는 AtomicLongArray에 CAS로 세팅하므로 put/mightContain을 동시에 호출해도 된다.
+ *
+ * mightContain이 false면 "확실히 넣은 적 없음", true면 "넣었거나 오탐"이다.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final long expectedInsertions;
+
+    private BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+
+        this.words = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / n * LN2));
+        this.expectedInsertions = n;
+    }
+
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public void put(String value) {
+        long h1 = h1(value);
+        long h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = h1(value);
+        long h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            if (!getBit(index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * n개를 넣었을 때 이론상 오탐률 (1 - e^(-kn/m))^k
+     */
+    public double expectedFalsePositiveRate(long insertions) {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * insertions / bitSize), hashFunctions);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public long sizeInBytes() {
+        return bitSize >>> 3;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    private long index(long combined) {
+        return Long.remainderUnsigned(combined, bitSize);
+    }
+
+    private void setBit(long bit) {
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long bit) {
+        return (words.get((int) (bit >>> 6)) & (1L << bit)) != 0;
+    }
+
+    private static long h1(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        return fmix64(h);
+    }
+
+    // MurmurHash3 finalizer
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,320 @@
+package com.kyonggi.backend.auth.identity.existence;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.ExistenceFilterProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입된 이메일/닉네임 Bloom filter (존재 확인 전 단계)
+ *
+ * - 가입 중복 검사(existsByEmail/existsByNickname)는 대부분 "없음"으로 끝난다.
+ *   filter가 "확실히 없음"이라고 하면 DB 인덱스 조회를 건너뛰고, "있을 수도 있음"이면 그대로 DB에 묻는다.
+ * - 로그인 조회에는 쓰지 않는다. 다른 인스턴스 가입분이 refresh 전까지 "없음"으로 나오는데,
+ *   가입 검사와 달리 로그인에는 이를 잡아줄 유니크 제약이 없다. (UserCredentialLookup)
+ * - 구성: 기동 시 users를 스트리밍(SELECT id, email, nickname)해서 만든다. 만들기 전에는 항상 "있을 수도 있음"
+ * - stale: 마지막 재구성/refresh 성공이 max-staleness보다 오래되면 다른 인스턴스 가입분이 빠져 있을 수 있으므로
+ *   구성 전과 같이 항상 "있을 수도 있음"으로 답한다. (refresh가 실패하면 곧 DB 조회로 돌아간다)
+ * - 갱신:
+ *   - 이 인스턴스의 가입: RegisteredUserFilterListener(@PostPersist)가 INSERT 직후 바로 넣는다.
+ *   - 다른 인스턴스의 가입: refresh-interval마다 id > (watermark - overlap) 범위를 PK로 읽어 넣는다.
+ *   - 삭제/용량 초과: Bloom filter는 지울 수 없으므로 rebuild-interval마다(또는 예상 용량을 넘으면) 새로 만들어 교체한다.
+ *     교체 중 들어온 가입은 새 filter에도 넣는다.
+ * - 키는 소문자로 넣는다. (users는 utf8mb4_0900_ai_ci라 대소문자 구분 없이 유니크)
+ *   악센트 차이 같은 나머지 collation 차이는 INSERT 유니크 제약 → SignupService의 재조회가 잡는다.
+ *
+ * 메트릭:
+ * - auth.existence_filter.checks{kind=email|nickname, result=absent|maybe|not_ready|stale}
+ * - auth.existence_filter.bytes / .expected_fpp (gauge), auth.existence_filter.rebuild (timer)
+ */
+@Slf4j
+@Component
+public class RegisteredUserFilter implements SmartLifecycle {
+
+    private static final String SCAN_SQL = "SELECT id, email, nickname FROM users";
+    private static final String SCAN_FROM_SQL = "SELECT id, email, nickname FROM users WHERE id > ? ORDER BY id";
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM users";
+
+    private final JdbcTemplate jdbc;
+    private final JdbcTemplate streamingJdbc;
+    private final ExistenceFilterProperties props;
+    private final Clock clock;
+
+    private volatile Filters current;  // null이면 아직 구성 전 → 항상 "있을 수도 있음"
+    private volatile Filters building; // 재구성 중인 filter (그 사이 가입도 여기에 넣는다)
+    private volatile long watermark;   // 반영한 최대 users.id
+    private volatile long syncedAtMillis; // 마지막 재구성/refresh 성공 시각
+
+    private final Timer rebuildTimer;
+    private final Counter emailAbsent;
+    private final Counter emailMaybe;
+    private final Counter nicknameAbsent;
+    private final Counter nicknameMaybe;
+    private final Counter notReady;
+    private final Counter stale;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public RegisteredUserFilter(DataSource dataSource, ExistenceFilterProperties props, Clock clock, MeterRegistry meterRegistry) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.streamingJdbc = new JdbcTemplate(dataSource);
+        this.streamingJdbc.setFetchSize(Integer.MIN_VALUE); // MySQL Connector/J: 결과를 한 번에 메모리에 올리지 않고 행 단위로 스트리밍
+        this.props = props;
+        this.clock = clock;
+
+        this.rebuildTimer = Timer.builder("auth.existence_filter.rebuild").register(meterRegistry);
+        this.emailAbsent = checks(meterRegistry, "email", "absent");
+        this.emailMaybe = checks(meterRegistry, "email", "maybe");
+        this.nicknameAbsent = checks(meterRegistry, "nickname", "absent");
+        this.nicknameMaybe = checks(meterRegistry, "nickname", "maybe");
+        this.notReady = Counter.builder("auth.existence_filter.checks").tag("kind", "any").tag("result", "not_ready")
+                .register(meterRegistry);
+        this.stale = Counter.builder("auth.existence_filter.checks").tag("kind", "any").tag("result", "stale")
+                .register(meterRegistry);
+        Gauge.builder("auth.existence_filter.bytes", this, f -> f.current == null ? 0 : f.current.sizeInBytes())
+                .description("이메일 + 닉네임 Bloom filter 비트 배열 크기")
+                .register(meterRegistry);
+        Gauge.builder("auth.existence_filter.expected_fpp", this, f -> f.current == null ? 0 : f.current.emails.expectedFalsePositiveRate(f.current.inserted.get()))
+                .description("현재 원소 수 기준 이론상 오탐률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param email 정규화된 이메일
+     * @return false면 확실히 가입되지 않은 이메일 (DB 조회 불필요)
+     */
+    public boolean mightHaveEmail(String email) {
+        Filters f = usable();
+        if (f == null) {
+            return true;
+        }
+        boolean maybe = f.emails.mightContain(key(email));
+        (maybe ? emailMaybe : emailAbsent).increment();
+        return maybe;
+    }
+
+    /**
+     * @param nickname trim 된 닉네임
+     * @return false면 확실히 사용 중이 아닌 닉네임 (DB 조회 불필요)
+     */
+    public boolean mightHaveNickname(String nickname) {
+        Filters f = usable();
+        if (f == null) {
+            return true;
+        }
+        boolean maybe = f.nicknames.mightContain(key(nickname));
+        (maybe ? nicknameMaybe : nicknameAbsent).increment();
+        return maybe;
+    }
+
+    /**
+     * @return "확실히 없음"을 믿어도 되는 filter. 구성 전/비활성/stale이면 null (→ 항상 DB 조회)
+     */
+    private Filters usable() {
+        Filters f = current;
+        if (!props.enabled() || f == null) {
+            notReady.increment();
+            return null;
+        }
+        if (isStale()) {
+            stale.increment();
+            return null;
+        }
+        return f;
+    }
+
+    /**
+     * 마지막 갱신 성공 후 max-staleness가 지났으면 true
+     */
+    public boolean isStale() {
+        return clock.millis() - syncedAtMillis > props.maxStalenessMillis();
+    }
+
+    /**
+     * 가입(INSERT) 반영. 재구성 중이면 새 filter에도 넣는다.
+     */
+    public void add(String email, String nickname) {
+        Filters f = current;
+        if (f != null) {
+            f.put(email, nickname);
+        }
+        Filters b = building;
+        if (b != null) {
+            b.put(email, nickname);
+        }
+    }
+
+    /**
+     * 전체 재구성: users를 스트리밍해서 새 filter를 만들고 교체한다.
+     */
+    public synchronized Stats rebuild() {
+        long startedAt = System.nanoTime();
+        long syncStartedAt = clock.millis();
+        Long maxId = jdbc.queryForObject(MAX_ID_SQL, Long.class);
+        long capacity = Math.max(props.expectedInsertions(), (maxId == null ? 0 : maxId) * 5 / 4); // MAX(id) >= row 수
+        Filters next = new Filters(capacity, props.falsePositiveRate());
+        building = next;
+
+        AtomicLong maxSeen = new AtomicLong();
+        try {
+            streamingJdbc.query(SCAN_SQL, rs -> {
+                next.put(rs.getString("email"), rs.getString("nickname"));
+                maxSeen.accumulateAndGet(rs.getLong("id"), Math::max);
+            });
+        } finally {
+            building = null;
+        }
+
+        current = next;
+        watermark = maxSeen.get();
+        syncedAtMillis = syncStartedAt;
+        long elapsedNanos = System.nanoTime() - startedAt;
+        rebuildTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        Stats stats = new Stats(next.inserted.get(), capacity, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                next.sizeInBytes(), next.bytesPerMillion(),
+                next.emails.hashFunctions(), next.emails.expectedFalsePositiveRate(next.inserted.get()));
+        log.info("[existence-filter] rebuilt users={} capacity={} in {}ms, {} bytes ({} bytes / 1M users), k={}, expected fpp={}",
+                stats.users(), stats.capacity(), stats.elapsedMillis(), stats.bytes(), stats.bytesPerMillionUsers(),
+                stats.hashFunctions(), String.format("%.5f", stats.expectedFalsePositiveRate()));
+        return stats;
+    }
+
+    /**
+     * 다른 인스턴스 가입분 반영 (id > watermark - overlap, PK 범위 조회)
+     *
+     * @return 읽은 row 수
+     */
+    public synchronized int refresh() {
+        Filters f = current;
+        if (f == null) {
+            return 0;
+        }
+        long syncStartedAt = clock.millis();
+        long from = Math.max(0, watermark - props.refreshOverlapIds());
+        AtomicLong maxSeen = new AtomicLong(watermark);
+        int[] rows = {0};
+        jdbc.query(SCAN_FROM_SQL, rs -> {
+            f.put(rs.getString("email"), rs.getString("nickname"));
+            maxSeen.accumulateAndGet(rs.getLong("id"), Math::max);
+            rows[0]++;
+        }, from);
+        watermark = maxSeen.get();
+        syncedAtMillis = syncStartedAt;
+
+        if (f.inserted.get() > f.capacity) {
+            rebuild(); // 예상 용량 초과 → 오탐률이 목표보다 커지므로 크기를 다시 잡는다
+        }
+        return rows[0];
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    @Override
+    public void start() {
+        if (!props.enabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "existence-filter");
+            t.setDaemon(true);
+            return t;
+        });
+        long refreshMillis = props.refreshIntervalMillis();
+        long rebuildMillis = TimeUnit.MINUTES.toMillis(props.rebuildIntervalMinutes());
+        scheduler.execute(() -> quietly("rebuild", this::rebuild));
+        scheduler.scheduleWithFixedDelay(() -> quietly("refresh", this::refresh), refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> quietly("rebuild", this::rebuild), rebuildMillis, rebuildMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void quietly(String what, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            // 실패해도 기존 filter(또는 "항상 DB 조회")로 계속 동작한다.
+            log.warn("[existence-filter] {} failed: {}", what, e.toString());
+        }
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String kind, String result) {
+        return Counter.builder("auth.existence_filter.checks").tag("kind", kind).tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재구성 결과 (로그/진단용)
+     */
+    public record Stats(
+            long users,
+            long capacity,
+            long elapsedMillis,
+            long bytes,
+            long bytesPerMillionUsers,
+            int hashFunctions,
+            double expectedFalsePositiveRate
+    ) {}
+
+    private static final class Filters {
+        private final BloomFilter emails;
+        private final BloomFilter nicknames;
+        private final long capacity;
+        private final AtomicLong inserted = new AtomicLong();
+
+        private Filters(long capacity, double falsePositiveRate) {
+            this.emails = BloomFilter.create(capacity, falsePositiveRate);
+            this.nicknames = BloomFilter.create(capacity, falsePositiveRate);
+            this.capacity = capacity;
+        }
+
+        private void put(String email, String nickname) {
+            emails.put(key(email));
+            nicknames.put(key(nickname));
+            inserted.incrementAndGet();
+        }
+
+        private long sizeInBytes() {
+            return emails.sizeInBytes() + nicknames.sizeInBytes();
+        }
+
+        private long bytesPerMillion() {
+            return sizeInBytes() * 1_000_000L / capacity;
+        }
+    }
+}
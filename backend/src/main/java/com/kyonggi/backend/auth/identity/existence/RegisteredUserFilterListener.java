@@ -0,0 +1,27 @@
+package com.kyonggi.backend.auth.identity.existence;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.domain.User;
+
+import jakarta.persistence.PostPersist;
+
+/**
+ * User 엔티티 리스너: 가입(INSERT) 직후 이메일/닉네임을 RegisteredUserFilter에 넣는다.
+ *
+ * 롤백되면 filter에 남지만 "있을 수도 있음"(오탐)이 하나 늘 뿐이라 정확성에는 문제가 없다.
+ */
+@Component
+public class RegisteredUserFilterListener {
+
+    private final RegisteredUserFilter registeredUserFilter;
+
+    public RegisteredUserFilterListener(RegisteredUserFilter registeredUserFilter) {
+        this.registeredUserFilter = registeredUserFilter;
+    }
+
+    @PostPersist
+    void onInsert(User user) {
+        registeredUserFilter.add(user.getEmail(), user.getNickname());
+    }
+}
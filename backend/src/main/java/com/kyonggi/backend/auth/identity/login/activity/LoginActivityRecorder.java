@@ -0,0 +1,214 @@
+package com.kyonggi.backend.auth.identity.login.activity;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.LoginActivityProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 활동 기록기 (write-behind last_login_at + 활성 사용자 수)
+ *
+ * - record(): 로그인 성공 시 요청 스레드에서 호출. 메모리 맵에 "사용자별 최신 로그인 시각"만 남긴다. (DB 접근 없음)
+ *   → 같은 사용자가 주기 안에 여러 번 로그인해도 UPDATE는 1번
+ * - flush(): flush-interval마다 모아둔 시각을 JDBC batch UPDATE로 반영한다.
+ *   - updated_at = updated_at: ON UPDATE CURRENT_TIMESTAMP가 로그인만으로 바뀌지 않게 한다.
+ *   - 더 최신 값이 이미 있으면 덮어쓰지 않는다. (여러 인스턴스가 같은 사용자를 반영하는 경우)
+ *   - 실패하면 다음 주기에 다시 시도한다. (그 사이 더 최신 시각이 들어왔으면 그것을 쓴다)
+ * - 종료(SmartLifecycle.stop) 시 남은 값을 한 번 더 반영한다.
+ *
+ * last_login_at은 운영/보안용 참고값이라 비정상 종료 시 마지막 flush 주기만큼 유실될 수 있다.
+ *
+ * 메트릭:
+ * - auth.login.active_users (gauge): 최근 active-window-minutes 안에 로그인한 사용자 수 (이 인스턴스 기준)
+ * - auth.login.activity.pending (gauge): 아직 반영 안 한 사용자 수
+ * - auth.login.activity.flush (timer), auth.login.activity.flushed / .dropped (counter)
+ */
+@Slf4j
+@Component
+public class LoginActivityRecorder implements SmartLifecycle {
+
+    private static final String UPDATE_SQL = """
+            UPDATE users
+               SET last_login_at = ?, updated_at = updated_at
+             WHERE id = ?
+               AND (last_login_at IS NULL OR last_login_at < ?)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final LoginActivityProperties props;
+    private final Clock clock;
+    private final long activeWindowMillis;
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();    // userId → 반영할 로그인 시각(ms)
+    private final ConcurrentHashMap<Long, Long> lastSeen = new ConcurrentHashMap<>();   // userId → 최근 로그인 시각(ms)
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public LoginActivityRecorder(JdbcTemplate jdbc, LoginActivityProperties props, Clock clock, MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.props = props;
+        this.clock = clock;
+        this.activeWindowMillis = TimeUnit.MINUTES.toMillis(props.activeWindowMinutes());
+
+        Gauge.builder("auth.login.active_users", this, LoginActivityRecorder::activeUsers)
+                .description("최근 active-window-minutes 안에 로그인한 사용자 수 (인스턴스 기준)")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.activity.pending", pending, Map::size)
+                .description("아직 DB에 반영하지 않은 last_login_at 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("auth.login.activity.flush").register(meterRegistry);
+        this.flushedCounter = Counter.builder("auth.login.activity.flushed").register(meterRegistry);
+        this.droppedCounter = Counter.builder("auth.login.activity.dropped").register(meterRegistry);
+    }
+
+    /**
+     * 로그인 성공 기록 (메모리만, O(1))
+     */
+    public void record(Long userId) {
+        if (!props.enabled()) {
+            return;
+        }
+        long now = clock.millis();
+
+        if (pending.size() < props.maxPending() || pending.containsKey(userId)) {
+            pending.merge(userId, now, Math::max);
+        } else {
+            droppedCounter.increment();
+        }
+        if (lastSeen.size() < props.maxTracked() || lastSeen.containsKey(userId)) {
+            lastSeen.merge(userId, now, Math::max);
+        }
+    }
+
+    /**
+     * 최근 active-window-minutes 안에 로그인한 사용자 수
+     */
+    public int activeUsers() {
+        long since = clock.millis() - activeWindowMillis;
+        int count = 0;
+        for (Long seenAt : lastSeen.values()) {
+            if (seenAt >= since) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 모아둔 last_login_at 배치 반영
+     *
+     * @return 반영 시도한 사용자 수
+     */
+    public synchronized int flush() {
+        pruneInactive();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            Long loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                LocalDateTime at = LocalDateTime.ofInstant(Instant.ofEpochMilli(loginAt), clock.getZone());
+                rows.add(new Object[] {at, userId, at});
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        int done = 0;
+        try {
+            for (; done < rows.size(); done += props.batchSize()) {
+                jdbc.batchUpdate(UPDATE_SQL, rows.subList(done, Math.min(rows.size(), done + props.batchSize())));
+            }
+        } catch (RuntimeException e) {
+            requeue(rows.subList(done, rows.size()));
+            throw e;
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        flushedCounter.increment(rows.size());
+        return rows.size();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 메모리 상태 초기화 (테스트용)
+     */
+    public void clear() {
+        pending.clear();
+        lastSeen.clear();
+    }
+
+    private void requeue(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            long loginAt = ((LocalDateTime) row[0]).atZone(clock.getZone()).toInstant().toEpochMilli();
+            pending.merge((Long) row[1], loginAt, Math::max);
+        }
+    }
+
+    private void pruneInactive() {
+        long since = clock.millis() - activeWindowMillis;
+        lastSeen.values().removeIf(seenAt -> seenAt < since);
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "login-activity-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = props.flushIntervalMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        flushQuietly(); // 종료 전 남은 값 반영
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 남은 값은 pending에 되돌려 두었으므로 다음 주기에 다시 반영한다.
+            log.warn("[login-activity] flush failed, pending={}: {}", pending.size(), e.toString());
+        }
+    }
+}
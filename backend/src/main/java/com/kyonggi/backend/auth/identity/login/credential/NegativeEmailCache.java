@@ -0,0 +1,124 @@
+package com.kyonggi.backend.auth.identity.login.credential;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kyonggi.backend.auth.config.CredentialCacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * "가입되지 않은 이메일" 캐시 (LRU + TTL, 크기 상한)
+ *
+ * - 계정 열거/크리덴셜 스터핑은 대부분 없는 이메일이라, 그 결과만 메모리에 잠깐 둔다.
+ *   (있는 이메일은 캐시하지 않는다: 비밀번호 해시/상태는 항상 DB 기준)
+ * - 가입(users INSERT) 시 UserCredentialCacheListener가 커밋 이후 evict 한다.
+ * - evict마다 generation을 올린다. 조회 측은 DB 조회 전에 generation()을 읽어 두고 putMissing에 넘긴다.
+ *   그 사이 evict가 있었으면(= 조회가 커밋 전 상태를 봤을 수 있음) "없음"을 캐시하지 않는다.
+ *   (generation은 전역 하나: 다른 이메일의 가입과 겹쳐도 한 번 캐시를 건너뛸 뿐이다)
+ * - LinkedHashMap(access-order)로 maxEntries를 넘으면 가장 오래 안 쓴 항목부터 버린다.
+ *
+ * 메트릭: auth.credential.negative_cache{result=hit|miss}, auth.credential.negative_cache.size
+ */
+@Component
+public class NegativeEmailCache {
+
+    private final CredentialCacheProperties props;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, Long> expiresAtByEmail;
+    private long generation; // evict마다 +1 (synchronized 안에서만 읽고 쓴다)
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public NegativeEmailCache(CredentialCacheProperties props, Clock clock, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.clock = clock;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(props.ttlSeconds());
+        this.expiresAtByEmail = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > props.maxEntries();
+            }
+        };
+
+        this.hitCounter = Counter.builder("auth.credential.negative_cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("auth.credential.negative_cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.credential.negative_cache.size", this, NegativeEmailCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 최근에 "없음"으로 확인된 이메일이면 true
+     */
+    public synchronized boolean isKnownMissing(String email) {
+        if (!props.enabled()) {
+            return false;
+        }
+        Long expiresAt = expiresAtByEmail.get(email);
+        if (expiresAt != null && expiresAt > clock.millis()) {
+            hitCounter.increment();
+            return true;
+        }
+        if (expiresAt != null) {
+            expiresAtByEmail.remove(email);
+        }
+        missCounter.increment();
+        return false;
+    }
+
+    /**
+     * DB 조회 전에 읽어 두고 putMissing에 넘긴다.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * @param observedGeneration DB 조회 전에 읽은 generation(). 그 뒤 evict가 있었으면 캐시하지 않는다.
+     */
+    public synchronized void putMissing(String email, long observedGeneration) {
+        if (props.enabled() && observedGeneration == generation) {
+            expiresAtByEmail.put(email, clock.millis() + ttlMillis);
+        }
+    }
+
+    public synchronized void evict(String email) {
+        expiresAtByEmail.remove(email);
+        generation++;
+    }
+
+    /**
+     * 트랜잭션 안이면 지금 + 커밋 직후 두 번 지운다.
+     * (커밋 전에 다른 로그인 요청이 "없음"을 다시 캐시하는 틈을 막는다.
+     *  커밋 전에 DB를 읽고 커밋 후에 putMissing 하는 요청은 generation으로 걸러진다)
+     */
+    public void evictAfterCommit(String email) {
+        evict(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(email);
+                }
+            });
+        }
+    }
+
+    public synchronized int size() {
+        return expiresAtByEmail.size();
+    }
+
+    public synchronized void clear() {
+        expiresAtByEmail.clear();
+    }
+}
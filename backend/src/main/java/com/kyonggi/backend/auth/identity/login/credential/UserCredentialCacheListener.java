@@ -0,0 +1,27 @@
+package com.kyonggi.backend.auth.identity.login.credential;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.domain.User;
+
+import jakarta.persistence.PostPersist;
+
+/**
+ * User 엔티티 리스너: 가입(INSERT) 경로가 어디든 "없는 이메일" 캐시를 비운다.
+ *
+ * Hibernate가 Spring 빈 컨테이너로 리스너를 만들기 때문에 생성자 주입이 된다.
+ */
+@Component
+public class UserCredentialCacheListener {
+
+    private final NegativeEmailCache negativeEmailCache;
+
+    public UserCredentialCacheListener(NegativeEmailCache negativeEmailCache) {
+        this.negativeEmailCache = negativeEmailCache;
+    }
+
+    @PostPersist
+    void onInsert(User user) {
+        negativeEmailCache.evictAfterCommit(user.getEmail());
+    }
+}
@@ -0,0 +1,42 @@
+package com.kyonggi.backend.auth.identity.login.credential;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.repo.UserCredentials;
+import com.kyonggi.backend.auth.repo.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그인 자격 증명 조회
+ *
+ * - 최근 DB에서 "없음"으로 확인된 이메일은 DB에 가지 않는다. (NegativeEmailCache)
+ * - 가입 Bloom filter(RegisteredUserFilter)는 쓰지 않는다.
+ *   filter는 다른 인스턴스 가입분을 refresh 주기만큼 늦게 알기 때문에, "확실히 없음"을 믿으면 방금 가입한 사용자가
+ *   그동안 로그인에 실패한다. 가입/닉네임 검사는 유니크 제약이 뒤를 받치지만 로그인에는 그런 안전망이 없다.
+ * - DB 조회는 4개 컬럼 projection(UserCredentials) 한 번. 엔티티/영속성 컨텍스트를 거치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCredentialLookup {
+
+    private final UserRepository userRepository;
+    private final NegativeEmailCache negativeEmailCache;
+
+    /**
+     * @param email 정규화된 이메일
+     */
+    public Optional<UserCredentials> find(String email) {
+        if (negativeEmailCache.isKnownMissing(email)) {
+            return Optional.empty();
+        }
+        long generation = negativeEmailCache.generation(); // 조회 도중 가입(evict)이 끼면 "없음"을 캐시하지 않는다
+        Optional<UserCredentials> credentials = userRepository.findCredentialsByEmail(email);
+        if (credentials.isEmpty()) {
+            negativeEmailCache.putMissing(email, generation);
+        }
+        return credentials;
+    }
+}
@@ -1,7 +1,6 @@
 package com.kyonggi.backend.auth.identity.login.dto;
 
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import com.kyonggi.backend.global.jackson.TrimStringDeserializer;
+import com.kyonggi.backend.global.jackson.Trim;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -13,7 +12,7 @@ import jakarta.validation.constraints.NotBlank;
  */
 public record LoginRequest(
     
-        @JsonDeserialize(using = TrimStringDeserializer.class)
+        @Trim
         @Email @NotBlank String email,
         
         @NotBlank String password,
@@ -1,12 +1,15 @@
 package com.kyonggi.backend.auth.identity.login.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import com.kyonggi.backend.auth.domain.User;
 import com.kyonggi.backend.auth.domain.UserStatus;
+import com.kyonggi.backend.auth.identity.login.activity.LoginActivityRecorder;
+import com.kyonggi.backend.auth.identity.login.credential.UserCredentialLookup;
+import com.kyonggi.backend.auth.identity.login.throttle.LoginThrottle;
+import com.kyonggi.backend.auth.identity.password.PasswordHashingExecutor;
+import com.kyonggi.backend.auth.identity.password.PasswordRehasher;
 import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
-import com.kyonggi.backend.auth.repo.UserRepository;
+import com.kyonggi.backend.auth.repo.UserCredentials;
 import com.kyonggi.backend.auth.token.domain.RefreshToken;
 import com.kyonggi.backend.auth.token.service.RefreshTokenService;
 import com.kyonggi.backend.auth.token.service.RefreshTokenService.Issued;
@@ -28,6 +31,11 @@ import lombok.RequiredArgsConstructor;
 * 보안:
  * - "이메일 없음"과 "비밀번호 불일치"는 동일 에러로 처리해 계정 유무 추측을 어렵게 한다.
  * - refresh는 원문을 DB에 저장하지 않고 해시만 저장(세션 통제)
+ * - 비밀번호 검증(BCrypt)은 전용 해시 풀(PasswordHashingExecutor)에서 돌린다. 포화 시 503 AUTH_BUSY
+ * - 계정/IP별 실패가 쌓여 잠겨 있으면 조회/해시 전에 429 LOGIN_LOCKED (LoginThrottle)
+ * - 자격 증명은 4개 컬럼 projection으로만 읽고, 없는 이메일은 잠깐 캐시한다. (UserCredentialLookup)
+ * - 저장 해시가 현재 알고리즘/비용보다 약하면 로그인 성공 시 백그라운드로 재해시한다. (PasswordRehasher)
+ * - last_login_at은 메모리에 모았다가 주기적으로 배치 반영한다. (LoginActivityRecorder, 요청당 UPDATE 없음)
  * 
  * 토큰 발급:
  * 1) JwtService: Access Token 발급(서명/클레임 생성) = Authentication: Bearer <token>
@@ -42,14 +50,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class LoginService {
 
-    private final UserRepository userRepository; 
-    private final PasswordEncoder passwordEncoder;
+    private final UserCredentialLookup credentialLookup;
+    private final PasswordHashingExecutor passwordHashing;
+    private final PasswordRehasher passwordRehasher;
+    private final LoginThrottle loginThrottle;
+    private final LoginActivityRecorder loginActivity;
 
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
 
 
-    public LoginResult login(String rawEmail, String rawPassword, boolean rememberMe) {
+    public LoginResult login(String rawEmail, String rawPassword, boolean rememberMe, String clientIp) {
         /**
          *  @DisplayName("email blank → 400 (컨트롤러 (검증) + Set-Cookie 없음")
          *  @DisplayName("password blank → 400 (컨트롤러 검증) + Set-Cookie 없음")
@@ -61,6 +72,9 @@ public class LoginService {
 
         String email = normalizeKyonggiEmail(rawEmail); // @DisplayName("경기대 도메인 아님 → 400 EMAIL_DOMAIN_NOT_ALLOWED + Set-Cookie 없음")
 
+        // 잠긴 계정/IP는 DB 조회와 BCrypt 비교 전에 거절한다.
+        loginThrottle.check(email, clientIp);
+
         /**
          * 1) 사용자 조회 + 비밀번호 매칭
          * - 존재하지 않는 이메일/비밀번호 틀림 → "401 INVALID_CREDENTIALS" + Set-Cookie 없음
@@ -69,19 +83,28 @@ public class LoginService {
          * 2) 계정 상태 검사
          * - ACTIVE가 아니면 → "403 ACCOUNT_DISABLED" + Set-Cookie 없음
          */
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_CREDENTIALS)); // @DisplayName("존재하지 않는 이메일 → 401 INVALID_CREDENTIALS + Set-Cookie 없음")
+        UserCredentials user = credentialLookup.find(email).orElse(null);
+        if (user == null) { // @DisplayName("존재하지 않는 이메일 → 401 INVALID_CREDENTIALS + Set-Cookie 없음")
+            loginThrottle.onFailure(email, clientIp);
+            throw new ApiException(ErrorCode.INVALID_CREDENTIALS);
+        }
 
-        if (!passwordEncoder.matches(rawPassword, user.getPasswordHash())) { // @DisplayName("비밀번호 틀림 → 401 INVALID_CREDENTIALS + Set-Cookie 없음")
+        if (!passwordHashing.matches(rawPassword, user.passwordHash())) { // @DisplayName("비밀번호 틀림 → 401 INVALID_CREDENTIALS + Set-Cookie 없음")
+            loginThrottle.onFailure(email, clientIp);
             throw new ApiException(ErrorCode.INVALID_CREDENTIALS);
         }
+        loginThrottle.onSuccess(email);
 
-        if (user.getStatus() != UserStatus.ACTIVE) {
+        if (user.status() != UserStatus.ACTIVE) {
             throw new ApiException(ErrorCode.ACCOUNT_DISABLED); // @DisplayName("비활성 계정 → 403 ACCOUNT_DISABLED + Set-Cookie 없음")
         }
 
-        String accessToken = jwtService.issueAccessToken(user.getId(), user.getRole());
-        Issued refreshToken = refreshTokenService.issue(user.getId(), rememberMe);
+        // 해시 업그레이드는 응답 경로 밖에서 (필요 없으면 아무것도 안 함)
+        passwordRehasher.rehashIfNeeded(user.id(), rawPassword, user.passwordHash());
+
+        String accessToken = jwtService.issueAccessToken(user.id(), user.role());
+        Issued refreshToken = refreshTokenService.issue(user.id(), rememberMe);
+        loginActivity.record(user.id()); // last_login_at: write-behind
 
         /**
          * @DisplayName("login 성공: rememberMe=true 가 false 보다 refresh 쿠키 TTL(Max-Age)이 길다")
@@ -0,0 +1,203 @@
+package com.kyonggi.backend.auth.identity.login.throttle;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.LoginThrottleProperties;
+import com.kyonggi.backend.auth.config.LoginThrottleProperties.Policy;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.security.ratelimit.StripedKeyMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로그인 실패 기반 잠금 (계정 / IP, 지수 증가 잠금)
+ *
+ * 같은 계정으로 틀린 비밀번호가 계속 들어와도 매번 DB 조회 + BCrypt 비교(수십 ms CPU)를 하게 된다.
+ * 실패 이력을 메모리에 두고, 잠긴 키는 조회/해시 전에 바로 429로 돌려보낸다. (마이크로초 단위)
+ *
+ * - 실패 횟수: 슬라이딩 윈도우 근사 (이전 고정 윈도우 × 남은 비율 + 현재 윈도우)
+ * - 잠금: 윈도우 안 실패가 maxFailures에 닿으면 base × 2^level (max 상한), level은 잠길 때마다 +1
+ *   윈도우 하나 이상 조용했으면 level은 0으로 돌아간다.
+ * - 성공: 계정 키를 지운다. IP 키는 지우지 않는다.
+ *   (IP 하나로 여러 계정을 두드리는 공격자가 자기 계정 로그인으로 IP 카운터를 초기화하지 못하게)
+ * - 메모리: StripedKeyMap(락 스트라이핑 + 유휴 키 정리, StripedTokenBucketLimiter와 공용). 가득 차면 새 키는 추적하지 않는다. (fail-open)
+ *   유휴 키: 잠금이 풀렸고 마지막 실패 후 (최대 잠금 + 윈도우 2개)가 지난 키
+ *
+ * 단일 인스턴스 메모리 기준이다. (여러 인스턴스면 인스턴스별로 센다)
+ * 잠금 시각은 Clock 기준이라 테스트에서 시간을 움직여 검증할 수 있다.
+ *
+ * 메트릭:
+ * - auth.login.throttle.rejected{scope=account|ip} : 잠금으로 거절한 로그인 수
+ * - auth.login.throttle.lockouts{scope=account|ip} : 새로 걸린 잠금 수
+ * - auth.login.throttle.keys : 추적 중인 키 수 (gauge)
+ */
+@Component
+public class LoginThrottle {
+
+    private static final String ACCOUNT = "account";
+    private static final String IP = "ip";
+
+    private final LoginThrottleProperties props;
+    private final Clock clock;
+    private final long windowMillis;
+    private final StripedKeyMap<Entry> entries;
+
+    private final Counter accountRejected;
+    private final Counter ipRejected;
+    private final Counter accountLockouts;
+    private final Counter ipLockouts;
+
+    public LoginThrottle(LoginThrottleProperties props, Clock clock, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.clock = clock;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(props.windowSeconds());
+        // 잠금이 끝나고 윈도우 2개가 지나면 더 볼 게 없다
+        long maxLockoutMillis = TimeUnit.SECONDS.toMillis(
+                Math.max(props.account().maxLockoutSeconds(), props.ip().maxLockoutSeconds()));
+        long idleMillis = maxLockoutMillis + 2 * windowMillis;
+        this.entries = new StripedKeyMap<>(props.maxKeys(), idleMillis / 2,
+                (entry, now) -> now >= entry.lockedUntil && now - entry.lastFailureMillis > idleMillis);
+
+        this.accountRejected = Counter.builder("auth.login.throttle.rejected").tag("scope", ACCOUNT).register(meterRegistry);
+        this.ipRejected = Counter.builder("auth.login.throttle.rejected").tag("scope", IP).register(meterRegistry);
+        this.accountLockouts = Counter.builder("auth.login.throttle.lockouts").tag("scope", ACCOUNT).register(meterRegistry);
+        this.ipLockouts = Counter.builder("auth.login.throttle.lockouts").tag("scope", IP).register(meterRegistry);
+        Gauge.builder("auth.login.throttle.keys", this, LoginThrottle::size)
+                .description("로그인 실패를 추적 중인 키 수 (계정 + IP)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 잠겨 있으면 429 LOGIN_LOCKED (+ Retry-After). DB 조회/해시 전에 호출한다.
+     *
+     * @param email 정규화된 이메일
+     * @param clientIp 클라이언트 IP (null이면 IP 기준 검사 생략)
+     */
+    public void check(String email, String clientIp) {
+        if (!props.enabled()) {
+            return;
+        }
+        long now = clock.millis();
+        long waitMillis = lockedFor(accountKey(email), now);
+        if (waitMillis > 0) {
+            accountRejected.increment();
+            throw locked(waitMillis);
+        }
+        if (clientIp != null) {
+            waitMillis = lockedFor(ipKey(clientIp), now);
+            if (waitMillis > 0) {
+                ipRejected.increment();
+                throw locked(waitMillis);
+            }
+        }
+    }
+
+    /**
+     * 자격 증명 실패(이메일 없음 / 비밀번호 불일치) 기록
+     */
+    public void onFailure(String email, String clientIp) {
+        if (!props.enabled()) {
+            return;
+        }
+        long now = clock.millis();
+        if (recordFailure(accountKey(email), props.account(), now)) {
+            accountLockouts.increment();
+        }
+        if (clientIp != null && recordFailure(ipKey(clientIp), props.ip(), now)) {
+            ipLockouts.increment();
+        }
+    }
+
+    /**
+     * 로그인 성공: 계정 실패 이력 초기화
+     */
+    public void onSuccess(String email) {
+        if (!props.enabled()) {
+            return;
+        }
+        entries.remove(accountKey(email));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private long lockedFor(String key, long now) {
+        return entries.read(key, entry -> (entry == null) ? 0L : Math.max(0L, entry.lockedUntil - now));
+    }
+
+    // @return 이번 실패로 새 잠금이 걸렸으면 true
+    private boolean recordFailure(String key, Policy policy, long now) {
+        return entries.compute(key, now,
+                t -> new Entry(windowStartOf(t)),
+                entry -> entry.fail(policy, now, windowStartOf(now), windowMillis),
+                false);
+    }
+
+    private long windowStartOf(long now) {
+        return now - Math.floorMod(now, windowMillis);
+    }
+
+    private static ApiException locked(long waitMillis) {
+        int retryAfter = (int) Math.max(1, (waitMillis + 999) / 1000);
+        return new ApiException(ErrorCode.LOGIN_LOCKED, retryAfter);
+    }
+
+    private static String accountKey(String email) {
+        return "a|" + email;
+    }
+
+    private static String ipKey(String ip) {
+        return "i|" + ip;
+    }
+
+    /**
+     * 키 하나의 실패 이력 (StripedKeyMap stripe 락 안에서만 접근)
+     */
+    private static final class Entry {
+        private long windowStart;
+        private int current;
+        private int previous;
+        private int level;
+        private long lockedUntil;
+        private long lastFailureMillis;
+
+        private Entry(long windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        private boolean fail(Policy policy, long now, long currentWindowStart, long windowMillis) {
+            if (currentWindowStart != windowStart) {
+                previous = (currentWindowStart - windowStart == windowMillis) ? current : 0;
+                current = 0;
+                windowStart = currentWindowStart;
+                if (previous == 0 && now >= lockedUntil) {
+                    level = 0; // 윈도우 하나 이상 조용했다
+                }
+            }
+            current++;
+            lastFailureMillis = now;
+
+            double weight = 1.0d - (double) (now - windowStart) / windowMillis;
+            double failures = previous * weight + current;
+            if (failures < policy.maxFailures() || now < lockedUntil) {
+                return false;
+            }
+
+            long lockoutSeconds = Math.min(policy.baseLockoutSeconds() << Math.min(level, 20), policy.maxLockoutSeconds());
+            lockedUntil = now + TimeUnit.SECONDS.toMillis(lockoutSeconds);
+            level++;
+            return true;
+        }
+    }
+}
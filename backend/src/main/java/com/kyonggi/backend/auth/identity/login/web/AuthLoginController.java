@@ -11,6 +11,7 @@ import com.kyonggi.backend.auth.identity.login.service.LoginService;
 import com.kyonggi.backend.auth.identity.login.service.LoginService.LoginResult;
 import com.kyonggi.backend.auth.token.support.AuthCookieUtils;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -34,12 +35,13 @@ public class AuthLoginController {
     private final AuthCookieUtils cookieUtils; // refresh token 쿠키를 생성/삭제하는 유틸
 
     @PostMapping("/login")
-    public LoginResponse login(@Valid @RequestBody LoginRequest req, HttpServletResponse response) {
+    public LoginResponse login(@Valid @RequestBody LoginRequest req, HttpServletRequest request, HttpServletResponse response) {
 
         LoginResult result = loginService.login(
                 req.email(),
                 req.password(),
-                req.rememberMeOrFalse()
+                req.rememberMeOrFalse(),
+                request.getRemoteAddr() // 프록시 뒤라면 server.forward-headers-strategy로 X-Forwarded-For 반영
         );
 
         cookieUtils.setRefreshCookie(response, result.refreshRaw(), result.rememberMe());
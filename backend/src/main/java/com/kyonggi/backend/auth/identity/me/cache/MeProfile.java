@@ -0,0 +1,31 @@
+package com.kyonggi.backend.auth.identity.me.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.identity.me.dto.MeResponse;
+
+/**
+ * /auth/me 캐시 항목 = 응답 본문 + 강한 ETag
+ *
+ * ETag: "me{REPRESENTATION}-{userId}-{updated_at(마이크로초, 36진수)}"
+ * - users.updated_at은 ON UPDATE CURRENT_TIMESTAMP(6)이라 SQL 직접 변경까지 포함해 row가 바뀔 때마다 바뀐다.
+ *   (last_login_at write-behind는 updated_at = updated_at으로 바꾸지 않는다 → 로그인만으로 ETag가 바뀌지 않음)
+ * - MeResponse 필드를 바꾸면 REPRESENTATION을 올린다. (배포 전 ETag로 새 본문을 304 처리하지 않게)
+ */
+public record MeProfile(MeResponse response, String etag) {
+
+    private static final int REPRESENTATION = 1;
+
+    public static MeProfile of(User user) {
+        return new MeProfile(MeResponse.from(user), etag(user.getId(), user.getUpdatedAt()));
+    }
+
+    static String etag(Long userId, LocalDateTime updatedAt) {
+        long micros = (updatedAt == null)
+                ? 0L
+                : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+        return "\"me" + REPRESENTATION + "-" + userId + "-" + Long.toString(micros, 36) + "\"";
+    }
+}
@@ -0,0 +1,213 @@
+package com.kyonggi.backend.auth.identity.me.cache;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kyonggi.backend.auth.config.MeCacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * /auth/me 응답 캐시 (userId → MeProfile(본문 + ETag), stripe별 LRU + TTL, 크기 상한)
+ *
+ * - SPA가 페이지마다 부르는 /auth/me가 매번 users를 읽지 않게 한다.
+ * - 비활성 계정도 그대로 캐시한다. (status는 MeService가 캐시된 값으로 검사) 없는 사용자는 캐시하지 않는다.
+ * - 무효화:
+ *   - users UPDATE/DELETE(JPA) → MeProfileCacheListener가 지금 + 커밋 직후 두 번 지운다.
+ *   - 다른 인스턴스 변경 → UserChangeFeed 폴링
+ * - 락 스트라이핑: userId 해시로 stripe를 고르고 stripe 락 안에서만 읽고/쓴다. (전역 락 없음)
+ *   access-order LinkedHashMap은 get도 순서를 바꾸므로 stripe마다 따로 두고, 상한도 stripe마다 maxEntries / stripe 수
+ * - 조회와 무효화 경합: 조회 전에 stamp(userId)를 받아두고, 그 사이 같은 stripe에 무효화가 있었으면 put()이 저장하지 않는다.
+ *   (DB에서 옛 값을 읽는 동안 들어온 무효화를 옛 값이 덮어쓰지 않게. 다른 stripe의 무효화는 채우기를 버리지 않는다)
+ *
+ * 메트릭: auth.me.cache{result=hit|miss}, auth.me.cache.size, auth.me.cache.hit_ratio, auth.me.cache.invalidations
+ */
+@Component
+public class MeProfileCache {
+
+    private final MeCacheProperties props;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final Stripe[] stripes;
+    private final int mask;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final LongAdder invalidations = new LongAdder();
+
+    public MeProfileCache(MeCacheProperties props, Clock clock, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.clock = clock;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(props.ttlSeconds());
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(64, props.maxEntries() / 16)));
+        int maxEntriesPerStripe = Math.max(1, props.maxEntries() / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(maxEntriesPerStripe);
+        }
+        this.mask = stripeCount - 1;
+
+        this.hitCounter = Counter.builder("auth.me.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("auth.me.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.me.cache.size", this, MeProfileCache::size)
+                .register(meterRegistry);
+        Gauge.builder("auth.me.cache.hit_ratio", this, MeProfileCache::hitRatio)
+                .description("누적 hit / (hit + miss)")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.me.cache.invalidations", this, MeProfileCache::invalidations)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 캐시된 응답, 없거나 만료면 null
+     */
+    public MeProfile get(Long userId) {
+        if (!props.enabled()) {
+            return null;
+        }
+        Stripe stripe = stripe(userId);
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(userId);
+            if (entry != null && entry.expiresAt() > clock.millis()) {
+                hitCounter.increment();
+                return entry.value();
+            }
+            if (entry != null) {
+                stripe.entries.remove(userId);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * DB 조회 전에 받아서 put()에 넘긴다. (userId가 속한 stripe의 무효화 세대)
+     */
+    public long stamp(Long userId) {
+        Stripe stripe = stripe(userId);
+        stripe.lock.lock();
+        try {
+            return stripe.generation;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * stamp 이후 같은 stripe에 무효화가 없었을 때만 저장한다.
+     */
+    public void put(Long userId, MeProfile value, long stamp) {
+        if (!props.enabled()) {
+            return;
+        }
+        Stripe stripe = stripe(userId);
+        stripe.lock.lock();
+        try {
+            if (stamp == stripe.generation) {
+                stripe.entries.put(userId, new Entry(value, clock.millis() + ttlMillis));
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void invalidate(Long userId) {
+        Stripe stripe = stripe(userId);
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(userId);
+            stripe.generation++;
+        } finally {
+            stripe.lock.unlock();
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * 트랜잭션 안이면 지금 + 커밋 직후 두 번 지운다.
+     * (커밋 전에 다른 요청이 옛 값을 다시 캐시하는 틈을 막는다)
+     */
+    public void invalidateAfterCommit(Long userId) {
+        invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.entries.clear();
+                stripe.generation++;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private Stripe stripe(Long userId) {
+        int h = userId.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0d : hits / total;
+    }
+
+    private long invalidations() {
+        return invalidations.sum();
+    }
+
+    private record Entry(MeProfile value, long expiresAt) {}
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Long, Entry> entries;
+        private long generation; // 이 stripe의 무효화마다 +1 (put 경합 판정용)
+
+        private Stripe(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kyonggi.backend.auth.identity.me.cache;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.domain.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * User 엔티티 리스너: users UPDATE/DELETE 시 /auth/me 캐시를 비우고 변경 피드에 남긴다.
+ *
+ * - 로컬 캐시는 지금 + 커밋 직후 지운다. (MeProfileCache.invalidateAfterCommit)
+ * - user_changes INSERT는 같은 트랜잭션에서 실행된다. (JdbcTemplate이 JPA 트랜잭션의 커넥션을 같이 쓴다)
+ */
+@Component
+public class MeProfileCacheListener {
+
+    private final MeProfileCache meProfileCache;
+    private final UserChangeFeed userChangeFeed;
+
+    public MeProfileCacheListener(MeProfileCache meProfileCache, UserChangeFeed userChangeFeed) {
+        this.meProfileCache = meProfileCache;
+        this.userChangeFeed = userChangeFeed;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        meProfileCache.invalidateAfterCommit(user.getId());
+        userChangeFeed.publish(user.getId());
+    }
+}
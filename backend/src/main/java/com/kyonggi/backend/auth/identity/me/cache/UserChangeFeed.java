@@ -0,0 +1,146 @@
+package com.kyonggi.backend.auth.identity.me.cache;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.MeCacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * users 변경 피드 (user_changes) → 인스턴스 간 /auth/me 캐시 무효화
+ *
+ * - publish(): users를 바꾸는 트랜잭션 안에서 호출 → 같은 트랜잭션으로 user_changes에 1줄 INSERT
+ *   (롤백되면 피드도 남지 않는다)
+ * - poll(): id > watermark - overlap 인 row를 읽어 로컬 MeProfileCache에서 지운다.
+ *   AUTO_INCREMENT는 커밋 순서와 다를 수 있어서(늦게 커밋된 작은 id) 겹쳐 읽고, 이미 적용한 id는 건너뛴다.
+ * - 시작 시 watermark = 현재 MAX(id). (막 뜬 인스턴스 캐시는 비어 있으므로 과거 변경은 볼 필요가 없다)
+ * - 보관 기간이 지난 row는 폴링마다 batch 크기만큼 지운다.
+ *
+ * 자기 인스턴스 변경도 피드로 다시 돌아오지만, 무효화는 멱등이라 문제없다.
+ *
+ * 메트릭: auth.me.change_feed.applied (counter)
+ */
+@Slf4j
+@Component
+public class UserChangeFeed implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO user_changes (user_id) VALUES (?)";
+    private static final String POLL_SQL =
+            "SELECT id, user_id FROM user_changes WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String PURGE_SQL =
+            "DELETE FROM user_changes WHERE changed_at < NOW(6) - INTERVAL ? MINUTE LIMIT ?";
+
+    private final JdbcTemplate jdbc;
+    private final MeCacheProperties props;
+    private final MeProfileCache cache;
+    private final Counter appliedCounter;
+
+    private final Set<Long> appliedIds = new HashSet<>(); // watermark - overlap 이후 적용한 id
+    private long watermark;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public UserChangeFeed(JdbcTemplate jdbc, MeCacheProperties props, MeProfileCache cache, MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.props = props;
+        this.cache = cache;
+        this.appliedCounter = Counter.builder("auth.me.change_feed.applied")
+                .description("user_changes 피드로 적용한 캐시 무효화 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 변경 기록 (호출자 트랜잭션에 참여)
+     */
+    public void publish(Long userId) {
+        if (props.feedEnabled()) {
+            jdbc.update(INSERT_SQL, userId);
+        }
+    }
+
+    /**
+     * @return 이번 폴링에서 새로 적용한 변경 수
+     */
+    public synchronized int poll() {
+        int applied = 0;
+        long cursor = Math.max(0, watermark - props.feedOverlapIds());
+        while (true) {
+            List<long[]> rows = jdbc.query(POLL_SQL,
+                    (rs, i) -> new long[] {rs.getLong("id"), rs.getLong("user_id")},
+                    cursor, props.feedBatchSize());
+
+            for (long[] row : rows) {
+                if (appliedIds.add(row[0])) {
+                    cache.invalidate(row[1]);
+                    applied++;
+                }
+                cursor = row[0];
+                watermark = Math.max(watermark, row[0]);
+            }
+            if (rows.size() < props.feedBatchSize()) {
+                break;
+            }
+        }
+        long floor = watermark - props.feedOverlapIds();
+        appliedIds.removeIf(id -> id <= floor);
+        appliedCounter.increment(applied);
+        return applied;
+    }
+
+    public int purge() {
+        return jdbc.update(PURGE_SQL, props.feedRetentionMinutes(), props.feedBatchSize());
+    }
+
+    @Override
+    public void start() {
+        if (props.feedEnabled()) {
+            synchronized (this) {
+                Long max = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM user_changes", Long.class);
+                watermark = (max == null) ? 0 : max;
+            }
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "user-change-feed");
+                t.setDaemon(true);
+                return t;
+            });
+            long interval = props.feedPollIntervalMillis();
+            scheduler.scheduleWithFixedDelay(this::pollQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+            purge();
+        } catch (Exception e) {
+            // 다음 주기에 같은 watermark부터 다시 읽는다. (그 사이 캐시는 TTL로 만료)
+            log.warn("[user-change-feed] poll failed, watermark={}: {}", watermark, e.toString());
+        }
+    }
+}
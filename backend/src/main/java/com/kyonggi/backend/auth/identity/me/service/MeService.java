@@ -1,17 +1,21 @@
 package com.kyonggi.backend.auth.identity.me.service;
 
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.kyonggi.backend.auth.domain.User;
 import com.kyonggi.backend.auth.domain.UserStatus;
+import com.kyonggi.backend.auth.identity.me.cache.MeProfile;
+import com.kyonggi.backend.auth.identity.me.cache.MeProfileCache;
 import com.kyonggi.backend.auth.identity.me.dto.MeResponse;
 import com.kyonggi.backend.auth.repo.UserRepository;
 import com.kyonggi.backend.global.ApiException;
 import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.global.datasource.ReplicaReads;
 import com.kyonggi.backend.security.AuthPrincipal;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 /** 
  * 내 정보 조회 유스케이스
@@ -20,20 +24,64 @@ import lombok.RequiredArgsConstructor;
  * - 인증이 없으면 AUTH_REQUIRED
  * - 토큰은 유효하지만 사용자 없음 -> USER_NOT_FOUND (비정상 상태)
  * - 계정 상태가 ACTIVE가 아니면 -> ACCOUNT_DISABLED
+ *
+ * 캐시(MeProfileCache):
+ * - hit면 트랜잭션/DB 커넥션 없이 응답한다. miss면 findById 1회 후 캐시에 넣는다.
+ * - miss 조회는 replica에서 읽는다. (ReplicaReads) replica가 답한 값은 복제 지연이 있을 수 있으므로
+ *   응답에만 쓰고 캐시하지 않는다. replica에 아직 없는 사용자(방금 가입)는 primary에서 다시 찾는다.
+ * - 상태 검사는 캐시된 값에도 똑같이 적용한다. (users 변경 시 캐시는 무효화된다)
+ * - 캐시 항목에 ETag(users.updated_at 기반)가 같이 있어서, hit면 If-None-Match 비교(304)까지 DB 없이 끝난다.
+ *
+ * 메트릭: auth.me (timer, p50/p99)
  */
 @Service
-@RequiredArgsConstructor
 public class MeService {
 
     private final UserRepository userRepository;
+    private final MeProfileCache meProfileCache;
+    private final ReplicaReads replicaReads;
+    private final Timer meTimer;
+
+    public MeService(
+            UserRepository userRepository,
+            MeProfileCache meProfileCache,
+            ReplicaReads replicaReads,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.meProfileCache = meProfileCache;
+        this.replicaReads = replicaReads;
+        this.meTimer = Timer.builder("auth.me")
+                .description("/auth/me 처리 시간 (캐시 포함)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
 
-    @Transactional(readOnly = true)
     public MeResponse me(AuthPrincipal principal) {
-        Long userId = requireUserId(principal);
-        User user = loadUserOrThrow(userId);  // @DisplayName("me: 토큰은 유효하지만 DB에 유저 없음 → USER_NOT_FOUND") 
-        ensureActive(user);                   // @DisplayName("me: 토큰은 유효하지만 비활성 계정 → ACCOUNT_DISABLED")
+        return profile(principal).response();
+    }
 
-        return MeResponse.from(user);
+    /**
+     * 응답 본문 + ETag (조건부 GET용)
+     */
+    public MeProfile profile(AuthPrincipal principal) {
+        long startedAt = System.nanoTime();
+        try {
+            Long userId = requireUserId(principal);
+            MeProfile me = meProfileCache.get(userId);
+            if (me == null) {
+                long stamp = meProfileCache.stamp(userId);
+                ReplicaReads.Read<MeProfile> loaded = loadUserOrThrow(userId); // @DisplayName("me: 토큰은 유효하지만 DB에 유저 없음 → USER_NOT_FOUND") 
+                me = loaded.value();
+                if (!loaded.fromReplica()) {
+                    meProfileCache.put(userId, me, stamp);
+                }
+            }
+            ensureActive(me);                  // @DisplayName("me: 토큰은 유효하지만 비활성 계정 → ACCOUNT_DISABLED")
+            return me;
+        } finally {
+            meTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
     }
 
     /**
@@ -47,13 +95,24 @@ public class MeService {
         return principal.userId();
     }
 
-    private User loadUserOrThrow(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+    // replica 우선, replica에 없으면 primary로 한 번 더 (MeResponse는 기본 컬럼만 읽음)
+    private ReplicaReads.Read<MeProfile> loadUserOrThrow(Long userId) {
+        ReplicaReads.Read<MeProfile> read = replicaReads.readTracked(
+                () -> userRepository.findById(userId).map(MeProfile::of).orElse(null));
+        if (read.value() != null) {
+            return read;
+        }
+        if (read.fromReplica()) {
+            MeProfile primary = userRepository.findById(userId).map(MeProfile::of).orElse(null);
+            if (primary != null) {
+                return new ReplicaReads.Read<>(primary, false);
+            }
+        }
+        throw new ApiException(ErrorCode.USER_NOT_FOUND);
     }
 
-    private void ensureActive(User user) {
-        if (user.getStatus() != UserStatus.ACTIVE) {
+    private void ensureActive(MeProfile me) {
+        if (!UserStatus.ACTIVE.name().equals(me.response().status())) {
             throw new ApiException(ErrorCode.ACCOUNT_DISABLED);
         }
     }
@@ -1,10 +1,13 @@
 package com.kyonggi.backend.auth.identity.me.web;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.kyonggi.backend.auth.identity.me.cache.MeProfile;
 import com.kyonggi.backend.auth.identity.me.dto.MeResponse;
 import com.kyonggi.backend.auth.identity.me.service.MeService;
 import com.kyonggi.backend.security.AuthPrincipal;
@@ -16,17 +19,28 @@ import lombok.RequiredArgsConstructor;
  * 
  * - JwtAuthenticationFilter가 Access Token을 검증하면 principal(AuthPrincipal)이 주입된다.
  * - 인증이 없으면 principal은 null일 수 있다(설정에 따라 엔트리포인트에서 막히는 게 정석).
+ *
+ * 조건부 GET:
+ * - 응답에 강한 ETag + Cache-Control: private, no-cache (브라우저는 저장하되 매번 재검증)
+ * - If-None-Match가 ETag와 같으면 본문 없이 304. (ResponseEntity의 ETag로 Spring MVC가 판단 → 직렬화 생략)
+ * - 상태 검사(ACCOUNT_DISABLED 등)는 304 판단 전에 서비스에서 끝난다.
  */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/auth")
 public class AuthMeController {
     
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final MeService meService;
 
     @GetMapping("/me")
-    public MeResponse me(@AuthenticationPrincipal AuthPrincipal principal) {
-        return meService.me(principal); 
+    public ResponseEntity<MeResponse> me(@AuthenticationPrincipal AuthPrincipal principal) {
+        MeProfile profile = meService.profile(principal);
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(profile.etag())
+                .body(profile.response());
     }
 
 }
@@ -0,0 +1,78 @@
+package com.kyonggi.backend.auth.identity.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
+
+/**
+ * 반복 횟수를 해시에 함께 저장하는 PBKDF2-HMAC-SHA256 인코더
+ *
+ * - 저장 포맷: "{iterations}${hex(salt + hash)}" (DelegatingPasswordEncoder가 앞에 "{pbkdf2}"를 붙인다)
+ * - Pbkdf2PasswordEncoder는 반복 횟수를 해시에 남기지 않고 upgradeEncoding도 항상 false라,
+ *   설정에서 반복 횟수를 올려도 기존 해시를 알아볼 수 없고 재해시도 일어나지 않는다.
+ * - 검증은 해시에 적힌 반복 횟수로 하고, 그 값이 현재 설정보다 작으면 upgradeEncoding → 로그인 시 재해시
+ * - 접두사 없는 해시(반복 횟수 미기록)는 현재 설정 값으로 검증하고, 새 포맷으로 바꾸도록 재해시 대상으로 본다.
+ */
+final class IterationTaggedPbkdf2PasswordEncoder implements PasswordEncoder {
+
+    private static final char SEPARATOR = '$';
+
+    private final int saltBytes;
+    private final int iterations;
+    private final Pbkdf2PasswordEncoder current;
+
+    IterationTaggedPbkdf2PasswordEncoder(int saltBytes, int iterations) {
+        this.saltBytes = saltBytes;
+        this.iterations = iterations;
+        this.current = encoder(iterations);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return iterations + String.valueOf(SEPARATOR) + current.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        int stored = storedIterations(encodedPassword);
+        if (stored < 0) {
+            return current.matches(rawPassword, encodedPassword); // 반복 횟수 미기록 해시
+        }
+        String hash = encodedPassword.substring(encodedPassword.indexOf(SEPARATOR) + 1);
+        Pbkdf2PasswordEncoder encoder = (stored == iterations) ? current : encoder(stored);
+        return encoder.matches(rawPassword, hash);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        int stored = storedIterations(encodedPassword);
+        return stored < iterations; // 미기록(-1) 포함
+    }
+
+    // "{iterations}$..." 의 반복 횟수, 없거나 숫자가 아니면 -1
+    private static int storedIterations(String encodedPassword) {
+        int sep = encodedPassword.indexOf(SEPARATOR);
+        if (sep <= 0 || sep > 10) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < sep; i++) {
+            char c = encodedPassword.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return (value > 0 && value <= Integer.MAX_VALUE) ? (int) value : -1;
+    }
+
+    private Pbkdf2PasswordEncoder encoder(int iterationCount) {
+        return new Pbkdf2PasswordEncoder("", saltBytes, iterationCount, SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kyonggi.backend.auth.identity.password;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.kyonggi.backend.auth.config.PasswordEncodingProperties;
+import com.kyonggi.backend.auth.config.PasswordEncodingProperties.Algorithm;
+
+/**
+ * 비밀번호 인코더 생성 (설정 → 알고리즘별 PasswordEncoder)
+ *
+ * - delegating(): 저장 포맷 "{id}hash". encodeId로 새 해시를 만들고, 모든 알고리즘으로 검증할 수 있다.
+ *   접두사 없는 기존 해시(V4 이전 가입자)는 BCrypt로 검증한다.
+ * - single(): 캘리브레이션처럼 특정 알고리즘/비용을 직접 재야 할 때
+ */
+public final class PasswordEncoders {
+
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BYTES = 32;
+
+    private PasswordEncoders() {}
+
+    public static PasswordEncoder delegating(PasswordEncodingProperties props) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        for (Algorithm algorithm : Algorithm.values()) {
+            encoders.put(algorithm.id(), single(algorithm, props));
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(props.encodeId().id(), encoders);
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return delegating;
+    }
+
+    public static PasswordEncoder single(Algorithm algorithm, PasswordEncodingProperties props) {
+        return switch (algorithm) {
+            case BCRYPT -> bcrypt(props.bcryptCost());
+            case ARGON2 -> argon2(props.argon2().memoryKib(), props.argon2().iterations(), props.argon2().parallelism());
+            case PBKDF2 -> pbkdf2(props.pbkdf2Iterations());
+        };
+    }
+
+    public static PasswordEncoder bcrypt(int cost) {
+        return new BCryptPasswordEncoder(cost);
+    }
+
+    public static PasswordEncoder argon2(int memoryKib, int iterations, int parallelism) {
+        return new Argon2PasswordEncoder(SALT_BYTES, HASH_BYTES, parallelism, memoryKib, iterations);
+    }
+
+    // 반복 횟수를 해시에 기록한다 → 설정을 올리면 기존 해시가 재해시 대상이 된다 (IterationTaggedPbkdf2PasswordEncoder)
+    public static PasswordEncoder pbkdf2(int iterations) {
+        return new IterationTaggedPbkdf2PasswordEncoder(SALT_BYTES, iterations);
+    }
+}
@@ -0,0 +1,116 @@
+package com.kyonggi.backend.auth.identity.password;
+
+import java.util.Arrays;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.PasswordEncodingProperties;
+import com.kyonggi.backend.auth.config.PasswordEncodingProperties.Algorithm;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 비용 캘리브레이션 (기동 시 측정 → 권장값 로그)
+ *
+ * 같은 cost라도 장비(CPU/컨테이너 쿼터)에 따라 해시 시간이 몇 배씩 차이 난다.
+ * 현재 장비에서 encodeId 알고리즘을 직접 재서, 목표 시간(targetMillis)에 맞는 비용을 권장한다.
+ * - BCRYPT: cost가 1 오를 때마다 시간이 2배 → 기준 cost 측정 후 log2로 추정, 추정값을 다시 재서 확인
+ * - ARGON2 / PBKDF2: 시간이 반복 횟수에 비례 → 현재 설정을 재서 비례 계산
+ *
+ * 설정을 자동으로 바꾸지는 않는다. (보안/처리량 교환은 운영자가 결정)
+ * 측정 자체가 CPU를 쓰므로 기동을 막지 않게 백그라운드 스레드에서 돈다.
+ */
+@Slf4j
+@Component
+public class PasswordHashCalibrator implements ApplicationRunner {
+
+    private static final int BCRYPT_PROBE_COST = 8;
+    private static final int BCRYPT_MAX_COST = 20;
+    private static final String SAMPLE_PASSWORD = "calibration-Pa55word!";
+
+    private final PasswordEncodingProperties props;
+
+    public PasswordHashCalibrator(PasswordEncodingProperties props) {
+        this.props = props;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!props.calibration().enabled()) {
+            return;
+        }
+        Thread.ofPlatform().daemon().name("password-hash-calibration").start(() -> {
+            try {
+                Recommendation r = calibrate();
+                log.info("[auth-password] calibration {}: current {}={} (~{}ms), recommended {}={} for target {}ms",
+                        r.algorithm(), r.parameter(), r.current(), r.currentMillis(),
+                        r.parameter(), r.recommended(), props.calibration().targetMillis());
+            } catch (RuntimeException e) {
+                log.warn("[auth-password] calibration failed: {}", e.toString());
+            }
+        });
+    }
+
+    /**
+     * encodeId 알고리즘의 현재 비용을 재고, 목표 시간에 맞는 비용을 계산한다.
+     */
+    public Recommendation calibrate() {
+        long target = props.calibration().targetMillis();
+        Algorithm algorithm = props.encodeId();
+
+        return switch (algorithm) {
+            case BCRYPT -> {
+                double currentMillis = measure(PasswordEncoders.bcrypt(props.bcryptCost()));
+                double probeMillis = measure(PasswordEncoders.bcrypt(BCRYPT_PROBE_COST));
+                int estimated = BCRYPT_PROBE_COST + (int) Math.floor(log2(target / Math.max(probeMillis, 0.01)));
+                int cost = Math.clamp(estimated, 4, BCRYPT_MAX_COST);
+                // 추정값이 목표를 넘으면 한 단계 낮춘다 (2배 단위라 오차가 크다)
+                if (cost > 4 && measure(PasswordEncoders.bcrypt(cost)) > target) {
+                    cost--;
+                }
+                yield new Recommendation(algorithm, "cost", props.bcryptCost(), cost, Math.round(currentMillis));
+            }
+            case ARGON2 -> {
+                PasswordEncodingProperties.Argon2 a = props.argon2();
+                double currentMillis = measure(PasswordEncoders.argon2(a.memoryKib(), a.iterations(), a.parallelism()));
+                yield new Recommendation(algorithm, "iterations", a.iterations(),
+                        scale(a.iterations(), currentMillis, target), Math.round(currentMillis));
+            }
+            case PBKDF2 -> {
+                double currentMillis = measure(PasswordEncoders.pbkdf2(props.pbkdf2Iterations()));
+                yield new Recommendation(algorithm, "iterations", props.pbkdf2Iterations(),
+                        scale(props.pbkdf2Iterations(), currentMillis, target), Math.round(currentMillis));
+            }
+        };
+    }
+
+    // encode() 1회 시간의 중앙값 (ms). 첫 1회는 워밍업으로 버린다.
+    private double measure(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        double[] samples = new double[props.calibration().samples()];
+        for (int i = 0; i < samples.length; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = (System.nanoTime() - startedAt) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private static long scale(long current, double currentMillis, long targetMillis) {
+        return Math.max(1, Math.round(current * (targetMillis / Math.max(currentMillis, 0.01))));
+    }
+
+    private static double log2(double x) {
+        return Math.log(x) / Math.log(2);
+    }
+
+    /**
+     * @param parameter 조정 대상 파라미터 이름 (cost / iterations)
+     * @param currentMillis 현재 설정의 해시 1회 시간 (중앙값)
+     */
+    public record Recommendation(Algorithm algorithm, String parameter, long current, long recommended, long currentMillis) {}
+}
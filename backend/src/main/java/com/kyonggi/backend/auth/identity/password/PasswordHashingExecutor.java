@@ -0,0 +1,182 @@
+package com.kyonggi.backend.auth.identity.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.PasswordHashingProperties;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 전용 실행기 (bounded queue + 코어 수 워커 + 최대 대기 시간)
+ *
+ * BCrypt(cost 10)는 한 번에 수십 ms의 CPU를 쓴다. 이걸 Tomcat 스레드에서 직접 돌리면
+ * 크리덴셜 스터핑 폭주 시 모든 요청 스레드가 CPU를 잡고 있어서 /auth/me, /auth/refresh 같은
+ * 가벼운 요청까지 같이 굶는다.
+ *
+ * - 해시는 전용 워커(기본 = CPU 코어 수)에서만 돌린다. → 동시에 도는 KDF 수가 코어 수로 묶인다.
+ * - 큐가 가득 차면 즉시 503 AUTH_BUSY (+ Retry-After)
+ * - 요청 스레드는 maxWait까지만 기다린다. 넘기면 작업을 취소하고 503
+ *   (아직 큐에 있던 작업은 취소되어 실행되지 않으므로, 이미 포기한 요청의 해시에 CPU를 쓰지 않는다)
+ *
+ * 메트릭:
+ * - auth.hash.queue.size / auth.hash.active (gauge)
+ * - auth.hash.wait : 큐 대기 시간
+ * - auth.hash.time{op=encode|matches|background} : 해시 계산 시간
+ * - auth.hash.rejected{reason=queue_full|timeout}
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties props;
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<Runnable> queue;
+
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer backgroundTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder, PasswordHashingProperties props, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(props.queueCapacity());
+
+        AtomicInteger seq = new AtomicInteger();
+        int workers = props.resolvedWorkers();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.getAndIncrement());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.hash.queue.size", queue, BlockingQueue::size)
+                .description("해시 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 계산 중인 워커 수")
+                .register(meterRegistry);
+
+        this.waitTimer = Timer.builder("auth.hash.wait")
+                .description("해시 큐 대기 시간")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.hash.time").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.hash.time").tag("op", "matches").register(meterRegistry);
+        this.backgroundTimer = Timer.builder("auth.hash.time").tag("op", "background").register(meterRegistry);
+        this.queueFullCounter = Counter.builder("auth.hash.rejected").tag("reason", "queue_full").register(meterRegistry);
+        this.timeoutCounter = Counter.builder("auth.hash.rejected").tag("reason", "timeout").register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 응답과 무관한 해시 작업(예: 재해시)을 같은 풀에서 돌린다. 기다리지 않는다.
+     * - 요청 처리 몫을 남겨두기 위해 큐가 절반 이상 차 있으면 받지 않는다.
+     *
+     * @return 받아들였으면 true, 바빠서 건너뛰었으면 false
+     */
+    public boolean submitBackground(Runnable task) {
+        if (queue.size() * 2 >= props.queueCapacity()) {
+            return false;
+        }
+        try {
+            executor.execute(() -> backgroundTimer.record(task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    private <T> T execute(Timer hashTimer, Callable<T> hash) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return hash.call();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(props.maxWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 큐에 남아 있으면 빼서 실행되지 않게 한다 (실행 중이면 끝까지 돈다: BCrypt는 인터럽트 불가)
+            future.cancel(false);
+            executor.purge();
+            timeoutCounter.increment();
+            log.warn("[auth-hash] wait timeout {}ms, queue={}", props.maxWaitMillis(), queue.size());
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private ApiException busy() {
+        return new ApiException(ErrorCode.AUTH_BUSY, props.retryAfterSeconds());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,78 @@
+package com.kyonggi.backend.auth.identity.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.repo.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 성공 시 비밀번호 해시 업그레이드 (알고리즘/비용 변경의 점진적 반영)
+ *
+ * - 원문 비밀번호는 로그인 순간에만 알 수 있으므로, 그때 upgradeEncoding()을 보고 새 설정으로 다시 해시한다.
+ * - 재해시 + UPDATE는 해시 풀의 백그라운드 작업으로 돌린다. → 로그인 응답은 기다리지 않는다.
+ * - 해시 풀이 바쁘면 건너뛴다. (다음 로그인에서 다시 시도하면 되므로 요청 처리를 우선한다)
+ * - UPDATE는 "해시가 그 사이 바뀌지 않았을 때만" 적용한다. (동시 비밀번호 변경을 덮어쓰지 않음)
+ *
+ * 메트릭: auth.password.rehash{result=upgraded|conflict|skipped|failed}
+ */
+@Slf4j
+@Component
+public class PasswordRehasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
+    private final UserRepository userRepository;
+
+    private final Counter upgradedCounter;
+    private final Counter conflictCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public PasswordRehasher(
+            PasswordEncoder passwordEncoder,
+            PasswordHashingExecutor passwordHashing,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
+        this.userRepository = userRepository;
+
+        this.upgradedCounter = Counter.builder("auth.password.rehash").tag("result", "upgraded").register(meterRegistry);
+        this.conflictCounter = Counter.builder("auth.password.rehash").tag("result", "conflict").register(meterRegistry);
+        this.skippedCounter = Counter.builder("auth.password.rehash").tag("result", "skipped").register(meterRegistry);
+        this.failedCounter = Counter.builder("auth.password.rehash").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * @param rawPassword 방금 검증에 성공한 원문 비밀번호
+     * @param currentHash 검증에 쓴 저장 해시
+     */
+    public void rehashIfNeeded(Long userId, String rawPassword, String currentHash) {
+        if (!passwordEncoder.upgradeEncoding(currentHash)) {
+            return;
+        }
+
+        boolean accepted = passwordHashing.submitBackground(() -> {
+            try {
+                String upgraded = passwordEncoder.encode(rawPassword);
+                if (userRepository.updatePasswordHashIfUnchanged(userId, currentHash, upgraded) == 1) {
+                    upgradedCounter.increment();
+                } else {
+                    conflictCounter.increment();
+                }
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.warn("[auth-password] rehash failed userId={}: {}", userId, e.toString());
+            }
+        });
+
+        if (!accepted) {
+            skippedCounter.increment();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.kyonggi.backend.auth.identity.signup.dto;
+
+import java.util.List;
+
+/**
+ * 닉네임 사용 가능 여부 응답
+ *
+ * - available: 조회 시점 기준. 가입 완료(/auth/signup/complete)에서 DB 유니크 제약으로 다시 확인한다.
+ * - suggestions: 사용 중일 때만, DB를 조회하지 않고 "확실히 비어 있음"으로 판정된 대안 (없으면 빈 배열)
+ */
+public record NicknameAvailabilityResponse(
+        String nickname,
+        boolean available,
+        List<String> suggestions
+) {}
@@ -1,7 +1,6 @@
 package com.kyonggi.backend.auth.identity.signup.dto;
 
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import com.kyonggi.backend.global.jackson.TrimStringDeserializer;
+import com.kyonggi.backend.global.jackson.Trim;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -14,7 +13,7 @@ import jakarta.validation.constraints.Size;
  */
 public record SignupCompleteRequest(
 
-        @JsonDeserialize(using = TrimStringDeserializer.class)
+        @Trim
         @NotBlank(message = "이메일은 필수입니다.")
         @Email(message = "이메일 형식이 올바르지 않습니다.")
         String email,
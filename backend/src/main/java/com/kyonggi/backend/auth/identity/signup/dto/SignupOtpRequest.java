@@ -1,7 +1,6 @@
 package com.kyonggi.backend.auth.identity.signup.dto;
 
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import com.kyonggi.backend.global.jackson.TrimStringDeserializer;
+import com.kyonggi.backend.global.jackson.Trim;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -12,7 +11,7 @@ import jakarta.validation.constraints.NotBlank;
  * - 경기대 도메인 정책은 서비스에서 검증
  */
 public record SignupOtpRequest(
-        @JsonDeserialize(using = TrimStringDeserializer.class)
+        @Trim
         @NotBlank 
         @Email String email
 ) {};
@@ -2,7 +2,7 @@ package com.kyonggi.backend.auth.identity.signup.event;
 
 /**
  * OTP를 발급/저장한 뒤, 커밋 완료 후 메일 발송을 위해 발행하는 이벤트
- * - OTP 원문은 DB에 저장하지 않으므로, 메일 발송은 서비스 계층의 "트랜잭션 커밋 이후"에
- *   이벤트로 처리해야 한다.
+ * - OTP 원문은 평문으로 DB에 저장하지 않는다. 메일 본문은 발급 트랜잭션에서 mail_outbox에 암호화되어 적재된다.
+ * - 이 이벤트는 "커밋되었으니 지금 바로 보내 보라"는 신호일 뿐이다. (놓쳐도 relay 폴링이 보낸다)
  */
-public record SignupOtpIssuedEvent (String email, String code) {}
+public record SignupOtpIssuedEvent (String email, Long outboxId) {}
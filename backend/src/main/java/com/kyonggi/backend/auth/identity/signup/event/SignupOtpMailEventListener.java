@@ -4,27 +4,24 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import com.kyonggi.backend.auth.identity.signup.service.SignupMailSender;
+import com.kyonggi.backend.mail.MailDispatcher;
+import com.kyonggi.backend.mail.outbox.MailOutboxRelay;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class SignupOtpMailEventListener {
 
-    private final SignupMailSender mailSender;
+    private final MailOutboxRelay outboxRelay;
+    private final MailDispatcher mailDispatcher;
 
-    // DB 트랜잭션이 성공적으로 커밋이 된 뒤에만 실행된다. ( 커밋 실패 or 롤백이면 메일이 발송되지 않음 )
+    // DB 트랜잭션이 성공적으로 커밋이 된 뒤에만 실행된다. ( 커밋 실패 or 롤백이면 outbox row도 없음 )
+    // - SMTP 대화는 MailDispatcher 워커가 한다. 요청 스레드는 큐에 넣고 바로 반환한다.
+    // - 발송 실패/큐 포화로 여기서 못 보내도 outbox row가 남아 있으므로 relay 폴링이 재시도한다.
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void on(SignupOtpIssuedEvent event) {
-        try {
-            mailSender.sendOtp(event.email(), event.code());
-        } catch (Exception e) {
-            // 메일 실패는 "발급 실패"로 취급하지 않는다(발급은 커밋으로 확정됨).
-            log.error("회원가입 OTP 메일 발송 실패. email={}", event.email(), e);
-        }
+        mailDispatcher.dispatch("signup-otp", () -> outboxRelay.deliver(event.outboxId()));
     }
 
 }
@@ -0,0 +1,163 @@
+package com.kyonggi.backend.auth.identity.signup.job;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.auth.config.OtpProperties;
+import com.kyonggi.backend.auth.repo.EmailOtpRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * email_otp 정리 배치
+ *
+ * - email_otp row는 가입 완료(completeSignup) 때만 지워진다.
+ *   → 가입을 포기했거나, 검증만 하고 가입하지 않은 row가 계속 쌓인다.
+ * - 삭제 대상: "만료됨" AND "send_count_date < 오늘"
+ *   - 오늘 발송된 row는 daily-send-limit 집계에 필요하므로 만료되었어도 남긴다.
+ *   - 검증 완료 row도 만료되면 가입에 쓸 수 없으므로(OTP_EXPIRED) 같이 지운다.
+ * - 범위 상한은 "오늘 00:00"(expires_at < 오늘 시작)으로 잡는다.
+ *   → 어제 이전에 만료된 row는 항상 만료 상태이고, 오늘 발송된 row는 인덱스 범위 밖이라 매 배치마다 다시 훑지 않는다.
+ *   (자정 직전 발송 → 자정 이후 만료된 row는 다음 날 실행에서 지워진다)
+ *
+ * 다중 인스턴스 안전장치:
+ * - MySQL GET_LOCK(이름, 0)을 잡은 인스턴스만 실행한다. (못 잡으면 즉시 skip)
+ * - 락은 커넥션(세션) 단위라, 작업이 끝날 때까지 같은 커넥션을 쥐고 있다가 RELEASE_LOCK 한다.
+ *   인스턴스가 죽으면 커넥션이 끊기면서 락도 자동으로 풀린다.
+ */
+@Slf4j
+@Component
+public class EmailOtpCleanupJob {
+
+    static final String LOCK_NAME = "email_otp_cleanup";
+
+    private final EmailOtpRepository emailOtpRepository;
+    private final DataSource dataSource;
+    private final OtpProperties.Cleanup props;
+    private final Clock clock;
+
+    private final Counter deletedCounter;
+    private final Counter skippedCounter;
+    private final Timer runTimer;
+
+    public EmailOtpCleanupJob(
+            EmailOtpRepository emailOtpRepository,
+            DataSource dataSource,
+            OtpProperties otpProperties,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.emailOtpRepository = emailOtpRepository;
+        this.dataSource = dataSource;
+        this.props = otpProperties.cleanup();
+        this.clock = clock;
+
+        this.deletedCounter = Counter.builder("otp.cleanup.deleted")
+                .description("정리 배치가 삭제한 email_otp row 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("otp.cleanup.skipped")
+                .description("다른 인스턴스가 락을 잡고 있어 건너뛴 실행 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("otp.cleanup.duration")
+                .description("정리 배치 1회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.otp.cleanup.cron:-}", zone = "Asia/Seoul")
+    public void scheduled() {
+        try {
+            runOnce();
+        } catch (Exception e) {
+            log.warn("[otp-cleanup] failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * 1회 실행 (리더 락 획득 → 배치 삭제 반복 → 락 해제)
+     *
+     * @return 삭제된 row 수 (락을 못 잡았으면 0)
+     */
+    public int runOnce() throws SQLException {
+        try (Connection lockConn = dataSource.getConnection()) {
+            if (!tryLock(lockConn)) {
+                skippedCounter.increment();
+                log.debug("[otp-cleanup] skipped: lock held by another instance");
+                return 0;
+            }
+            Timer.Sample sample = Timer.start();
+            try {
+                return deleteInBatches();
+            } finally {
+                sample.stop(runTimer);
+                releaseLock(lockConn);
+            }
+        }
+    }
+
+    private int deleteInBatches() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDateTime cutoff = today.atStartOfDay();
+
+        int total = 0;
+        for (int i = 0; i < props.maxBatches(); i++) {
+            // 배치마다 auto-commit 트랜잭션 1개 → 락은 batch 크기만큼만, 짧게 잡힌다.
+            int deleted = emailOtpRepository.deleteExpiredBatch(cutoff, today, props.batchSize());
+            total += deleted;
+            deletedCounter.increment(deleted);
+
+            if (deleted < props.batchSize()) {
+                break;
+            }
+            if (props.pauseMillis() > 0 && !pause()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("[otp-cleanup] deleted={} cutoff={}", total, cutoff);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(props.pauseMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 종료 중이면 남은 건 다음 실행으로
+            return false;
+        }
+    }
+
+    private static boolean tryLock(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.execute();
+        } catch (SQLException e) {
+            // 커넥션이 풀에 반납되며 세션이 살아있으면 락이 남을 수 있다 → 로그만 남기고 다음 실행에서 재시도
+            log.warn("[otp-cleanup] RELEASE_LOCK failed: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.kyonggi.backend.auth.identity.signup.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Service;
+
+import com.kyonggi.backend.auth.identity.existence.RegisteredUserFilter;
+import com.kyonggi.backend.auth.identity.signup.dto.NicknameAvailabilityResponse;
+import com.kyonggi.backend.auth.identity.signup.support.SignupValidators;
+import com.kyonggi.backend.auth.repo.UserRepository;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.global.datasource.ReplicaReads;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 닉네임 사용 가능 여부 조회 (가입 완료 전에 미리 확인)
+ *
+ * - 가입 완료까지 가서야 중복을 알면 OTP 락 + BCrypt를 다시 치르게 되므로, 가벼운 조회를 따로 둔다.
+ * - 판정: RegisteredUserFilter가 "확실히 없음"이면 DB 없이 사용 가능, "있을 수도 있음"이면 existsByNickname 1회
+ *   참고용 응답이라 복제 지연을 허용하므로 existsByNickname은 replica에서 읽는다. (ReplicaReads)
+ * - 추천: 사용 중이면 닉네임 + 숫자 후보 중 filter가 "확실히 없음"이라고 한 것만 돌려준다. (후보마다 DB 조회 안 함)
+ *
+ * 응답은 참고용이다. 최종 판정은 항상 가입 완료 시 users 유니크 제약(uq_users_nickname)이 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NicknameAvailabilityService {
+
+    private static final int MAX_SUGGESTIONS = 3;
+    private static final int MAX_CANDIDATES = 20;    // 후보 생성 시도 상한 (filter 조회만, DB 없음)
+
+    private final RegisteredUserFilter registeredUserFilter;
+    private final UserRepository userRepository;
+    private final ReplicaReads replicaReads;
+
+    public NicknameAvailabilityResponse check(String rawNickname) {
+        String nick = rawNickname == null ? "" : rawNickname.trim();
+        if (!SignupValidators.isValidNickname(nick)) {
+            throw new ApiException(ErrorCode.INVALID_NICKNAME);
+        }
+
+        boolean available = !registeredUserFilter.mightHaveNickname(nick)
+                || !replicaReads.read(() -> userRepository.existsByNickname(nick));
+        List<String> suggestions = available ? List.of() : suggest(nick);
+        return new NicknameAvailabilityResponse(nick, available, suggestions);
+    }
+
+    private List<String> suggest(String nick) {
+        if (!registeredUserFilter.isReady()) {
+            return List.of(); // filter 없이는 후보마다 DB를 봐야 하므로 추천하지 않는다.
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<String> picked = new LinkedHashSet<>();
+
+        for (int i = 0; i < MAX_CANDIDATES && picked.size() < MAX_SUGGESTIONS; i++) {
+            int digits = 2 + i / 8; // 2자리부터, 잘 안 비면 자릿수를 늘린다
+            String suffix = Integer.toString(random.nextInt((int) Math.pow(10, digits - 1), (int) Math.pow(10, digits)));
+            String base = nick.length() + suffix.length() > SignupValidators.NICKNAME_MAX ? nick.substring(0, SignupValidators.NICKNAME_MAX - suffix.length()) : nick;
+            String candidate = base + suffix;
+
+            if (SignupValidators.isValidNickname(candidate) && !registeredUserFilter.mightHaveNickname(candidate)) {
+                picked.add(candidate);
+            }
+        }
+        return new ArrayList<>(picked);
+    }
+}
@@ -1,10 +1,9 @@
 package com.kyonggi.backend.auth.identity.signup.service;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
 
 import com.kyonggi.backend.auth.config.OtpProperties;
+import com.kyonggi.backend.mail.outbox.MailOutboxService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,22 +16,26 @@ import lombok.RequiredArgsConstructor;
  * 
  * @Service가 직접 JavaMailSender를 쓰지 않고 
  *  이 클래스를 거친다 -> 관심사 분리 (SRP) 
+ *
+ * 발송은 outbox 적재로 대신한다.
+ * - OTP 발급 트랜잭션 안에서 mail_outbox에 (암호화된) 본문을 저장한다.
+ * - 실제 SMTP 발송은 커밋 이후 MailOutboxRelay가 한다. (실패 시 backoff 재시도)
  */
 @Component
 @RequiredArgsConstructor
 public class SignupMailSender {
 
+    static final String KIND = "signup-otp";
     private static final String SUBJECT = "[경기대 커뮤니티] 회원가입 인증번호";
 
-    private final JavaMailSender mailSender;
+    private final MailOutboxService outboxService;
     private final OtpProperties props;
 
-    public void sendOtp(String toEmail, String code) {
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setTo(toEmail);
-        msg.setSubject(SUBJECT);
-        msg.setText(buildBody(code));
-        mailSender.send(msg);
+    /**
+     * @return outbox id (커밋 이후 즉시 발송 시도에 쓴다)
+     */
+    public Long enqueueOtp(String toEmail, String code) {
+        return outboxService.enqueue(KIND, toEmail, SUBJECT, buildBody(code));
     }
 
     private String buildBody(String code) {
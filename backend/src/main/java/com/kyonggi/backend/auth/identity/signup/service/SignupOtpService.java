@@ -20,6 +20,8 @@ import com.kyonggi.backend.auth.identity.signup.support.OtpHasher;
 import com.kyonggi.backend.auth.repo.EmailOtpRepository;
 import com.kyonggi.backend.global.ApiException;
 import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.mail.MailCircuitBreaker;
+import com.kyonggi.backend.mail.MailDispatcher;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,10 +31,13 @@ import lombok.RequiredArgsConstructor;
  * OTP 발급: public void requestSignupOtp(String rawEmail) {...}
  *  - 도메인 검증 / 정규화
  *  - 해당 이메일 상태 검사 (쿨다운 / 일일 제한 / 검증 완료)
- *  - OTP는 보안을 위해 해시만 DB에 저장, 원문은 SignupMailSender가 커밋 이후 이벤트로 메일 전송
+ *  - OTP는 보안을 위해 해시만 DB에 저장, 메일 본문은 같은 트랜잭션에서 mail_outbox에 암호화해 적재 (SignupMailSender)
+ *  - 메일 발송은 MailDispatcher 큐로 비동기 처리 (큐 포화 시 요청 단계에서 503)
+ *  - SMTP 장애로 회로가 열려 있으면(MailCircuitBreaker) 타임아웃을 기다리지 않고 바로 503
  * 
  * OTP 검증: public void verifySignupOtp(String rawEmail, String incomingCode) {...}
- *  - 실패 횟수는 반드시 누적되어야 하므로, "OTP 코드 불일치"는 롤백하지 않는다. (해당 레코드의 속성 값이 증가해야함)
+ *  - 실패 횟수는 반드시 누적되어야 하므로, "OTP 코드 불일치"도 실패 카운트는 커밋된다.
+ *  - 비관적 락 대신 조건부 UPDATE(영향 row 수)로 판정하므로, 동시 오답 요청이 서로를 기다리지 않는다.
  */
 @Service
 @RequiredArgsConstructor
@@ -42,6 +47,9 @@ public class SignupOtpService {
 
     private final EmailOtpRepository emailOtpRepository;
     private final ApplicationEventPublisher eventPublisher; // 메일 발송을 "커밋 이후"로 보내기 위한 이벤트 발행자
+    private final MailDispatcher mailDispatcher;
+    private final MailCircuitBreaker mailCircuitBreaker;
+    private final SignupMailSender signupMailSender;
 
     private final OtpCodeGenerator otpCodeGenerator;
     private final OtpHasher otpHasher;
@@ -52,6 +60,10 @@ public class SignupOtpService {
     public void requestSignupOtp(String rawEmail) {
         String email = normalizeKyonggiEmail(rawEmail); // @DisplayName("request: kyonggi 도메인 아니면 → 400 EMAIL_DOMAIN_NOT_ALLOWED")
 
+        // 메일 큐가 가득 찼으면 DB를 건드리기 전에 503 (보낼 수 없는 OTP를 발급/카운트하지 않는다)
+        mailDispatcher.ensureCapacity();
+        mailCircuitBreaker.ensureAvailable();
+
         LocalDateTime now = LocalDateTime.now(clock);
         LocalDate today = now.toLocalDate();
 
@@ -90,32 +102,52 @@ public class SignupOtpService {
             emailOtpRepository.save(existing);
         }
 
+        // 메일 본문(OTP 원문 포함)은 같은 트랜잭션에서 outbox에 암호화 적재 → OTP와 함께 커밋/롤백
+        Long outboxId = signupMailSender.enqueueOtp(email, code);
+
         /**
-         * 메일은 트랜잭션 커밋 후, SignupMailSender가 처리한다.
-         * - @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+         * 실제 발송은 트랜잭션 커밋 후 시작한다.
+         * - @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT) → MailOutboxRelay.deliver(outboxId)
+         * - 여기서 놓쳐도 relay 폴링이 outbox에서 다시 집어 보낸다.
          */
-        eventPublisher.publishEvent(new SignupOtpIssuedEvent(email, code));
+        eventPublisher.publishEvent(new SignupOtpIssuedEvent(email, outboxId));
     }
 
-    @Transactional(noRollbackFor = OtpInvalidException.class)
+    /**
+     * OTP 검증 (락 없는 조건부 UPDATE 방식)
+     *
+     * - HMAC 계산은 트랜잭션/커넥션을 잡기 전에 끝낸다. (CPU 작업 동안 row lock/커넥션 점유 없음)
+     * - 1) 조건부 UPDATE로 "일치하면 verified 처리"를 시도한다.
+     * - 2) 실패하면 조건부 UPDATE로 "미검증/미만료/한도 미만이면 실패 횟수 +1"을 시도한다.
+     * - 3) 둘 다 0 row면 상태를 읽어서 원인(없음/멱등 성공/만료/초과)을 판별한다.
+     *
+     * 각 UPDATE는 단독 문장(auto-commit 트랜잭션)이므로 실패 누적은 예외와 무관하게 커밋된다.
+     */
     public void verifySignupOtp(String rawEmail, String incomingCode) {
         String email = normalizeKyonggiEmail(rawEmail);
         LocalDateTime now = LocalDateTime.now(clock);
+        int maxFailures = props.maxFailures();
 
-        /**
-         * findByEmailAndPurposeForUpdate: PESSIMISTIC_WRITE 락 걸린 상태로 조회
-         * - 비관적 락: 다른 트랜잭션이 같은 행을 수정하지 못하게 막는다. 
-         * - 동시 검증 요청이 실패 횟수 누적을 뚫지 못하게 한다.
-         * 
-         * 영속성 컨텍스트에 올라온 엔티티이므로,
-         * 이후의 상태 변경은 "더티체킹"으로 커밋 시점에 DB에 반영된다.
-         * - verified 처리
-         * - 실패 횟수 증가
-         */
-        EmailOtp otpEntity = emailOtpRepository.findByEmailAndPurposeForUpdate(email, PURPOSE)
+        String incomingHash = (incomingCode == null || incomingCode.isBlank())
+                ? null
+                : otpHasher.hash(incomingCode);
+
+        // @DisplayName("verify: 정상 → 2xx + verified=true")
+        if (incomingHash != null
+                && emailOtpRepository.markVerifiedIfMatches(email, PURPOSE, incomingHash, now, maxFailures) == 1) {
+            return;
+        }
+
+        // @DisplayName("verify: 코드 불일치 → 400 OTP_INVALID + failedAttempts가 DB에 +1 커밋됨")
+        if (emailOtpRepository.increaseFailureIfPending(email, PURPOSE, now, maxFailures) == 1) {
+            throw new OtpInvalidException();
+        }
+
+        // 여기까지 왔으면 "검증 가능한 상태가 아닌" 경우다 → 원인 판별 (락 없는 단순 조회)
+        EmailOtp otpEntity = emailOtpRepository.findByEmailAndPurpose(email, PURPOSE)
                 .orElseThrow(() -> new ApiException(ErrorCode.OTP_NOT_FOUND)); // @DisplayName("verify: 요청 이력 없으면 → 400 OTP_NOT_FOUND")
 
-         // 이미 검증 완료면 멱등 성공(실패 횟수 증가 없음)
+        // 이미 검증 완료면 멱등 성공(실패 횟수 증가 없음)
         if (otpEntity.isVerified()) { // @DisplayName("verify: 이미 verified면 멱등 성공(2xx) + 실패횟수 증가 없음")
             return;
         }
@@ -124,21 +156,12 @@ public class SignupOtpService {
             throw new ApiException(ErrorCode.OTP_EXPIRED); // @DisplayName("verify: 만료된 OTP → 400 OTP_EXPIRED")
         }
 
-        if (otpEntity.getFailedAttempts() >= props.maxFailures()) {
+        if (otpEntity.getFailedAttempts() >= maxFailures) {
             throw new ApiException(ErrorCode.OTP_TOO_MANY_FAILURES); // @DisplayName("verify: 실패횟수 초과(>= maxFailures) → 400 OTP_TOO_MANY_FAILURES")
         }
 
-
-        /**
-         * 불일치 실패: 실패 횟수 +1 후 "OTP_INVALID": (noRollbackFor로 커밋 보장)
-         * - 정책상 실패 횟수를 반드시 남겨야 하므로 예외가 터져도 롤백하지 않는다.
-         */
-        if (!otpHasher.matches(incomingCode, otpEntity.getCodeHash())) { // @DisplayName("verify: 코드 불일치 → 400 OTP_INVALID + failedAttempts가 DB에 +1 커밋됨(noRollbackFor 검증)")
-            otpEntity.increaseFailure();    
-            throw new OtpInvalidException(); 
-        }
-
-        otpEntity.markVerified(now); // @DisplayName("verify: 정상 → 2xx + verified=true")
+        // 두 UPDATE 사이에 재발급(reissue)이 끼어든 경우 등: 이번 시도는 불일치로 본다.
+        throw new OtpInvalidException();
     }
 
 
@@ -2,18 +2,19 @@ package com.kyonggi.backend.auth.identity.signup.service;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
-import java.util.regex.Pattern;  
 
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.kyonggi.backend.auth.domain.EmailOtp;
 import com.kyonggi.backend.auth.domain.OtpPurpose;
 import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.identity.existence.RegisteredUserFilter;
+import com.kyonggi.backend.auth.identity.password.PasswordHashingExecutor;
 import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
-import com.kyonggi.backend.auth.identity.signup.support.SignupPatterns;
+import com.kyonggi.backend.auth.identity.signup.support.SignupValidators;
 import com.kyonggi.backend.auth.repo.EmailOtpRepository;
 import com.kyonggi.backend.auth.repo.UserRepository;
 import com.kyonggi.backend.global.ApiException;
@@ -21,6 +22,17 @@ import com.kyonggi.backend.global.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 회원가입 완료 유스케이스 (단계 분리)
+ *
+ * 1) 검증: 이메일 도메인/정규화, 비밀번호 정책, 닉네임 형식 (DB 없음)
+ * 2) 선검사: OTP 상태(잠금 없이 조회), 이메일/닉네임 중복 → 어차피 실패할 요청에 BCrypt를 쓰지 않는다.
+ * 3) 해시: 전용 해시 풀(PasswordHashingExecutor)에서. 이 동안 트랜잭션/DB 커넥션/OTP row 락을 잡지 않는다.
+ * 4) 짧은 트랜잭션: OTP 잠금 조회 → 상태 재확인 → users INSERT → OTP 삭제
+ *    → 커넥션 점유 시간 = 쿼리 몇 개 (BCrypt 시간 제외)
+ *
+ * 2)와 4) 사이에 상태가 바뀌어도(다른 요청이 먼저 가입/OTP 삭제) 4)의 재확인과 DB 유니크 제약이 최종 판정한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class SignupService {
@@ -29,15 +41,13 @@ public class SignupService {
     private final UserRepository userRepository;
 
     private final Clock clock;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
+    private final RegisteredUserFilter registeredUserFilter;
+    private final PlatformTransactionManager transactionManager;
 
-    private static final Pattern PASSWORD_PATTERN = Pattern.compile(SignupPatterns.PASSWORD_REGEX);
-    private static final Pattern NICKNAME_PATTERN = Pattern.compile(SignupPatterns.NICKNAME_REGEX);
 
-    @Transactional
     public void completeSignup(String rawEmail, String rawPassword, String rawPasswordConfirm, String nickname) {
         String email = normalizeKyonggiEmail(rawEmail); // @DisplayName("completeSignup: kyonggi 도메인 아니면 → 400 EMAIL_DOMAIN_NOT_ALLOWED")
-        LocalDateTime now = LocalDateTime.now(clock);
 
         /**
          * @DisplayName("completeSignup: 비밀번호 불일치 → 400 PASSWORD_MISMATCH")
@@ -47,6 +57,22 @@ public class SignupService {
         validatePassword(rawPassword, rawPasswordConfirm);
         String nick = normalizeAndValidateNickname(nickname);
 
+        // 선검사 (잠금 없음): 실패할 요청이면 해시 전에 끝낸다. 최종 판정은 아래 트랜잭션에서 다시 한다.
+        EmailOtp preview = emailOtpRepository.findByEmailAndPurpose(email, OtpPurpose.SIGNUP)
+                .orElseThrow(() -> new ApiException(ErrorCode.OTP_NOT_FOUND));
+        ensureUsable(preview, LocalDateTime.now(clock));
+        ensureNotRegistered(email, nick);
+
+        // BCrypt는 전용 해시 풀에서, 트랜잭션 밖에서 (포화 시 503 AUTH_BUSY)
+        String passwordHash = passwordHashing.encode(rawPassword);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> insertUser(email, nick, passwordHash));
+    }
+
+    /**
+     * 짧은 트랜잭션: OTP 잠금 → 재확인 → INSERT → OTP 삭제
+     */
+    private void insertUser(String email, String nick, String passwordHash) {
         /**
          * @Lock(PESSIMISTIC_WRITE): 비관적 락
          * - 동시에 두 트랜잭션이 같은 OTP 레코드를 사용하려 할 때,
@@ -57,25 +83,7 @@ public class SignupService {
          */
         EmailOtp otp = emailOtpRepository.findByEmailAndPurposeForUpdate(email, OtpPurpose.SIGNUP) // @DisplayName("completeSignup: OTP 없으면 → 400 OTP_NOT_FOUND")
                 .orElseThrow(() -> new ApiException(ErrorCode.OTP_NOT_FOUND));
-
-        // OTP 인증 미완료
-        if (!otp.isVerified()) 
-            throw new ApiException(ErrorCode.OTP_NOT_VERIFIED); // @DisplayName("completeSignup: OTP verified=false → 400 OTP_NOT_VERIFIED (request만 하고 verify는 안함)")
-
-        // OTP 인증 만료, 재인증 필요 (EmailOtp: reissue)
-        if (otp.isExpired(now)) 
-            throw new ApiException(ErrorCode.OTP_EXPIRED); // @DisplayName("completeSignup: OTP 만료 → 400 OTP_EXPIRED (verify 후 Clock 이동)")
-        
-        
-        /// 중복 선검사 + 최종은 DB 제약으로 차단
-        if (userRepository.existsByEmail(email)) 
-            throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS); // @DisplayName("completeSignup: 이메일 중복 → 400 EMAIL_ALREADY_EXISTS")
-        
-        if (userRepository.existsByNickname(nick))
-            throw new ApiException(ErrorCode.NICKNAME_ALREADY_EXISTS); // @DisplayName("completeSignup: 닉네임 중복 → 400 NICKNAME_ALREADY_EXISTS")
-        
-
-        String passwordHash = passwordEncoder.encode(rawPassword);
+        ensureUsable(otp, LocalDateTime.now(clock));
 
         try {
             userRepository.save(User.create(email, passwordHash, nick));
@@ -99,6 +107,25 @@ public class SignupService {
         emailOtpRepository.delete(otp); // @DisplayName("completeSignup: 정상 → 2xx + user 생성 + otp 삭제 (실제 OTP 플로우)")
     }
 
+    private static void ensureUsable(EmailOtp otp, LocalDateTime now) {
+        // OTP 인증 미완료
+        if (!otp.isVerified()) 
+            throw new ApiException(ErrorCode.OTP_NOT_VERIFIED); // @DisplayName("completeSignup: OTP verified=false → 400 OTP_NOT_VERIFIED (request만 하고 verify는 안함)")
+
+        // OTP 인증 만료, 재인증 필요 (EmailOtp: reissue)
+        if (otp.isExpired(now)) 
+            throw new ApiException(ErrorCode.OTP_EXPIRED); // @DisplayName("completeSignup: OTP 만료 → 400 OTP_EXPIRED (verify 후 Clock 이동)")
+    }
+
+    private void ensureNotRegistered(String email, String nick) {
+        /// 중복 선검사 + 최종은 DB 제약으로 차단
+        // Bloom filter가 "확실히 없음"이면 DB 조회를 건너뛴다. ("있을 수도 있음"만 DB로 확인)
+        if (registeredUserFilter.mightHaveEmail(email) && userRepository.existsByEmail(email)) 
+            throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS); // @DisplayName("completeSignup: 이메일 중복 → 400 EMAIL_ALREADY_EXISTS")
+        
+        if (registeredUserFilter.mightHaveNickname(nick) && userRepository.existsByNickname(nick))
+            throw new ApiException(ErrorCode.NICKNAME_ALREADY_EXISTS); // @DisplayName("completeSignup: 닉네임 중복 → 400 NICKNAME_ALREADY_EXISTS")
+    }
 
     private String normalizeKyonggiEmail(String rawEmail) {
         KyonggiEmailUtils.validateKyonggiDomain(rawEmail);
@@ -109,14 +136,14 @@ public class SignupService {
         if (rawPassword == null || rawPasswordConfirm == null || !rawPassword.equals(rawPasswordConfirm)) {
             throw new ApiException(ErrorCode.PASSWORD_MISMATCH);
         }
-        if (!PASSWORD_PATTERN.matcher(rawPassword).matches()) {
+        if (!SignupValidators.isValidPassword(rawPassword)) {
             throw new ApiException(ErrorCode.WEAK_PASSWORD);
         }
     }
 
     private String normalizeAndValidateNickname(String nickname) {
         String nick = nickname == null ? "" : nickname.trim();
-        if (!NICKNAME_PATTERN.matcher(nick).matches()) {
+        if (!SignupValidators.isValidNickname(nick)) {
             throw new ApiException(ErrorCode.INVALID_NICKNAME);
         }
         return nick;
@@ -1,5 +1,11 @@
 package com.kyonggi.backend.auth.identity.signup.support;
 
+/**
+ * 가입 입력 규칙의 정규식 명세
+ * - 런타임 검사는 SignupValidators(단일 순회 손 검사기)가 한다. 여기 정규식은 규칙의 기준(명세)이고,
+ *   SignupValidatorsFuzzTest가 두 구현이 같은 결과를 내는지 확인한다.
+ * - 규칙을 바꿀 때는 정규식과 SignupValidators를 같이 바꾼다.
+ */
 public final class SignupPatterns {
 
     private SignupPatterns() {}
@@ -0,0 +1,103 @@
+package com.kyonggi.backend.auth.identity.signup.support;
+
+/**
+ * 가입 입력 규칙 검사기 (정규식 없이 문자 1회 순회)
+ *
+ * SignupPatterns의 정규식과 "같은 입력에 같은 결과"를 내도록 만든 손 검사기다.
+ * - 입력 길이에 비례하는 시간만 쓰고(백트래킹/lookahead 재탐색 없음), 상한 길이를 넘는 순간 멈춘다.
+ * - Matcher 객체를 만들지 않는다.
+ *
+ * 정규식과 맞춘 세부 동작 (SignupValidatorsFuzzTest가 무작위 입력으로 확인):
+ * - 길이는 code point 기준이다. (\S{9,15}는 surrogate pair를 한 글자로 센다)
+ * - \s, \d는 ASCII 기준이다. (UNICODE_CHARACTER_CLASS 미사용)
+ * - lookahead의 .*는 줄 끝 문자(U+0085, U+2028, U+2029)를 넘지 못한다.
+ *   → 영문/숫자/특수문자는 첫 줄 끝 문자보다 앞에 있어야 인정된다. (줄 끝 문자 자신은 특수문자로 인정)
+ */
+public final class SignupValidators {
+
+    public static final int PASSWORD_MIN = 9;
+    public static final int PASSWORD_MAX = 15;
+    public static final int NICKNAME_MIN = 2;
+    public static final int NICKNAME_MAX = 20;
+
+    private SignupValidators() {}
+
+    /**
+     * PASSWORD_REGEX: 9~15자, 영문+숫자+특수문자 각 1개 이상, 공백 금지
+     */
+    public static boolean isValidPassword(String password) {
+        if (password == null) {
+            return false;
+        }
+        int length = password.length();
+        if (length < PASSWORD_MIN || length > PASSWORD_MAX * 2) {
+            return false; // code point 수는 char 수 이하, char 수의 절반 이상
+        }
+
+        boolean letter = false;
+        boolean digit = false;
+        boolean special = false;
+        boolean pastLineEnd = false;
+        int count = 0;
+
+        for (int i = 0; i < length; ) {
+            int cp = password.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (++count > PASSWORD_MAX || isAsciiWhitespace(cp)) {
+                return false;
+            }
+            if (!pastLineEnd) {
+                if (isAsciiLetter(cp)) {
+                    letter = true;
+                } else if (cp >= '0' && cp <= '9') {
+                    digit = true;
+                } else {
+                    special = true;
+                }
+                pastLineEnd = isLineTerminator(cp);
+            }
+        }
+        return count >= PASSWORD_MIN && letter && digit && special;
+    }
+
+    /**
+     * NICKNAME_REGEX: 2~20자, 한글(가~힣)/영문/숫자/_ 만
+     */
+    public static boolean isValidNickname(String nickname) {
+        if (nickname == null) {
+            return false;
+        }
+        int length = nickname.length(); // 허용 문자는 모두 BMP → char 수 = code point 수
+        if (length < NICKNAME_MIN || length > NICKNAME_MAX) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isNicknameChar(nickname.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNicknameChar(char c) {
+        return isAsciiLetter(c)
+                || (c >= '0' && c <= '9')
+                || c == '_'
+                || (c >= '가' && c <= '힣');
+    }
+
+    private static boolean isAsciiLetter(int cp) {
+        return (cp >= 'a' && cp <= 'z') || (cp >= 'A' && cp <= 'Z');
+    }
+
+    // java.util.regex의 \s (ASCII): [ \t\n\x0B\f\r]
+    private static boolean isAsciiWhitespace(int cp) {
+        return cp == ' ' || (cp >= '\t' && cp <= '\r');
+    }
+
+    // .이 매치하지 않는 문자 중 \s가 아닌 것 (\n, \r은 위에서 이미 거부)
+    private static boolean isLineTerminator(int cp) {
+        return cp == '\u0085' || cp == '\u2028' || cp == '\u2029';
+    }
+}
@@ -0,0 +1,37 @@
+package com.kyonggi.backend.auth.identity.signup.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+/**
+ * 닉네임 규칙 Bean Validation 제약 (SignupValidators.isValidNickname)
+ * - null은 통과시킨다. (필수 여부는 @NotBlank가 담당)
+ * - 앞뒤 공백은 자르지 않는다. (trim이 필요하면 @Trim과 같이 쓴다)
+ */
+@Documented
+@Constraint(validatedBy = ValidNickname.Validator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidNickname {
+
+    String message() default "닉네임은 2~20자의 한글, 영문, 숫자, _ 만 사용할 수 있습니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validator implements ConstraintValidator<ValidNickname, String> {
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            return value == null || SignupValidators.isValidNickname(value);
+        }
+    }
+}
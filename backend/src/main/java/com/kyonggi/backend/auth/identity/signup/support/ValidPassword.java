@@ -0,0 +1,36 @@
+package com.kyonggi.backend.auth.identity.signup.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+/**
+ * 비밀번호 규칙 Bean Validation 제약 (SignupValidators.isValidPassword)
+ * - null은 통과시킨다. (필수 여부는 @NotBlank가 담당)
+ */
+@Documented
+@Constraint(validatedBy = ValidPassword.Validator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidPassword {
+
+    String message() default "비밀번호는 9~15자이며 영문, 숫자, 특수문자를 각각 1개 이상 포함해야 합니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validator implements ConstraintValidator<ValidPassword, String> {
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            return value == null || SignupValidators.isValidPassword(value);
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package com.kyonggi.backend.auth.identity.signup.web;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.kyonggi.backend.auth.identity.signup.dto.NicknameAvailabilityResponse;
 import com.kyonggi.backend.auth.identity.signup.dto.SignupCompleteRequest;
 import com.kyonggi.backend.auth.identity.signup.dto.SignupOtpRequest;
 import com.kyonggi.backend.auth.identity.signup.dto.SignupOtpVerifyRequest;
+import com.kyonggi.backend.auth.identity.signup.service.NicknameAvailabilityService;
 import com.kyonggi.backend.auth.identity.signup.service.SignupOtpService;
 import com.kyonggi.backend.auth.identity.signup.service.SignupService;
 
@@ -29,6 +34,7 @@ public class AuthSignupController {
 
     private final SignupOtpService otpService;
     private final SignupService signupService;
+    private final NicknameAvailabilityService nicknameAvailabilityService;
 
     // OTP 발급 요청: 204 No Content
     @PostMapping("/otp/request")
@@ -44,6 +50,14 @@ public class AuthSignupController {
         return ResponseEntity.noContent().build();
     }
 
+    // 닉네임 사용 가능 여부: 200 OK (참고용, 최종 판정은 가입 완료 시 DB 유니크 제약)
+    @GetMapping("/nickname-available")
+    public ResponseEntity<NicknameAvailabilityResponse> nicknameAvailable(@RequestParam(required = false) String nickname) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(nicknameAvailabilityService.check(nickname));
+    }
+
     // 회원가입 완료: 201 Created
     @PostMapping("/complete")
     public ResponseEntity<Void> complete(@RequestBody @Valid SignupCompleteRequest req) {
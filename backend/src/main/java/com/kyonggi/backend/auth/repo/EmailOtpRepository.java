@@ -1,12 +1,16 @@
 package com.kyonggi.backend.auth.repo;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.kyonggi.backend.auth.domain.EmailOtp;
 import com.kyonggi.backend.auth.domain.OtpPurpose;
@@ -44,4 +48,85 @@ public interface EmailOtpRepository extends JpaRepository<EmailOtp, Long> {
             @Param("email") String email,
             @Param("purpose") OtpPurpose purpose
     );
+
+    /**
+     * OTP 검증 성공 처리 (조건부 UPDATE 1문장)
+     *
+     * - 코드 해시 일치 + 미검증 + 미만료(expires_at >= now) + 실패 횟수 < max 인 경우에만 verified_at을 찍는다.
+     * - 조건 판정과 쓰기가 한 문장 안에서 끝나므로 별도의 SELECT ... FOR UPDATE가 필요 없다.
+     *   (InnoDB가 UPDATE 시점에 최신 커밋 버전으로 WHERE를 다시 평가한다)
+     *
+     * @return 영향받은 row 수 (1 = 검증 성공, 0 = 조건 불충족)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update EmailOtp e
+               set e.verifiedAt = :now
+             where e.email = :email
+               and e.purpose = :purpose
+               and e.verifiedAt is null
+               and e.codeHash = :codeHash
+               and e.expiresAt >= :now
+               and e.failedAttempts < :maxFailures
+            """)
+    int markVerifiedIfMatches(
+            @Param("email") String email,
+            @Param("purpose") OtpPurpose purpose,
+            @Param("codeHash") String codeHash,
+            @Param("now") LocalDateTime now,
+            @Param("maxFailures") int maxFailures
+    );
+
+    /**
+     * OTP 검증 실패 누적 (조건부 UPDATE 1문장)
+     *
+     * - 미검증 + 미만료 + 실패 횟수 < max 인 경우에만 failed_attempts를 +1 한다.
+     * - 동시 오답 요청이 몰려도 max를 넘겨서 카운트되지 않는다. (lost update / over-count 없음)
+     *
+     * @return 영향받은 row 수 (1 = 실패 누적됨, 0 = 이미 검증/만료/초과/없음)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update EmailOtp e
+               set e.failedAttempts = e.failedAttempts + 1
+             where e.email = :email
+               and e.purpose = :purpose
+               and e.verifiedAt is null
+               and e.expiresAt >= :now
+               and e.failedAttempts < :maxFailures
+            """)
+    int increaseFailureIfPending(
+            @Param("email") String email,
+            @Param("purpose") OtpPurpose purpose,
+            @Param("now") LocalDateTime now,
+            @Param("maxFailures") int maxFailures
+    );
+
+    /**
+     * 만료 + 일일 발송 제한 기간이 지난 OTP row 배치 삭제 (정리 배치 전용)
+     *
+     * - expires_at < :cutoff 범위를 idx_email_otp_expires_at으로 오래된 순서대로 훑고 LIMIT만큼만 지운다.
+     *   → 한 문장이 잡는 락/undo 양이 batch 크기로 제한된다.
+     * - send_count_date < :today 조건으로 "오늘 발송 횟수" 집계에 필요한 row는 남긴다. (daily-send-limit 유지)
+     * - 조회 후 id로 지우는 방식이 아니라 DELETE 한 문장이므로,
+     *   그 사이 재발급(reissue)된 row는 WHERE 재평가에서 빠진다.
+     *
+     * @return 삭제된 row 수 (limit보다 작으면 더 지울 게 없다)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            DELETE FROM email_otp
+             WHERE expires_at < :cutoff
+               AND send_count_date < :today
+             ORDER BY expires_at
+             LIMIT :limit
+            """, nativeQuery = true)
+    int deleteExpiredBatch(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("today") LocalDate today,
+            @Param("limit") int limit
+    );
 }
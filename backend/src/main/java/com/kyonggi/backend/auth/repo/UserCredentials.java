@@ -0,0 +1,17 @@
+package com.kyonggi.backend.auth.repo;
+
+import com.kyonggi.backend.auth.domain.UserRole;
+import com.kyonggi.backend.auth.domain.UserStatus;
+
+/**
+ * 로그인용 읽기 모델 (users 4개 컬럼만)
+ *
+ * - JPQL 생성자 표현식으로 만들어지므로 영속성 컨텍스트에 올라가지 않는다. (1차 캐시/스냅샷/dirty checking 없음)
+ * - uq_users_email 인덱스 한 번으로 끝나는 단건 조회
+ */
+public record UserCredentials(
+        Long id,
+        String passwordHash,
+        UserRole role,
+        UserStatus status
+) {}
@@ -3,7 +3,11 @@ package com.kyonggi.backend.auth.repo;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.kyonggi.backend.auth.domain.User;
 
@@ -13,4 +17,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
     
     Optional<User> findByEmail(String email);
+
+    /**
+     * 로그인 자격 증명만 조회 (엔티티를 만들지 않는 projection)
+     */
+    @Query("""
+            select new com.kyonggi.backend.auth.repo.UserCredentials(u.id, u.passwordHash, u.role, u.status)
+              from User u
+             where u.email = :email
+            """)
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * 비밀번호 재해시 반영 (로그인 시 해시 업그레이드)
+     * - 읽은 시점의 해시(oldHash)가 그대로일 때만 바꾼다. → 그 사이 비밀번호가 바뀌었으면 0 row
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update User u
+               set u.passwordHash = :newHash
+             where u.id = :id
+               and u.passwordHash = :oldHash
+            """)
+    int updatePasswordHashIfUnchanged(@Param("id") Long id,
+                                      @Param("oldHash") String oldHash,
+                                      @Param("newHash") String newHash);
 }
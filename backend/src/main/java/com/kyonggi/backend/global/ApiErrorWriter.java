@@ -0,0 +1,117 @@
+package com.kyonggi.backend.global;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 미리 직렬화한 ApiError 응답 쓰기 (HttpMessageConverter 우회)
+ *
+ * 비즈니스 오류는 거의 다 "ErrorCode + defaultMessage" 상수 조합이다.
+ * 그래서 기동 시 ErrorCode마다 ApiError JSON을 한 번만 직렬화해 두고, 요청마다 바이트를 그대로 쓴다.
+ * - 상수 본문: {"code":..,"message":..}
+ * - Retry-After 템플릿: {"code":..,"message":..,"retryAfterSeconds": + 숫자 + }
+ *   (ApiError 필드 순서 = code, message, retryAfterSeconds, details 이고 details가 없을 때만 쓴다)
+ *
+ * 메시지를 바꿨거나(messageOverride) details가 있는 오류는 false를 돌려주고, 호출자가 기존 Jackson 경로로 쓴다.
+ * 직렬화 결과는 같은 ObjectMapper로 만들므로 Jackson 경로와 바이트 단위로 같다. (ApiErrorWriterTest)
+ */
+@Component
+public class ApiErrorWriter {
+
+    private static final byte[] RETRY_AFTER_FIELD = ",\"retryAfterSeconds\":".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<ErrorCode, Body> bodies = new EnumMap<>(ErrorCode.class);
+
+    public ApiErrorWriter(ObjectMapper objectMapper) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            bodies.put(errorCode, Body.of(objectMapper, errorCode));
+        }
+    }
+
+    /**
+     * ApiException을 미리 직렬화한 본문으로 쓴다.
+     *
+     * @return 썼으면 true, 미리 만든 본문으로 표현할 수 없으면(메시지 변경/details) false
+     */
+    public boolean tryWrite(HttpServletResponse response, ApiException e) throws IOException {
+        if (e.getDetails() != null || !e.getErrorCode().defaultMessage().equals(e.getMessage())) {
+            return false;
+        }
+        write(response, e.getErrorCode(), e.getRetryAfterSeconds(), MediaType.APPLICATION_JSON_VALUE);
+        return true;
+    }
+
+    /**
+     * ErrorCode 기본 응답 (+ 선택적 Retry-After)
+     *
+     * @param contentType Content-Type 헤더 값 (Jackson 경로와 같은 값을 유지하려고 호출자가 정한다)
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode, Integer retryAfterSeconds, String contentType)
+            throws IOException {
+        byte[] payload = body(errorCode, retryAfterSeconds);
+
+        response.setStatus(errorCode.status().value());
+        if (retryAfterSeconds != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        }
+        response.setContentType(contentType);
+        response.setContentLength(payload.length);
+        response.getOutputStream().write(payload);
+    }
+
+    // 본문 바이트 (상수 본문 또는 Retry-After 템플릿)
+    byte[] body(ErrorCode errorCode, Integer retryAfterSeconds) {
+        return bodies.get(errorCode).render(retryAfterSeconds);
+    }
+
+    /**
+     * @param constant     retryAfterSeconds 없는 본문 전체
+     * @param retryPrefix  constant에서 닫는 '}'를 떼고 ,"retryAfterSeconds": 를 붙인 앞부분
+     */
+    private record Body(byte[] constant, byte[] retryPrefix) {
+
+        static Body of(ObjectMapper objectMapper, ErrorCode errorCode) {
+            byte[] constant;
+            try {
+                constant = objectMapper.writeValueAsBytes(ApiError.of(errorCode));
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("ApiError serialization failed: " + errorCode, ex);
+            }
+            if (constant.length == 0 || constant[constant.length - 1] != '}') {
+                throw new IllegalStateException("unexpected ApiError JSON for " + errorCode);
+            }
+
+            int open = constant.length - 1;
+            byte[] retryPrefix = new byte[open + RETRY_AFTER_FIELD.length];
+            System.arraycopy(constant, 0, retryPrefix, 0, open);
+            System.arraycopy(RETRY_AFTER_FIELD, 0, retryPrefix, open, RETRY_AFTER_FIELD.length);
+            return new Body(constant, retryPrefix);
+        }
+
+        byte[] render(Integer retryAfterSeconds) {
+            if (retryAfterSeconds == null) {
+                return constant;
+            }
+            String digits = Integer.toString(retryAfterSeconds);
+            byte[] out = new byte[retryPrefix.length + digits.length() + 1];
+            System.arraycopy(retryPrefix, 0, out, 0, retryPrefix.length);
+            int pos = retryPrefix.length;
+            for (int i = 0; i < digits.length(); i++) {
+                out[pos++] = (byte) digits.charAt(i); // 숫자/부호는 ASCII
+            }
+            out[pos] = '}';
+            return out;
+        }
+    }
+}
@@ -10,10 +10,19 @@ import lombok.Getter;
  * - 서비스/도메인 정책 위반을 ErrorCode로 표현한다.
  * - 전역 핸들러(GlobalExceptionHandler) / 보안 레이어(SecurityErrorWriter)가
  *   이 예외를 ApiError로 직렬화해 응답 포맷을 고정한다.
+ *
+ * 스택 트레이스:
+ * - 로그인 실패/OTP 불일치처럼 "예상된 결과"를 표현하는 예외라 기본은 스택 트레이스를 채우지 않는다.
+ *   (MVC/Security/Tomcat 프레임 100개 이상을 throw마다 수집하는 비용 → 공격자가 마음대로 유발 가능)
+ * - 디버깅이 필요하면 app.errors.stack-traces=true 로 다시 켠다. (ErrorConfig가 기동 시 반영)
+ * - 하위 클래스(SignupOtpService.OtpInvalidException 등)도 같은 생성자를 거치므로 동일하게 적용된다.
  */
 @Getter
 public class ApiException extends RuntimeException {
 
+    private static volatile boolean stackTraceEnabled = false;
+
+    private final ErrorCode errorCode;
     private final HttpStatus status; // ex: HttpStatus.UNAUTHORIZED
     private final String code;       // ex: "REFRESH_EXPIRED"
     private final Integer retryAfterSeconds;
@@ -42,17 +51,30 @@ public class ApiException extends RuntimeException {
 
     public ApiException(ErrorCode errorCode, String messageOverride, Integer retryAfterSeconds, Object details) {
         // super(...)는 첫 줄이어야 해서 errorCode null 검사보다 앞에 둘 수밖에 없음.
-        super(resolveMessage(errorCode, messageOverride));
+        super(resolveMessage(errorCode, messageOverride), null, false, stackTraceEnabled);
 
         if (errorCode == null) 
             throw new IllegalArgumentException("ErrorCode must not be null");
 
+        this.errorCode = errorCode;
         this.status = errorCode.status();
         this.code = errorCode.name();
         this.retryAfterSeconds = retryAfterSeconds;
         this.details = details;
     }
 
+    /**
+     * 스택 트레이스 수집 여부 (app.errors.stack-traces)
+     * - 이후에 생성되는 예외부터 적용된다.
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
     private static String resolveMessage(ErrorCode errorCode, String messageOverride) {
         if (messageOverride != null && !messageOverride.isBlank()) {
             return messageOverride;
@@ -50,12 +50,18 @@ public enum ErrorCode {
             "이메일 또는 비밀번호가 올바르지 않습니다."),
     ACCOUNT_DISABLED(HttpStatus.FORBIDDEN,
             "사용할 수 없는 계정 상태입니다."),
+    LOGIN_LOCKED(HttpStatus.TOO_MANY_REQUESTS,
+            "로그인 실패가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // Auth / Security
     AUTH_REQUIRED(HttpStatus.UNAUTHORIZED,
             "인증이 필요합니다."),
     ACCESS_INVALID(HttpStatus.UNAUTHORIZED,
             "엑세스 토큰이 유효하지 않습니다."),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN,
+            "접근 권한이 없습니다."),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE,
+            "로그인 요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
 
     // Refresh token
     REFRESH_INVALID(HttpStatus.UNAUTHORIZED,
@@ -71,6 +77,18 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.UNAUTHORIZED,
             "사용자를 찾을 수 없습니다."),
 
+    // Rate limit (요청 유입 단계 차단)
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS,
+            "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    REQUEST_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE,
+            "요청 본문이 너무 큽니다."),
+
+    // Mail (발송 인프라 포화/장애)
+    MAIL_DISPATCH_BUSY(HttpStatus.SERVICE_UNAVAILABLE,
+            "인증 메일 발송이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+    MAIL_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE,
+            "메일 서버 장애로 인증 메일을 보낼 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     // Validation / Common
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST,
             "요청 값이 올바르지 않습니다."),
@@ -0,0 +1,24 @@
+package com.kyonggi.backend.global;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전역 예외 설정
+ *
+ * - ApiException은 서비스 곳곳에서 new로 만들어지므로 빈 주입 대신 정적 스위치를 기동 시 한 번 맞춘다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ErrorProperties.class)
+public class ErrorConfig {
+
+    public ErrorConfig(ErrorProperties props) {
+        ApiException.setStackTraceEnabled(props.stackTraces());
+        if (props.stackTraces()) {
+            log.info("[errors] ApiException stack traces enabled (app.errors.stack-traces=true)");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.kyonggi.backend.global;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 예외/에러 응답 설정 (app.errors)
+ *
+ * - stackTraces: ApiException(예상된 비즈니스 오류)에 스택 트레이스를 채울지 여부. 기본 false
+ */
+@ConfigurationProperties(prefix = "app.errors")
+public record ErrorProperties(
+        boolean stackTraces
+) {}
@@ -1,7 +1,9 @@
 package com.kyonggi.backend.global;
 
+import java.io.IOException;
+
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
@@ -10,7 +12,9 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -20,7 +24,10 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+
+    private final ApiErrorWriter apiErrorWriter;
     
     /**
      * ApiException 전용 핸들러
@@ -28,9 +35,17 @@ public class GlobalExceptionHandler {
      * - 비즈니스 로직이 의도적으로 던진 예외를 처리한다.
      * - ApiException의 필드들(message/status/code/retryAfterSeconds/details)을 표준 응답(ApiError)로 변환
      * + retryAfterSeconds가 있으면 Retry-After 헤더도 같이 내려줌(특히 429)
+     *
+     * - 기본 메시지 + details 없음(대부분): ApiErrorWriter가 미리 직렬화한 바이트를 바로 쓰고 null 반환
+     *   (HttpServletResponse 인자가 있으므로 MVC는 응답이 처리된 것으로 본다)
+     * - 그 외: 기존처럼 ResponseEntity + Jackson
      */
     @ExceptionHandler(ApiException.class)
-    public ResponseEntity<ApiError> handleApiException(ApiException e) {
+    public ResponseEntity<ApiError> handleApiException(ApiException e, HttpServletResponse response) throws IOException {
+        if (apiErrorWriter.tryWrite(response, e)) {
+            return null;
+        }
+
         ResponseEntity.BodyBuilder builder = ResponseEntity.status(e.getStatus());
 
         if (e.getRetryAfterSeconds() != null) {
@@ -44,33 +59,33 @@ public class GlobalExceptionHandler {
      * @RequestBody + @Valid 검증 실패 (DTO 전체 단위 오류)
      * 
      * - DTO 필드 단위 오류
-     * - 응답은 VALIDATION_ERROR로 통일한다. (상세는 로그로만)
+     * - 응답은 VALIDATION_ERROR로 통일한다. (상세는 로그로만, 본문은 미리 직렬화한 상수)
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ApiError> handleMethodArgumentNotValid(MethodArgumentNotValidException e) {
+    public ResponseEntity<ApiError> handleMethodArgumentNotValid(MethodArgumentNotValidException e, HttpServletResponse response)
+            throws IOException {
 
         // 운영 기준: validation은 보통 warn이 적당함 (에러급 장애는 아님)
         e.getBindingResult().getFieldErrors()
                 .forEach(fe -> log.error("요청 검증 실패: field={}, message={}", fe.getField(), fe.getDefaultMessage()));
 
 
-        return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(ApiError.of(ErrorCode.VALIDATION_ERROR));
+        apiErrorWriter.write(response, ErrorCode.VALIDATION_ERROR, null, MediaType.APPLICATION_JSON_VALUE);
+        return null;
     }
 
     /**
      * @RequestParam / @PathVariable / @Validated 검증 실패(제약 위반)
      */
     @ExceptionHandler(ConstraintViolationException.class)
-    public ResponseEntity<ApiError> handleConstraintViolation(ConstraintViolationException e) {
+    public ResponseEntity<ApiError> handleConstraintViolation(ConstraintViolationException e, HttpServletResponse response)
+            throws IOException {
 
         e.getConstraintViolations()
                 .forEach(v -> log.error("요청 검증 실패: path={}, message={}", v.getPropertyPath(), v.getMessage()));
 
-        return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(ApiError.of(ErrorCode.VALIDATION_ERROR));
+        apiErrorWriter.write(response, ErrorCode.VALIDATION_ERROR, null, MediaType.APPLICATION_JSON_VALUE);
+        return null;
     }
 
     /**
@@ -0,0 +1,87 @@
+package com.kyonggi.backend.global.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (app.datasource.replica.enabled=true 일 때만)
+ *
+ * - primary: spring.datasource.* + spring.datasource.hikari.* (Boot 자동 구성과 같은 바인딩), 풀 이름 "primary"
+ *   (DataSourceProperties는 DataSourceAutoConfiguration이 등록한다. DataSource 빈이 있으면 풀 생성만 물러난다)
+ * - replica: app.datasource.replica.*, 풀 이름 "replica", 커넥션 read-only
+ * - @Primary DataSource = LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource)
+ *   → JPA/JdbcTemplate/트랜잭션 매니저/Flyway가 모두 이걸 쓴다.
+ * - replica는 ReplicaReads.read(...)로 opt-in 한 readOnly 조회만 쓴다. 나머지는 전부 primary
+ *
+ * 풀별 Hikari 메트릭(hikaricp.connections.*{pool=primary|replica})은 Boot가 HikariDataSource 빈마다 등록한다.
+ * 꺼져 있으면 이 설정은 통째로 빠지고 Boot 기본 단일 DataSource를 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties props) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.REPLICA);
+        dataSource.setJdbcUrl(props.url());
+        dataSource.setUsername(props.username());
+        dataSource.setPassword(props.password());
+        dataSource.setMaximumPoolSize(props.maximumPoolSize());
+        dataSource.setMinimumIdle(props.minimumIdle());
+        dataSource.setConnectionTimeout(props.connectionTimeoutMillis());
+        dataSource.setInitializationFailTimeout(-1); // replica가 없어도 앱은 뜬다 (읽기는 primary로)
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaDataSourceProperties props,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replica, props, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, meterRegistry);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primary,
+                ReadWriteRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,54 @@
+package com.kyonggi.backend.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 라우팅 힌트 + 트랜잭션 속성으로 커넥션 풀을 고르는 DataSource
+ *
+ * - ReplicaReads.read(...) 안의 readOnly 트랜잭션 → replica (명시적으로 opt-in 한 조회만)
+ * - 그 외(쓰기 트랜잭션, 힌트 없는 readOnly 트랜잭션 = Spring Data 조회 기본값/캐시 채우기/인증 경로,
+ *   트랜잭션 밖 JdbcTemplate/배치, Flyway) → primary
+ * - replica가 뒤처졌거나 닿지 않으면(ReplicaLagMonitor) 읽기 전용도 primary
+ *
+ * 트랜잭션 매니저는 readOnly 플래그를 세우기 전에 커넥션을 요청하므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 "첫 SQL 시점"에 고르게 한다. (ReadWriteRoutingConfig)
+ *
+ * 메트릭: db.routing{target=primary|replica}, replica 요청인데 primary로 보낸 경우 db.routing.fallback
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.primaryCounter = Counter.builder("db.routing").tag("target", PRIMARY).register(meterRegistry);
+        this.replicaCounter = Counter.builder("db.routing").tag("target", REPLICA).register(meterRegistry);
+        this.fallbackCounter = Counter.builder("db.routing.fallback")
+                .description("replica 지연/장애로 primary에서 처리한 읽기 전용 트랜잭션 커넥션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReplicaReads.isRequested() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (lagMonitor.isReplicaUsable()) {
+                replicaCounter.increment();
+                ReplicaReads.markServedByReplica();
+                return REPLICA;
+            }
+            fallbackCounter.increment();
+        }
+        primaryCounter.increment();
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,27 @@
+package com.kyonggi.backend.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 읽기 전용 복제본(replica) 설정 (app.datasource.replica.enabled=true 일 때만 바인딩)
+ *
+ * - 접속 계정에는 REPLICATION CLIENT 권한이 필요하다. (ReplicaLagMonitor가 SHOW REPLICA STATUS 로 지연을 본다)
+ * - maxLagSeconds를 넘거나 복제가 멈추면(지연 NULL) replica 요청(ReplicaReads)도 primary로 보낸다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        @NotBlank String url,
+        @NotBlank String username,
+        String password,
+        @Min(1) int maximumPoolSize,
+        @Min(0) int minimumIdle,
+        @Min(250) long connectionTimeoutMillis,
+        @Min(0) long maxLagSeconds,          // 이 이상 뒤처지면 primary로 (0 = 지연 없을 때만)
+        @Min(100) long lagCheckIntervalMillis // 지연 확인 주기 (그 사이 상태는 직전 값)
+) {}
@@ -0,0 +1,117 @@
+package com.kyonggi.backend.global.datasource;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * replica 복제 지연 감시 (SHOW REPLICA STATUS)
+ *
+ * - lag-check-interval마다 replica 풀로 Seconds_Behind_Source를 읽는다.
+ * - 사용 가능 = 조회 성공 && 값이 NULL 아님(복제 스레드 동작 중) && 값 <= max-lag-seconds
+ *   - 행이 없으면(복제 설정 없음) 사용하지 않는다. (영원히 옛 데이터를 읽지 않게)
+ *   - 조회 실패(연결 불가 등)도 사용하지 않는다. → 다음 확인에서 회복
+ * - 시작 전/첫 확인 전에는 사용하지 않는다. (start()에서 한 번 바로 확인)
+ *
+ * 메트릭: db.replica.lag_seconds (-1 = 알 수 없음), db.replica.usable (1/0)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private static final String STATUS_SQL = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final JdbcTemplate replicaJdbc;
+    private final ReplicaDataSourceProperties props;
+
+    private volatile boolean usable;
+    private volatile long lagSeconds = -1;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaDataSourceProperties props, MeterRegistry meterRegistry) {
+        this.replicaJdbc = new JdbcTemplate(replica);
+        this.props = props;
+
+        Gauge.builder("db.replica.lag_seconds", this, m -> m.lagSeconds)
+                .description("replica 복제 지연(초), -1 = 알 수 없음")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.usable", this, m -> m.usable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public long lagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * 지연 확인 (주기 실행, 테스트에서 직접 호출)
+     *
+     * @return 확인 후 사용 가능 여부
+     */
+    public boolean check() {
+        Long lag;
+        try {
+            lag = replicaJdbc.query(STATUS_SQL, rs -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                long value = rs.getLong(LAG_COLUMN);
+                return rs.wasNull() ? null : value;
+            });
+        } catch (RuntimeException e) {
+            lag = null;
+            log.warn("[replica] lag check failed: {}", e.toString());
+        }
+
+        boolean nowUsable = lag != null && lag <= props.maxLagSeconds();
+        if (nowUsable != usable) {
+            log.info("[replica] {} (lag={}s, max={}s)", nowUsable ? "reads routed to replica" : "reads fall back to primary",
+                    lag, props.maxLagSeconds());
+        }
+        lagSeconds = (lag == null) ? -1 : lag;
+        usable = nowUsable;
+        return nowUsable;
+    }
+
+    @Override
+    public void start() {
+        check();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "replica-lag-monitor");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = props.lagCheckIntervalMillis();
+        scheduler.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        usable = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,86 @@
+package com.kyonggi.backend.global.datasource;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * replica 읽기 opt-in (라우팅 힌트)
+ *
+ * - readOnly 트랜잭션이라고 replica로 가지 않는다. (Spring Data 조회 메서드 기본값이 readOnly라
+ *   캐시 채우기/인증 경로 조회까지 복제 지연된 데이터를 읽게 된다)
+ * - 복제 지연을 허용하는 조회만 read(...)로 감싸면 그 안의 readOnly 트랜잭션이 replica를 쓴다.
+ * - 바깥에 쓰기 트랜잭션이 있으면 거기에 합류하므로 primary 그대로다.
+ * - replica가 꺼져 있으면(app.datasource.replica.enabled=false) 힌트는 무시되고 그냥 readOnly 트랜잭션이다.
+ * - 결과를 오래 들고 있을 호출자(캐시 채우기)는 readTracked(...)로 실제로 replica가 답했는지 보고,
+ *   replica 값이면 캐시하지 않는다. (복제 지연된 값이 캐시 TTL 동안 남지 않게)
+ *
+ * 사용처: 닉네임 사용 가능 조회(NicknameAvailabilityService), /auth/me 캐시 miss 조회(MeService)
+ */
+@Component
+public class ReplicaReads {
+
+    private static final ThreadLocal<Hint> CURRENT = new ThreadLocal<>();
+
+    private final TransactionTemplate readOnlyTx;
+
+    public ReplicaReads(PlatformTransactionManager transactionManager) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 복제 지연을 허용하는 조회 실행 (readOnly 트랜잭션 + replica 힌트)
+     */
+    public <T> T read(Supplier<T> query) {
+        return readTracked(query).value();
+    }
+
+    /**
+     * read(...)와 같고, 조회가 실제로 replica 커넥션을 썼는지 함께 돌려준다.
+     */
+    public <T> Read<T> readTracked(Supplier<T> query) {
+        Hint previous = CURRENT.get();
+        Hint hint = new Hint();
+        CURRENT.set(hint);
+        try {
+            T value = readOnlyTx.execute(status -> query.get());
+            return new Read<>(value, hint.servedByReplica);
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                previous.servedByReplica |= hint.servedByReplica; // 중첩 read가 커넥션을 잡았으면 바깥도 replica 값
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드가 read(...) 안에 있으면 true
+     */
+    static boolean isRequested() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 라우팅 DataSource가 replica 커넥션을 골랐을 때 호출한다.
+     */
+    static void markServedByReplica() {
+        Hint hint = CURRENT.get();
+        if (hint != null) {
+            hint.servedByReplica = true;
+        }
+    }
+
+    /**
+     * @param fromReplica true면 복제 지연이 있을 수 있는 값
+     */
+    public record Read<T>(T value, boolean fromReplica) {}
+
+    private static final class Hint {
+        private boolean servedByReplica;
+    }
+}
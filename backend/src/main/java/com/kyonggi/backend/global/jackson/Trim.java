@@ -0,0 +1,24 @@
+package com.kyonggi.backend.global.jackson;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * 요청 바디의 문자열 필드 앞뒤 공백을 제거한다. (TrimStringDeserializer)
+ *
+ * - 전역 등록이 아니라 표시한 필드에만 적용된다. (이메일 등 식별자용)
+ * - 비밀번호처럼 공백도 값의 일부인 필드에는 붙이지 않는다.
+ *
+ * 사용: record LoginRequest(@Trim @Email @NotBlank String email, ...)
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonDeserialize(using = TrimStringDeserializer.class)
+public @interface Trim {
+}
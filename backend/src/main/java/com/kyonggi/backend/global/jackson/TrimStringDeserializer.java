@@ -3,20 +3,45 @@ package com.kyonggi.backend.global.jackson;
 import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 
 /**
- * 문자열 입력을 trim 처리하는 역직렬화기.
+ * 문자열 입력을 trim 처리하는 역직렬화기. (필드에는 @Trim으로 붙인다)
  *
  * - DTO 레벨에서 공백만 제거하고 싶을 때 사용한다.
  * - null은 그대로 null 유지한다.
+ * - 문자열 토큰은 파서의 원본 char 버퍼(getTextCharacters/offset/length)에서 앞뒤 공백을 먼저 찾는다.
+ *   - 자를 게 없으면(대부분) 파서가 만드는 문자열(getText)을 그대로 돌려준다.
+ *   - 자를 게 있으면 버퍼의 잘린 구간으로 문자열을 한 번만 만든다. (getText + trim의 중간 문자열 없음)
+ * - 공백 기준은 String.trim()과 같다. (코드 포인트 <= U+0020)
  */
 public class TrimStringDeserializer extends JsonDeserializer<String> {
 
     @Override
     public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        String v = p.getValueAsString();
-        return v == null ? null : v.trim();
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            String v = p.getValueAsString(); // 숫자/불리언 등 스칼라 → 문자열
+            return v == null ? null : v.trim();
+        }
+
+        char[] buf = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        int end = offset + p.getTextLength();
+
+        int start = offset;
+        while (start < end && buf[start] <= ' ') {
+            start++;
+        }
+        int stop = end;
+        while (stop > start && buf[stop - 1] <= ' ') {
+            stop--;
+        }
+
+        if (start == offset && stop == end) {
+            return p.getText();
+        }
+        return new String(buf, start, stop - start);
     }
 }
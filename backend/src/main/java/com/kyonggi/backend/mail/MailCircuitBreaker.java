@@ -0,0 +1,261 @@
+package com.kyonggi.backend.mail;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SMTP 회로 차단기 (CLOSED → OPEN → HALF_OPEN → CLOSED)
+ *
+ * SMTP 서버가 죽거나 느려지면 발송마다 타임아웃까지 기다리게 되고,
+ * 그 동안 워커/연결을 쥐고 있어서 장애가 커진다. 실패가 몰리면 아예 시도를 멈춘다.
+ *
+ * - CLOSED: 최근 windowSize번(ring buffer)의 결과로 실패율/느린 호출 비율을 계산한다.
+ *   minimumCalls 이상 쌓였고 어느 하나라도 임계치 이상이면 OPEN
+ * - OPEN: tryAcquire()가 false → relay는 claim 없이 건너뛴다. (outbox row는 PENDING으로 대기, attempts 소모 없음)
+ *   요청 단계(ensureAvailable)는 503 MAIL_UNAVAILABLE + Retry-After(남은 OPEN 시간)
+ * - HALF_OPEN: openSeconds가 지나면 halfOpenProbes번만 시험 호출을 허용한다.
+ *   모두 성공하면 CLOSED(윈도우 초기화), 하나라도 실패/느리면 다시 OPEN
+ *
+ * "호출 1번" = SMTP 발송 1회(send 호출, batch면 batch 전체)
+ * - 연결/인증 실패처럼 batch 전체가 실패한 경우만 실패로 본다. (수신자 거부 같은 메일 단위 실패는 SMTP 장애가 아님)
+ * - OPEN 시간은 Clock 기준, 느린 호출 판정은 실제 경과 시간(nanoTime) 기준
+ *
+ * 메트릭:
+ * - mail.circuit.state : 0=CLOSED, 1=OPEN, 2=HALF_OPEN (gauge)
+ * - mail.circuit.transition{to} : 상태 전이 횟수
+ * - mail.circuit.calls{outcome=success|failure|slow} : 기록된 호출 결과
+ * - mail.circuit.rejected : OPEN이라 시도하지 않은 횟수 (relay 건너뜀 + 요청 503)
+ */
+@Slf4j
+@Component
+public class MailCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final MailCircuitBreakerProperties props;
+    private final Clock clock;
+
+    // ring buffer (CLOSED 상태의 최근 호출 결과)
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failedCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private Instant openUntil = Instant.MIN;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private final Map<State, Counter> transitionCounters = new EnumMap<>(State.class);
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter slowCounter;
+    private final Counter rejectedCounter;
+
+    public MailCircuitBreaker(MailCircuitBreakerProperties props, Clock clock, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.clock = clock;
+        this.failed = new boolean[props.windowSize()];
+        this.slow = new boolean[props.windowSize()];
+
+        Gauge.builder("mail.circuit.state", this, b -> b.state().ordinal())
+                .description("SMTP 회로 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+        for (State s : State.values()) {
+            transitionCounters.put(s, Counter.builder("mail.circuit.transition")
+                    .tag("to", s.name())
+                    .register(meterRegistry));
+        }
+        this.successCounter = Counter.builder("mail.circuit.calls").tag("outcome", "success").register(meterRegistry);
+        this.failureCounter = Counter.builder("mail.circuit.calls").tag("outcome", "failure").register(meterRegistry);
+        this.slowCounter = Counter.builder("mail.circuit.calls").tag("outcome", "slow").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("mail.circuit.rejected")
+                .description("회로가 열려 있어 SMTP를 시도하지 않은 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 단계 검사: 회로가 열려 있으면 OTP를 발급하지 않고 바로 503
+     * - OPEN 시간이 끝났으면(HALF_OPEN 대기) 통과시킨다. 시험 발송은 relay가 한다.
+     */
+    public synchronized void ensureAvailable() {
+        if (!props.enabled() || state != State.OPEN) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (!now.isBefore(openUntil)) {
+            return;
+        }
+        rejectedCounter.increment();
+        long remainingMillis = Duration.between(now, openUntil).toMillis();
+        int retryAfter = (int) Math.max(1, (remainingMillis + 999) / 1000);
+        throw new ApiException(ErrorCode.MAIL_UNAVAILABLE, retryAfter);
+    }
+
+    /**
+     * 허가를 잡지 않고 "지금 호출하면 허가될지"만 본다.
+     * - relay는 이걸로 claim 여부를 정하고, 실제로 메일을 집은 뒤에 tryAcquire()로 허가를 잡는다.
+     *   (claim 쿼리가 실패해도 돌려줘야 할 허가가 없다)
+     */
+    public synchronized boolean isCallPermitted() {
+        if (!props.enabled()) {
+            return true;
+        }
+        advanceIfOpenExpired();
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> probesInFlight + probeSuccesses < props.halfOpenProbes();
+            case OPEN -> {
+                rejectedCounter.increment();
+                yield false;
+            }
+        };
+    }
+
+    /**
+     * SMTP 호출 허가
+     * - true를 받았으면 반드시 onSuccess/onFailure/onIgnored 중 하나로 결과를 알려야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!props.enabled()) {
+            return true;
+        }
+        advanceIfOpenExpired();
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> {
+                if (probesInFlight + probeSuccesses >= props.halfOpenProbes()) {
+                    yield false;
+                }
+                probesInFlight++;
+                yield true;
+            }
+            case OPEN -> {
+                rejectedCounter.increment();
+                yield false;
+            }
+        };
+    }
+
+    public void onSuccess(long elapsedNanos) {
+        boolean isSlow = elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(props.slowCallDurationMillis());
+        (isSlow ? slowCounter : successCounter).increment();
+        record(false, isSlow);
+    }
+
+    public void onFailure(long elapsedNanos) {
+        failureCounter.increment();
+        record(true, elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(props.slowCallDurationMillis()));
+    }
+
+    /**
+     * 허가를 받았지만 실제로 SMTP를 호출하지 않은 경우 (보낼 메일이 없었음 등)
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * 강제로 CLOSED + 윈도우 초기화 (운영 수동 복구/테스트용)
+     */
+    public synchronized void reset() {
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        } else {
+            clearWindow();
+        }
+    }
+
+    private synchronized void record(boolean isFailure, boolean isSlow) {
+        if (!props.enabled()) {
+            return;
+        }
+        switch (state) {
+            case CLOSED -> {
+                if (recorded == failed.length) {
+                    failedCount -= failed[next] ? 1 : 0;
+                    slowCount -= slow[next] ? 1 : 0;
+                } else {
+                    recorded++;
+                }
+                failed[next] = isFailure;
+                slow[next] = isSlow;
+                failedCount += isFailure ? 1 : 0;
+                slowCount += isSlow ? 1 : 0;
+                next = (next + 1) % failed.length;
+
+                if (recorded >= props.minimumCalls()
+                        && (failedCount * 100 >= props.failureRateThreshold() * recorded
+                            || slowCount * 100 >= props.slowCallRateThreshold() * recorded)) {
+                    log.error("[mail-circuit] OPEN: failures={}/{}, slow={}/{}", failedCount, recorded, slowCount, recorded);
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+                if (isFailure || isSlow) {
+                    log.warn("[mail-circuit] probe failed, OPEN again");
+                    transitionTo(State.OPEN);
+                } else if (++probeSuccesses >= props.halfOpenProbes()) {
+                    log.info("[mail-circuit] probes succeeded, CLOSED");
+                    transitionTo(State.CLOSED);
+                }
+            }
+            default -> {
+                // OPEN 중에 끝난 늦은 호출 결과는 무시
+            }
+        }
+    }
+
+    private void advanceIfOpenExpired() {
+        if (state == State.OPEN && !clock.instant().isBefore(openUntil)) {
+            transitionTo(State.HALF_OPEN);
+        }
+    }
+
+    private void transitionTo(State to) {
+        state = to;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (to == State.OPEN) {
+            openUntil = clock.instant().plusSeconds(props.openSeconds());
+        }
+        if (to == State.CLOSED) {
+            clearWindow();
+        }
+        transitionCounters.get(to).increment();
+    }
+
+    private void clearWindow() {
+        next = 0;
+        recorded = 0;
+        failedCount = 0;
+        slowCount = 0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.kyonggi.backend.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * SMTP 회로 차단기(MailCircuitBreaker) 설정
+ *
+ * - 최근 windowSize번의 SMTP 호출 중 실패/느린 호출 비율이 임계치를 넘으면 OPEN
+ * - OPEN 동안은 SMTP를 건드리지 않는다. (OTP 요청은 503, outbox 메일은 PENDING으로 대기)
+ * - openSeconds가 지나면 HALF_OPEN: halfOpenProbes번만 시험 발송해서 닫을지/다시 열지 결정
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.mail.circuit-breaker")
+public record MailCircuitBreakerProperties(
+        boolean enabled,                            // false면 항상 CLOSED (판정/차단 안 함)
+        @Min(1) int windowSize,                     // 최근 N번의 호출 결과로 비율을 계산
+        @Min(1) int minimumCalls,                   // 이보다 적게 기록됐으면 판정하지 않는다
+        @Min(1) @Max(100) int failureRateThreshold, // 실패 비율(%) 임계치
+        @Min(1) @Max(100) int slowCallRateThreshold, // 느린 호출 비율(%) 임계치
+        @Min(1) long slowCallDurationMillis,        // 이보다 오래 걸린 호출은 "느린 호출"
+        @Min(1) int openSeconds,                    // OPEN 유지 시간 (= 503 Retry-After 상한)
+        @Min(1) int halfOpenProbes                  // HALF_OPEN에서 허용하는 시험 호출 수
+) {}
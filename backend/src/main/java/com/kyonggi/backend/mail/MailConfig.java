@@ -0,0 +1,76 @@
+package com.kyonggi.backend.mail;
+
+import java.security.SecureRandom;
+import java.util.Properties;
+
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.util.StringUtils;
+
+import com.kyonggi.backend.mail.outbox.MailBodyCipher;
+import com.kyonggi.backend.mail.outbox.MailOutboxProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메일 인프라 설정
+ * - app.mail.* 프로퍼티 바인딩/검증을 활성화한다.
+ * - outbox 본문 암호화기(MailBodyCipher)를 등록한다.
+ * - JavaMailSender를 직접 등록한다. (spring.mail.* 는 그대로 사용)
+ *   → 빈이 있으면 Boot의 MailSenderAutoConfiguration이 물러나므로 MailProperties 바인딩도 여기서 켠다.
+ */
+@Configuration
+@EnableConfigurationProperties({
+        MailProperties.class,
+        MailDispatchProperties.class,
+        MailCircuitBreakerProperties.class,
+        MailOutboxProperties.class,
+        MailTransportPoolProperties.class
+})
+public class MailConfig {
+
+    @Bean
+    public MailBodyCipher mailBodyCipher(MailOutboxProperties props, SecureRandom secureRandom) {
+        return new MailBodyCipher(props.encryptionSecret(), secureRandom);
+    }
+
+    @Bean
+    public JavaMailSenderImpl javaMailSender(
+            MailProperties mailProperties,
+            MailTransportPoolProperties poolProperties,
+            MeterRegistry meterRegistry
+    ) {
+        JavaMailSenderImpl sender = poolProperties.enabled()
+                ? new PooledJavaMailSender(poolProperties, meterRegistry)
+                : new JavaMailSenderImpl();
+        applyProperties(mailProperties, sender);
+        return sender;
+    }
+
+    // Boot MailSenderPropertiesConfiguration과 같은 방식으로 spring.mail.* 를 적용
+    private static void applyProperties(MailProperties properties, JavaMailSenderImpl sender) {
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        if (properties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        }
+
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(properties.getProperties());
+        String protocol = StringUtils.hasLength(properties.getProtocol()) ? properties.getProtocol() : "smtp";
+        if (properties.getSsl().isEnabled()) {
+            javaMailProperties.setProperty("mail." + protocol + ".ssl.enable", "true");
+        }
+        if (!javaMailProperties.isEmpty()) {
+            sender.setJavaMailProperties(javaMailProperties);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.kyonggi.backend.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 메일 비동기 발송(dispatch) 설정
+ *
+ * - 요청 스레드는 DB 커밋까지만 책임지고, SMTP 대화는 전용 워커가 처리한다.
+ * - 큐/워커 수를 고정해 SMTP가 느려져도 메모리/스레드가 무한히 늘지 않게 한다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.mail.dispatch")
+public record MailDispatchProperties(
+        @Min(1) int workers,                 // 동시에 SMTP 대화를 하는 워커 수
+        @Min(1) int queueCapacity,           // 대기 큐 최대 길이
+        boolean virtualThreads,              // 워커를 가상 스레드로 만들지 여부
+        @NotNull Overflow overflow,          // 큐가 가득 찼을 때 정책
+        @Min(0) int retryAfterSeconds,       // REJECT(503) 응답의 Retry-After
+        @Min(0) long shutdownTimeoutSeconds  // 종료 시 남은 큐를 비울 때까지 기다리는 최대 시간
+) {
+
+    /**
+     * 큐 포화 시 정책
+     * - REJECT: 요청 단계에서 503(MAIL_DISPATCH_BUSY)으로 거절한다. (OTP row를 만들지 않음)
+     * - CALLER_RUNS: 거절하지 않고 호출 스레드가 직접 보낸다. (응답이 느려지는 대신 유실 없음)
+     */
+    public enum Overflow {
+        REJECT,
+        CALLER_RUNS
+    }
+}
@@ -0,0 +1,156 @@
+package com.kyonggi.backend.mail;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.mail.MailDispatchProperties.Overflow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 비동기 발송기 (bounded queue + 고정 워커)
+ *
+ * - AFTER_COMMIT 리스너가 여기로 발송 작업을 넘기고 바로 반환한다.
+ *   → /auth/signup/otp/request 응답 지연 = DB 커밋까지 (SMTP 대화 시간 제외)
+ * - 큐가 가득 차면 Overflow 정책을 따른다.
+ *   - REJECT: 서비스가 ensureCapacity()로 "요청 단계"에서 503을 낸다.
+ *     그래도 커밋 이후 큐가 차 있으면(경합) 작업만 버리고 카운트한다.
+ *     → 메일은 mail_outbox에 남아 있으므로 MailOutboxRelay 폴링이 보낸다.
+ *   - CALLER_RUNS: 호출 스레드가 직접 보낸다. (느려지지만 유실 없음)
+ * - 종료(DisposableBean): 새 작업을 막고, 남은 큐를 shutdown-timeout까지 비운다.
+ *   destroy()는 웹 서버가 먼저 멈춘 뒤에 호출되므로 종료 중 새로 들어오는 작업은 없다.
+ *
+ * 메트릭:
+ * - mail.dispatch.queue.size / mail.dispatch.active (gauge)
+ * - mail.dispatch.wait  : 큐 대기 시간
+ * - mail.dispatch.send  : 실제 발송 시간 (outcome=success|failure)
+ * - mail.dispatch.rejected : 큐 포화로 버린 작업 수
+ */
+@Slf4j
+@Component
+public class MailDispatcher implements DisposableBean {
+
+    private final MailDispatchProperties props;
+    private final ThreadPoolExecutor executor;
+    private final BlockingQueue<Runnable> queue;
+
+    private final Timer waitTimer;
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+    private final Counter rejectedCounter;
+
+    public MailDispatcher(MailDispatchProperties props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(props.queueCapacity());
+        this.executor = new ThreadPoolExecutor(
+                props.workers(), props.workers(),
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                threadFactory(props.virtualThreads()),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("mail.dispatch.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.dispatch.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("발송 중인 워커 수")
+                .register(meterRegistry);
+
+        this.waitTimer = Timer.builder("mail.dispatch.wait")
+                .description("큐 대기 시간")
+                .register(meterRegistry);
+        this.sendSuccessTimer = Timer.builder("mail.dispatch.send")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.sendFailureTimer = Timer.builder("mail.dispatch.send")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("mail.dispatch.rejected")
+                .description("큐 포화로 버린 발송 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 단계 back-pressure 검사 (REJECT 정책에서만 의미가 있다)
+     * - 트랜잭션/DB 작업 전에 호출해서, 보낼 수 없는 OTP를 발급하지 않게 한다.
+     */
+    public void ensureCapacity() {
+        if (props.overflow() == Overflow.REJECT && queue.remainingCapacity() == 0) {
+            rejectedCounter.increment();
+            throw new ApiException(ErrorCode.MAIL_DISPATCH_BUSY, props.retryAfterSeconds());
+        }
+    }
+
+    /**
+     * 발송 작업 등록
+     *
+     * @param kind 로그/진단용 작업 이름 (예: "signup-otp")
+     * @param send 실제 발송 (예외는 여기서 잡아서 메트릭/로그로만 남긴다)
+     */
+    public void dispatch(String kind, Runnable send) {
+        long enqueuedAt = System.nanoTime();
+        Runnable task = () -> run(kind, send, enqueuedAt);
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (props.overflow() == Overflow.CALLER_RUNS && !executor.isShutdown()) {
+                task.run();
+                return;
+            }
+            rejectedCounter.increment();
+            log.error("[mail] dispatch queue full, dropped kind={} queue={}", kind, queue.size());
+        }
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    private void run(String kind, Runnable send, long enqueuedAt) {
+        long startedAt = System.nanoTime();
+        waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+            send.run();
+            sendSuccessTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            sendFailureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.warn("[mail] send failed kind={}: {}", kind, e.toString());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(props.shutdownTimeoutSeconds(), TimeUnit.SECONDS)) {
+            int dropped = executor.shutdownNow().size();
+            log.warn("[mail] shutdown timeout, dropped {} queued mail(s)", dropped);
+        }
+    }
+
+    private static ThreadFactory threadFactory(boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name("mail-dispatch-", 0).factory();
+        }
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "mail-dispatch-" + seq.getAndIncrement());
+            t.setDaemon(false); // 종료 시 drain 대상이므로 daemon이 아니다
+            return t;
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.kyonggi.backend.mail;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * SMTP 연결 풀 설정 (PooledJavaMailSender)
+ *
+ * - maxConnections는 동시에 발송하는 스레드 수(dispatch workers + relay)보다 크게 잡을 필요가 없다.
+ * - idleTimeoutSeconds는 SMTP 서버의 유휴 연결 종료 시간보다 짧게 잡는다. (보통 서버 쪽이 1~5분)
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.mail.pool")
+public record MailTransportPoolProperties(
+        boolean enabled,                    // false면 기본 JavaMailSenderImpl (send마다 새 연결)
+        @Min(1) int maxConnections,         // 동시에 유지/사용하는 최대 SMTP 연결 수
+        @Min(1) int idleTimeoutSeconds,     // 이 시간 이상 쉰 연결은 확인 없이 닫고 새로 연다
+        @Min(0) long validateAfterIdleMillis, // 이 시간 이상 쉰 연결은 빌릴 때 NOOP으로 확인
+        @Min(1) long borrowTimeoutMillis    // 연결이 모두 사용 중일 때 기다리는 최대 시간
+) {}
@@ -0,0 +1,249 @@
+package com.kyonggi.backend.mail;
+
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SMTP 연결 재사용 JavaMailSender
+ *
+ * 기본 JavaMailSenderImpl은 send() 호출마다 연결 → EHLO/STARTTLS/AUTH → 발송 → QUIT 을 반복한다.
+ * OTP 메일은 본문이 작아서 이 핸드셰이크 비용이 발송 시간의 대부분이다.
+ *
+ * - 인증까지 끝난 Transport를 최대 maxConnections개까지 풀에 보관하고, send()마다 빌려 쓴다.
+ * - 한 번 빌린 연결로 batch(send(SimpleMailMessage...))를 연속으로 보낸다.
+ *   (기본 구현처럼 메일마다 NOOP으로 연결 확인을 하지 않는다)
+ * - health check: 유휴 시간이 validateAfterIdle을 넘긴 연결만 빌릴 때 isConnected()(NOOP)로 확인한다.
+ * - idle timeout: idleTimeout 이상 쉬던 연결은 서버가 끊었을 가능성이 높으므로 확인 없이 닫고 새로 연다.
+ * - 발송 중 I/O 오류(SendFailedException 외)는 연결 불량으로 보고 버린 뒤 남은 메일은 새 연결로 보낸다.
+ * - 새 연결(재연결 포함)이 실패하면 아직 보내지 않은 메일만 실패로 보고한다.
+ *   (batch 첫 메일 전에 인증이 실패한 경우만 JavaMailSenderImpl처럼 MailAuthenticationException)
+ *
+ * 실패 보고 형식(MailSendException.getFailedMessages)은 JavaMailSenderImpl과 동일하게 유지한다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private final Semaphore permits;
+    private final Deque<PooledTransport> idle = new ArrayDeque<>();
+    private final long idleTimeoutNanos;
+    private final long validateAfterIdleNanos;
+    private final long borrowTimeoutMillis;
+
+    private final Counter openedCounter;
+    private final Counter discardedCounter;
+
+    private volatile boolean closed;
+
+    public PooledJavaMailSender(MailTransportPoolProperties props, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(props.maxConnections(), true);
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(props.idleTimeoutSeconds());
+        this.validateAfterIdleNanos = TimeUnit.MILLISECONDS.toNanos(props.validateAfterIdleMillis());
+        this.borrowTimeoutMillis = props.borrowTimeoutMillis();
+
+        this.openedCounter = Counter.builder("mail.smtp.connections.opened")
+                .description("새로 연 SMTP 연결 수 (핸드셰이크 횟수)")
+                .register(meterRegistry);
+        this.discardedCounter = Counter.builder("mail.smtp.connections.discarded")
+                .description("불량/유휴 초과로 닫은 SMTP 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.smtp.connections.idle", this, PooledJavaMailSender::idleCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        acquirePermit();
+
+        PooledTransport pooled = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                if (pooled == null) {
+                    try {
+                        pooled = borrow();
+                    } catch (AuthenticationFailedException ex) {
+                        if (i == 0) {
+                            throw new MailAuthenticationException(ex);
+                        }
+                        // 재연결 중 인증 실패: 이미 보낸 메일은 실패로 보고하지 않는다.
+                        failRemaining(failedMessages, mimeMessages, originalMessages, i, ex);
+                        throw new MailSendException("Mail server authentication failed", ex, failedMessages);
+                    } catch (MessagingException ex) {
+                        failRemaining(failedMessages, mimeMessages, originalMessages, i, ex);
+                        throw new MailSendException("Mail server connection failed", ex, failedMessages);
+                    }
+                }
+
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    prepare(mimeMessage);
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    pooled.transport.sendMessage(mimeMessage, (addresses != null ? addresses : new Address[0]));
+                } catch (SendFailedException ex) {
+                    // 수신자 거부 등 메시지 단위 실패: 연결은 그대로 쓴다.
+                    failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+                } catch (MessagingException ex) {
+                    // 연결 불량 가능성: 버리고 다음 메일은 새 연결로
+                    failedMessages.put(original(mimeMessages, originalMessages, i), ex);
+                    discard(pooled);
+                    pooled = null;
+                }
+            }
+        } finally {
+            if (pooled != null) {
+                giveBack(pooled);
+            }
+            permits.release();
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * 현재 유휴 연결 수 (진단/테스트용)
+     */
+    public int idleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    /**
+     * 유휴 연결을 모두 닫는다. (사용 중인 연결은 반납 시점에 다시 풀로 들어온다)
+     */
+    public void evictIdle() {
+        synchronized (idle) {
+            idle.forEach(this::closeQuietly);
+            idle.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        evictIdle();
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("SMTP connection pool exhausted (waited " + borrowTimeoutMillis + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for SMTP connection", e);
+        }
+    }
+
+    /**
+     * 유휴 연결 재사용 (LIFO: 가장 최근에 쓴 연결부터) → 없으면 새로 연결
+     */
+    private PooledTransport borrow() throws MessagingException {
+        long now = System.nanoTime();
+        while (true) {
+            PooledTransport candidate;
+            synchronized (idle) {
+                candidate = idle.pollFirst();
+            }
+            if (candidate == null) {
+                break;
+            }
+
+            long idleNanos = now - candidate.lastUsedNanos;
+            if (idleNanos >= idleTimeoutNanos) {
+                discard(candidate);
+                continue;
+            }
+            if (idleNanos >= validateAfterIdleNanos && !candidate.transport.isConnected()) {
+                discard(candidate);
+                continue;
+            }
+            return candidate;
+        }
+
+        Transport transport = connectTransport();
+        openedCounter.increment();
+        return new PooledTransport(transport);
+    }
+
+    private void giveBack(PooledTransport pooled) {
+        if (closed) {
+            closeQuietly(pooled);
+            return;
+        }
+        pooled.lastUsedNanos = System.nanoTime();
+        synchronized (idle) {
+            idle.offerFirst(pooled);
+        }
+    }
+
+    private void discard(PooledTransport pooled) {
+        discardedCounter.increment();
+        closeQuietly(pooled);
+    }
+
+    private void closeQuietly(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("[mail] SMTP close failed: {}", e.toString());
+        }
+    }
+
+    // JavaMailSenderImpl.doSend와 같은 전처리 (Date/Message-ID 유지)
+    private static void prepare(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+    }
+
+    private static void failRemaining(Map<Object, Exception> failedMessages, MimeMessage[] mimeMessages,
+                                      Object[] originalMessages, int from, Exception ex) {
+        for (int j = from; j < mimeMessages.length; j++) {
+            failedMessages.put(original(mimeMessages, originalMessages, j), ex);
+        }
+    }
+
+    private static Object original(MimeMessage[] mimeMessages, Object[] originalMessages, int i) {
+        return (originalMessages != null) ? originalMessages[i] : mimeMessages[i];
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private long lastUsedNanos;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsedNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.kyonggi.backend.mail.outbox;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * outbox 본문 암호화 (AES-256-GCM)
+ *
+ * - 키: HMAC-SHA256(secret, "mail-outbox/aes-gcm") → 32바이트 (설정 문자열을 그대로 키로 쓰지 않는다)
+ * - 저장 형식: iv(12) || ciphertext+tag
+ * - GCM 태그로 무결성까지 검사하므로, DB에서 본문이 바뀌면 복호화가 실패한다.
+ */
+public class MailBodyCipher {
+
+    private static final String KEY_LABEL = "mail-outbox/aes-gcm";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec key;
+    private final SecureRandom random;
+
+    public MailBodyCipher(String secret, SecureRandom random) {
+        this.key = new SecretKeySpec(deriveKey(secret), "AES");
+        this.random = random;
+    }
+
+    public byte[] encrypt(String plain) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8));
+
+            return ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt outbox body", e);
+        }
+    }
+
+    public String decrypt(byte[] stored) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, stored, 0, IV_LENGTH));
+            byte[] plain = cipher.doFinal(stored, IV_LENGTH, stored.length - IV_LENGTH);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to decrypt outbox body", e);
+        }
+    }
+
+    private static byte[] deriveKey(String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(KEY_LABEL.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive outbox key", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.kyonggi.backend.mail.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * mail_outbox 테이블 매핑 엔티티
+ *
+ * - 업무 트랜잭션 안에서 저장된다. → 커밋되면 "언젠가 반드시 발송 시도된다"가 보장된다.
+ * - 본문은 암호문(bodyCipher)만 저장한다. (OTP 원문을 평문으로 DB에 남기지 않는다)
+ * - claim(): relay가 집어갈 때 attempts+1, next_attempt_at을 lease만큼 미룬다.
+ *   → 발송 도중 인스턴스가 죽어도 lease가 지나면 다른 relay가 다시 집어간다. (at-least-once)
+ * - version(@Version): lease가 지난 뒤 늦게 끝난 relay의 결과 기록은 버전 충돌로 실패한다.
+ *   (다시 집어간 relay의 status/attempts/next_attempt_at을 덮어쓰지 않는다)
+ */
+@Getter
+@Entity
+@Table(name = "mail_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String kind; // 예: signup-otp (메트릭/로그용)
+
+    @Column(nullable = false, length = 255)
+    private String recipient;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    @Column(name = "body_cipher", length = 2048)
+    private byte[] bodyCipher; // iv || AES-GCM ciphertext, 발송 완료 후 null
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    public static MailOutbox pending(String kind, String recipient, String subject, byte[] bodyCipher, LocalDateTime now) {
+        MailOutbox m = new MailOutbox();
+        m.kind = kind;
+        m.recipient = recipient;
+        m.subject = subject;
+        m.bodyCipher = bodyCipher;
+        m.status = MailOutboxStatus.PENDING;
+        m.attempts = 0;
+        m.nextAttemptAt = now;
+        m.createdAt = now;
+        return m;
+    }
+
+    // relay가 발송 대상으로 집어감: 시도 횟수 +1, lease 동안 다른 relay가 못 집게 미뤄둔다.
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts += 1;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // claim을 되돌림: 회로 허가를 못 받아 보내지 않은 경우 (시도 횟수를 소모하지 않고 바로 다시 대상이 된다)
+    public void unclaim(LocalDateTime now) {
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.nextAttemptAt = now;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = MailOutboxStatus.SENT;
+        this.sentAt = now;
+        this.bodyCipher = null; // 보낸 뒤에는 본문(OTP)을 남기지 않는다
+        this.lastError = null;
+    }
+
+    // 실패: 재시도 가능하면 retryAt에 다시, 한도를 넘으면 DEAD
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = (error == null || error.length() <= MAX_ERROR_LENGTH)
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH);
+        if (attempts >= maxAttempts) {
+            this.status = MailOutboxStatus.DEAD;
+            this.bodyCipher = null;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+
+    public boolean isDead() {
+        return status == MailOutboxStatus.DEAD;
+    }
+}
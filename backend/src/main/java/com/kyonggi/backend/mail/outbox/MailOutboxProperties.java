@@ -0,0 +1,27 @@
+package com.kyonggi.backend.mail.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 메일 outbox / relay 설정
+ *
+ * - 재시도 간격: backoffBaseSeconds * 2^(attempts-1), 최대 backoffMaxSeconds
+ * - maxAttempts를 넘기면 DEAD (더 이상 자동 재시도하지 않음)
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.mail.outbox")
+public record MailOutboxProperties(
+        @NotBlank @Size(min = 32) String encryptionSecret, // 본문 암호화 키 유도용 비밀값
+        @Min(100) long pollIntervalMillis,   // relay 폴링 주기 (커밋 직후 fast path를 놓친 메일/재시도 담당)
+        @Min(1) int batchSize,               // 한 번에 claim 하는 최대 메일 수 (SMTP 연결 1개로 보냄)
+        @Min(1) int leaseSeconds,            // claim 후 다른 relay가 못 집는 시간 (발송 중 장애 대비)
+        @Min(1) int maxAttempts,             // 최대 시도 횟수 (초과 시 DEAD)
+        @Min(1) int backoffBaseSeconds,      // 첫 재시도 대기
+        @Min(1) int backoffMaxSeconds,       // 재시도 대기 상한
+        @Min(1) int retentionHours           // SENT row 보관 시간
+) {}
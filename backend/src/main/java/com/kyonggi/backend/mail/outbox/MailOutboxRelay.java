@@ -0,0 +1,319 @@
+package com.kyonggi.backend.mail.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.mail.MailCircuitBreaker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox relay (claim → 발송 → 결과 기록)
+ *
+ * 1) claim 트랜잭션: SELECT ... FOR UPDATE SKIP LOCKED로 batch를 잠그고 attempts+1, lease를 찍고 바로 커밋
+ *    → SMTP 대화 동안 row 락/DB 커넥션을 쥐고 있지 않는다.
+ * 2) 발송: batch 전체를 JavaMailSender.send(messages...)로 한 번에 보낸다. (SMTP 연결 1개 재사용)
+ *    부분 실패는 MailSendException.getFailedMessages()로 메일별로 구분한다.
+ * 3) 결과 트랜잭션: 성공은 SENT(본문 삭제), 실패는 backoff 후 재시도 / 한도 초과 시 DEAD
+ *    row마다 트랜잭션을 따로 쓴다. 발송이 lease보다 오래 걸려 다른 relay가 다시 집어간 row는
+ *    버전(@Version)이 달라 쓰기가 실패하고, 그 row의 결과만 버린다. (나머지 row 결과는 그대로 반영)
+ *
+ * 경로:
+ * - deliver(id): 업무 트랜잭션 커밋 직후 MailDispatcher 워커가 호출하는 fast path (폴링 지연 없음)
+ * - poll(): 주기 폴링. fast path를 놓친 메일(큐 포화/장애/재시작), 재시도 대상을 처리한다.
+ * 두 경로가 같은 row를 동시에 집어도 SKIP LOCKED + lease 때문에 한쪽만 보낸다.
+ *
+ * 회로 차단(MailCircuitBreaker):
+ * - claim 전에 isCallPermitted()로 확인만 한다. 회로가 열려 있으면 claim 하지 않으므로 메일은 PENDING으로 대기하고
+ *   attempts도 소모하지 않는다. (OPEN 시간이 지나면 poll()이 시험 발송 → 성공 시 밀린 메일을 보낸다)
+ * - 허가(tryAcquire)는 메일을 실제로 집은 뒤에 잡는다. claim 쿼리가 실패해도 HALF_OPEN 시험 허가가 새지 않는다.
+ *   허가를 못 받으면(다른 시험 발송과 경합) claim을 되돌린다.
+ * - 허가를 잡은 뒤에는 어떤 예외가 나도 결과(성공/실패/무시)를 반드시 알린다.
+ * - batch 전체 실패(연결/인증 오류)는 실패, 오래 걸린 발송은 느린 호출로 기록한다.
+ *
+ * 메트릭:
+ * - mail.outbox.sent / mail.outbox.retry / mail.outbox.dead (counter)
+ * - mail.outbox.lease_lost : lease가 지나 다른 relay가 다시 집어가서 결과를 버린 메일 수
+ * - mail.outbox.delivery : 적재(created_at) → 발송 완료까지 end-to-end 지연
+ * - mail.outbox.batch    : batch 1회 SMTP 발송 시간 (처리량 = sent / batch 누적 시간)
+ */
+@Slf4j
+@Component
+public class MailOutboxRelay {
+
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private final MailOutboxRepository outboxRepository;
+    private final MailBodyCipher cipher;
+    private final JavaMailSender mailSender;
+    private final MailCircuitBreaker circuitBreaker;
+    private final MailOutboxProperties props;
+    private final Clock clock;
+    private final TransactionTemplate tx;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+    private final Counter leaseLostCounter;
+    private final Timer deliveryTimer;
+    private final Timer batchTimer;
+
+    public MailOutboxRelay(
+            MailOutboxRepository outboxRepository,
+            MailBodyCipher cipher,
+            JavaMailSender mailSender,
+            MailCircuitBreaker circuitBreaker,
+            MailOutboxProperties props,
+            Clock clock,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.cipher = cipher;
+        this.mailSender = mailSender;
+        this.circuitBreaker = circuitBreaker;
+        this.props = props;
+        this.clock = clock;
+        this.tx = new TransactionTemplate(transactionManager);
+
+        this.sentCounter = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.retryCounter = Counter.builder("mail.outbox.retry").register(meterRegistry);
+        this.deadCounter = Counter.builder("mail.outbox.dead").register(meterRegistry);
+        this.leaseLostCounter = Counter.builder("mail.outbox.lease_lost")
+                .description("lease 만료 후 다른 relay가 다시 집어가서 기록하지 못한 결과 수")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("mail.outbox.delivery")
+                .description("outbox 적재부터 발송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("mail.outbox.batch")
+                .description("claim한 batch를 SMTP로 보내는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋 직후 단건 발송 (fast path)
+     */
+    public void deliver(Long outboxId) {
+        if (!circuitBreaker.isCallPermitted()) {
+            return; // 회로 OPEN: outbox에 남겨두고 poll()에 맡긴다
+        }
+        List<MailOutbox> claimed = claim(() -> outboxRepository.lockDueById(outboxId, LocalDateTime.now(clock)));
+        if (!claimed.isEmpty()) {
+            sendWithPermit(claimed);
+        }
+    }
+
+    /**
+     * 주기 폴링: 발송 가능한 batch가 없을 때까지(최대 MAX_BATCHES_PER_POLL) 반복
+     *
+     * @return 이번 폴링에서 처리(성공/실패 포함)한 메일 수
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-millis}",
+               initialDelayString = "${app.mail.outbox.poll-interval-millis}")
+    public int poll() {
+        int processed = 0;
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                if (!circuitBreaker.isCallPermitted()) {
+                    break;
+                }
+                List<MailOutbox> batch = claim(() -> outboxRepository.lockDueBatch(LocalDateTime.now(clock), props.batchSize()));
+                if (batch.isEmpty() || !sendWithPermit(batch)) {
+                    break;
+                }
+                processed += batch.size();
+                if (batch.size() < props.batchSize()) {
+                    break;
+                }
+            }
+            purgeSent();
+        } catch (RuntimeException e) {
+            log.warn("[mail-outbox] poll failed: {}", e.toString());
+        }
+        return processed;
+    }
+
+    private List<MailOutbox> claim(Supplier<List<MailOutbox>> locker) {
+        return tx.execute(status -> {
+            List<MailOutbox> rows = locker.get();
+            LocalDateTime leaseUntil = LocalDateTime.now(clock).plusSeconds(props.leaseSeconds());
+            rows.forEach(m -> m.claim(leaseUntil));
+            return rows;
+        });
+    }
+
+    /**
+     * 집은 메일에 대해 회로 허가를 잡고 보낸다.
+     *
+     * @return 보냈으면 true, 허가를 못 받아 claim을 되돌렸으면 false
+     */
+    private boolean sendWithPermit(List<MailOutbox> claimed) {
+        if (!circuitBreaker.tryAcquire()) {
+            unclaim(claimed);
+            return false;
+        }
+        send(claimed);
+        return true;
+    }
+
+    private void unclaim(List<MailOutbox> claimed) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (MailOutbox m : claimed) {
+            m.unclaim(now);
+            saveIfLeaseHeld(m);
+        }
+    }
+
+    // 호출 전 허가를 잡은 상태여야 한다. 회로에는 어떤 경로로 끝나도 결과를 정확히 한 번 알린다.
+    private void send(List<MailOutbox> batch) {
+        Sent sent;
+        try {
+            sent = sendBatch(batch);
+        } catch (RuntimeException e) {
+            circuitBreaker.onIgnored(); // 결과를 알리기 전에 실패: 허가만 돌려준다
+            throw e;
+        }
+        record(sent.succeeded(), sent.failures());
+    }
+
+    // SMTP 발송 + 메일별 결과 분류. 마지막 문장에서 회로에 결과를 알린다.
+    private Sent sendBatch(List<MailOutbox> batch) {
+        List<SimpleMailMessage> messages = new ArrayList<>(batch.size());
+        List<MailOutbox> sendable = new ArrayList<>(batch.size());
+        List<Failure> failures = new ArrayList<>();
+
+        for (MailOutbox m : batch) {
+            try {
+                messages.add(toMessage(m));
+                sendable.add(m);
+            } catch (RuntimeException e) {
+                failures.add(new Failure(m, e)); // 복호화 실패 등: 재시도해도 소용없지만 한도까지는 재시도 후 DEAD
+            }
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+        Exception batchError = null;
+        long startedAt = System.nanoTime();
+        try {
+            if (!messages.isEmpty()) {
+                mailSender.send(messages.toArray(SimpleMailMessage[]::new));
+            }
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            batchError = failedMessages.isEmpty() ? e : null;
+        } catch (MailException e) {
+            batchError = e; // 연결/인증 실패 등: batch 전체 실패
+        } catch (RuntimeException e) {
+            batchError = e; // 예상 못 한 오류도 batch 전체 실패로 기록 (허가를 잡고 있으므로 결과를 남긴다)
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        List<MailOutbox> succeeded = new ArrayList<>(sendable.size());
+        for (int i = 0; i < sendable.size(); i++) {
+            Exception error = (batchError != null) ? batchError : failedMessages.get(messages.get(i));
+            if (error == null) {
+                succeeded.add(sendable.get(i));
+            } else {
+                failures.add(new Failure(sendable.get(i), error));
+            }
+        }
+
+        if (messages.isEmpty()) {
+            circuitBreaker.onIgnored();
+        } else if (batchError != null || failedMessages.size() == messages.size()) {
+            circuitBreaker.onFailure(elapsedNanos);
+        } else {
+            circuitBreaker.onSuccess(elapsedNanos);
+        }
+        return new Sent(succeeded, failures);
+    }
+
+    private void record(List<MailOutbox> succeeded, List<Failure> failures) {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        for (MailOutbox m : succeeded) {
+            m.markSent(now);
+            if (saveIfLeaseHeld(m)) {
+                sentCounter.increment();
+                deliveryTimer.record(Duration.between(m.getCreatedAt(), now));
+            }
+        }
+        for (Failure f : failures) {
+            MailOutbox m = f.mail();
+            m.markFailed(f.error().toString(), now.plus(backoff(m.getAttempts())), props.maxAttempts());
+            if (!saveIfLeaseHeld(m)) {
+                continue;
+            }
+            if (m.isDead()) {
+                deadCounter.increment();
+                log.error("[mail-outbox] dead id={} kind={} attempts={} error={}",
+                        m.getId(), m.getKind(), m.getAttempts(), m.getLastError());
+            } else {
+                retryCounter.increment();
+                log.warn("[mail-outbox] send failed id={} kind={} attempts={} nextAttemptAt={} error={}",
+                        m.getId(), m.getKind(), m.getAttempts(), m.getNextAttemptAt(), m.getLastError());
+            }
+        }
+    }
+
+    /**
+     * claim 때 읽은 버전 그대로일 때만 저장한다.
+     *
+     * @return 저장했으면 true, lease가 지나 다른 relay가 이미 다시 집어갔으면(버전 충돌) false
+     */
+    private boolean saveIfLeaseHeld(MailOutbox m) {
+        try {
+            tx.executeWithoutResult(status -> outboxRepository.save(m));
+            return true;
+        } catch (OptimisticLockingFailureException e) {
+            leaseLostCounter.increment();
+            log.warn("[mail-outbox] lease lost id={} kind={} attempts={}: another relay re-claimed it",
+                    m.getId(), m.getKind(), m.getAttempts());
+            return false;
+        }
+    }
+
+    private SimpleMailMessage toMessage(MailOutbox m) {
+        SimpleMailMessage msg = new SimpleMailMessage();
+        msg.setTo(m.getRecipient());
+        msg.setSubject(m.getSubject());
+        msg.setText(cipher.decrypt(m.getBodyCipher()));
+        return msg;
+    }
+
+    // base * 2^(attempts-1), 상한 backoffMaxSeconds
+    private Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        long seconds = Math.min((long) props.backoffBaseSeconds() << shift, props.backoffMaxSeconds());
+        return Duration.ofSeconds(seconds);
+    }
+
+    private void purgeSent() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusHours(props.retentionHours());
+        outboxRepository.deleteSentBefore(cutoff, props.batchSize());
+    }
+
+    private record Failure(MailOutbox mail, Exception error) {}
+
+    private record Sent(List<MailOutbox> succeeded, List<Failure> failures) {}
+}
@@ -0,0 +1,63 @@
+package com.kyonggi.backend.mail.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 발송 대상 batch claim (relay 전용)
+     *
+     * - FOR UPDATE SKIP LOCKED: 다른 relay(다른 인스턴스/스레드)가 잠근 row는 기다리지 않고 건너뛴다.
+     *   → relay를 여러 개 띄워도 같은 메일을 동시에 집지 않고, 서로 락 대기도 하지 않는다.
+     * - idx_mail_outbox_status_next_attempt 범위 스캔 (status = PENDING, next_attempt_at <= now)
+     * - 반드시 트랜잭션 안에서 호출하고, 같은 트랜잭션에서 claim()으로 lease를 찍어 커밋해야 한다.
+     */
+    @Query(value = """
+            SELECT *
+              FROM mail_outbox
+             WHERE status = 'PENDING'
+               AND next_attempt_at <= :now
+             ORDER BY next_attempt_at
+             LIMIT :limit
+               FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<MailOutbox> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 단건 claim (커밋 직후 fast path 전용)
+     * - 이미 relay가 집어갔거나(lease 중) 발송이 끝났으면 빈 결과
+     */
+    @Query(value = """
+            SELECT *
+              FROM mail_outbox
+             WHERE id = :id
+               AND status = 'PENDING'
+               AND next_attempt_at <= :now
+               FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<MailOutbox> lockDueById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 발송 완료 row 정리 (보관 기간이 지난 것만, batch 단위)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM mail_outbox
+             WHERE status = 'SENT'
+               AND sent_at < :cutoff
+             LIMIT :limit
+            """, nativeQuery = true)
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    long countByStatus(MailOutboxStatus status);
+}
@@ -0,0 +1,35 @@
+package com.kyonggi.backend.mail.outbox;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 적재 (업무 트랜잭션 참여 전용)
+ *
+ * - Propagation.MANDATORY: 반드시 호출자의 트랜잭션 안에서 저장된다.
+ *   → 업무 데이터(예: OTP)와 발송 예약이 함께 커밋/롤백된다.
+ * - 본문은 암호화해서 저장한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository outboxRepository;
+    private final MailBodyCipher cipher;
+    private final Clock clock;
+
+    /**
+     * @return outbox id (커밋 이후 MailOutboxRelay.deliver(id)로 즉시 발송을 시도할 때 쓴다)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long enqueue(String kind, String recipient, String subject, String body) {
+        MailOutbox mail = MailOutbox.pending(kind, recipient, subject, cipher.encrypt(body), LocalDateTime.now(clock));
+        return outboxRepository.save(mail).getId();
+    }
+}
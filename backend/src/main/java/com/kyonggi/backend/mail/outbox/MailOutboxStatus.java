@@ -0,0 +1,13 @@
+package com.kyonggi.backend.mail.outbox;
+
+/**
+ * outbox 메일 상태
+ * - PENDING: 발송 대기 (next_attempt_at 이후 relay가 집어간다)
+ * - SENT: 발송 완료 (본문 암호문은 지운다)
+ * - DEAD: 재시도 한도 초과 (수동 확인 대상)
+ */
+public enum MailOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
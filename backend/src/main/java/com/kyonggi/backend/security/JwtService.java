@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
  
 import com.kyonggi.backend.auth.config.AuthProperties;
 import com.kyonggi.backend.auth.domain.UserRole; 
+import com.kyonggi.backend.global.ApiException;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
@@ -127,10 +128,12 @@ public class JwtService {
     /**
      * HTTP를 모르는 "JWT 검증 실패" 도메인 예외.
      * - Filter에서 잡아서 401 ApiError로 변환한다.
+     * - 위조/만료 토큰은 누구나 보낼 수 있으므로 ApiException과 같이 스택 트레이스를 채우지 않는다.
+     *   (원인 JwtException은 cause로 남는다)
      */
     public static class InvalidJwtException extends RuntimeException {
         public InvalidJwtException(String message, Throwable cause) {
-            super(message, cause);
+            super(message, cause, false, ApiException.isStackTraceEnabled());
         }
     }
 
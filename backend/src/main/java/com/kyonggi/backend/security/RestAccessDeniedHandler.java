@@ -0,0 +1,33 @@
+package com.kyonggi.backend.security;
+
+import java.io.IOException;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.access.AccessDeniedHandler;
+
+import com.kyonggi.backend.global.ErrorCode;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인증은 됐지만 권한(ROLE_*)이 부족할 때 호출되는 핸들러.
+ *
+ * - 예: USER 토큰으로 /admin/** (MASTER 전용) 접근 → 403 ACCESS_DENIED
+ * - 인증 자체가 없으면 RestAuthEntryPoint(401 AUTH_REQUIRED)가 먼저 처리한다.
+ */
+@RequiredArgsConstructor
+public class RestAccessDeniedHandler implements AccessDeniedHandler {
+
+    private final SecurityErrorWriter errorWriter;
+
+    @Override
+    public void handle(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            AccessDeniedException accessDeniedException) throws IOException {
+
+        errorWriter.write(response, ErrorCode.ACCESS_DENIED);
+    }
+}
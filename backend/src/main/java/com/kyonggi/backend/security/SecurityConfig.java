@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
  *
  * - JWT 인증: JwtAuthenticationFilter
  * - 인증 필요 리소스 접근 시 인증 없으면: RestAuthEntryPoint (AUTH_REQUIRED)
+ * - 인증은 됐지만 권한이 부족하면: RestAccessDeniedHandler (ACCESS_DENIED)
  * - 토큰은 있는데 invalid면: JwtAuthenticationFilter (ACCESS_INVALID)
  * 
  *  1) @Configuration 
@@ -44,6 +45,11 @@ public class SecurityConfig {
         return new RestAuthEntryPoint(securityErrorWriter);
     }
 
+    @Bean
+    RestAccessDeniedHandler restAccessDeniedHandler() {
+        return new RestAccessDeniedHandler(securityErrorWriter);
+    }
+
     @Bean
     JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter(jwtService, securityErrorWriter);
@@ -60,7 +66,10 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 
                 // 인증 실패(= 인증 없이 보호 리소스 접근) 응답 방식 커스터마이즈 - 401 Unauthorized
-                .exceptionHandling(eh -> eh.authenticationEntryPoint(restAuthEntryPoint()))
+                // 권한 부족(= 인증은 됐지만 ROLE 부족) - 403 Forbidden
+                .exceptionHandling(eh -> eh
+                        .authenticationEntryPoint(restAuthEntryPoint())
+                        .accessDeniedHandler(restAccessDeniedHandler()))
 
                 // JWT 필터 등록: UsernamePasswordAuthenticationFilter 전에 실행되도록 설정
                 .addFilterBefore(
@@ -79,6 +88,9 @@ public class SecurityConfig {
                         .requestMatchers("/auth/refresh").permitAll()
                         .requestMatchers("/auth/logout").permitAll()
 
+                        // 관리자 전용 (일괄 가입 등)
+                        .requestMatchers("/admin/**").hasRole("MASTER")
+
                         // 공개 조회 API (예시)
                         .requestMatchers(HttpMethod.GET, "/posts/**", "/categories/**").permitAll()
                         
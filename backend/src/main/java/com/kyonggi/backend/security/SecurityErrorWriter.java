@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kyonggi.backend.global.ApiError;
+import com.kyonggi.backend.global.ApiErrorWriter;
 import com.kyonggi.backend.global.ErrorCode;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -25,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 public class SecurityErrorWriter {
     
     private final ObjectMapper objectMapper;
+    private final ApiErrorWriter apiErrorWriter;
 
     public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
         write(response, errorCode, errorCode.defaultMessage());
@@ -40,8 +42,15 @@ public class SecurityErrorWriter {
         response.setHeader("Cache-Control", "no-store");
         response.setHeader("Pragma", "no-cache");
 
-        response.setStatus(errorCode.status().value());
         response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        // 기본 메시지(대부분): 미리 직렬화한 본문 (Content-Type은 위 charset이 유지된다)
+        if (errorCode.defaultMessage().equals(messageOverride)) {
+            apiErrorWriter.write(response, errorCode, null, MediaType.APPLICATION_JSON_VALUE);
+            return;
+        }
+
+        response.setStatus(errorCode.status().value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         
         objectMapper.writeValue(
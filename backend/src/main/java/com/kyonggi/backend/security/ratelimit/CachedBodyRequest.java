@@ -0,0 +1,125 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * 요청 바디 앞부분(prefix)을 미리 읽어두고, 이후 소비자에게 "원래 바디 그대로" 다시 흘려주는 래퍼
+ *
+ * - Rate limit 필터가 email을 꺼내려면 컨트롤러보다 먼저 바디를 읽어야 한다.
+ * - maxBytes까지만 메모리에 올리고, 그 뒤는 원래 스트림에서 이어서 읽는다. (큰 바디도 안전하게 전달)
+ * - 비동기 읽기(setReadListener): 바디가 전부 캐시에 있으면 바로 onDataAvailable → onAllDataRead를 호출하고,
+ *   남은 바디가 있으면 원래 스트림에 리스너를 넘긴다. (read()가 캐시부터 비우므로 순서는 그대로)
+ */
+class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] prefix;
+    private final boolean complete; // prefix가 바디 전체인지 여부
+    private ServletInputStream stream;
+
+    private CachedBodyRequest(HttpServletRequest request, byte[] prefix, boolean complete) {
+        super(request);
+        this.prefix = prefix;
+        this.complete = complete;
+    }
+
+    static CachedBodyRequest wrap(HttpServletRequest request, int maxBytes) throws IOException {
+        byte[] read = request.getInputStream().readNBytes(maxBytes + 1);
+        boolean complete = read.length <= maxBytes;
+        return new CachedBodyRequest(request, read, complete);
+    }
+
+    /**
+     * 미리 읽어둔 바디. 바디가 maxBytes보다 크면 null (부분 JSON은 파싱하지 않는다)
+     */
+    byte[] cachedBody() {
+        return complete ? prefix : null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (stream == null) {
+            stream = new PrefixedInputStream(prefix, complete ? null : super.getInputStream());
+        }
+        return stream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String enc = getCharacterEncoding();
+        Charset charset = (enc == null) ? StandardCharsets.UTF_8 : Charset.forName(enc);
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    private static final class PrefixedInputStream extends ServletInputStream {
+        private final ByteArrayInputStream head;
+        private final ServletInputStream tail;
+        private boolean listening;
+
+        private PrefixedInputStream(byte[] prefix, ServletInputStream tail) {
+            this.head = new ByteArrayInputStream(prefix);
+            this.tail = tail;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = head.read();
+            if (b >= 0 || tail == null) {
+                return b;
+            }
+            return tail.read();
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            int n = head.read(buf, off, len);
+            if (n > 0 || tail == null) {
+                return n;
+            }
+            return tail.read(buf, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return head.available() == 0 && (tail == null || tail.isFinished());
+        }
+
+        @Override
+        public boolean isReady() {
+            return head.available() > 0 || tail == null || tail.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            if (readListener == null) {
+                throw new NullPointerException("readListener");
+            }
+            if (listening) {
+                throw new IllegalStateException("ReadListener is already set");
+            }
+            listening = true;
+
+            if (tail != null) {
+                tail.setReadListener(readListener);
+                return;
+            }
+            try {
+                if (head.available() > 0) {
+                    readListener.onDataAvailable();
+                }
+                readListener.onAllDataRead();
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
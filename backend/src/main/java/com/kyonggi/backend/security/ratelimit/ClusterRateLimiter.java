@@ -0,0 +1,283 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.security.ratelimit.RateLimitProperties.Cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 공유 Rate Limit (MySQL rate_limit_counters + 로컬 near-cache)
+ *
+ * - 판단은 항상 로컬에서 한다: (이전 윈도우 전역 카운트 * 남은 비율) + 현재 윈도우 전역 카운트 + 아직 안 보낸 로컬 증가분
+ *   → 고정 윈도우 2개로 슬라이딩 윈도우를 근사한다.
+ * - DB와는 sync 주기마다 한 번만 대화한다.
+ *   1) 키별 로컬 증가분을 INSERT ... ON DUPLICATE KEY UPDATE count = count + delta 로 배치 반영
+ *   2) 추적 중인 키들의 (현재/이전 윈도우) 전역 카운트를 다시 읽어 near-cache 갱신
+ *   → DB 쓰기는 "요청당 1회"가 아니라 "키당 sync 주기당 1회"
+ * - sync 주기 동안 다른 노드의 증가분은 보이지 않으므로, 한도는 최대 (노드 수 * 주기 내 요청) 만큼 느슨해질 수 있다.
+ *
+ * 윈도우 경계는 모든 노드가 같은 벽시계(Clock) 기준 epoch seconds로 맞춘다.
+ *
+ * 실패 격리:
+ * - bucket_key 컬럼 길이(191자)를 넘는 키는 DB에 보내지 않는다. (로컬 판단만)
+ * - 배치 반영은 한 트랜잭션으로 하고, 실패하면 롤백 후 row 단위로 다시 반영한다.
+ *   → 문제 row 하나만 버리고 나머지 증가분, 재조회, purge는 그대로 진행된다.
+ */
+@Slf4j
+public class ClusterRateLimiter implements SmartLifecycle {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO rate_limit_counters (bucket_key, window_start, count)
+            VALUES (?, ?, ?) AS n
+            ON DUPLICATE KEY UPDATE count = rate_limit_counters.count + n.count
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT bucket_key, window_start, count
+              FROM rate_limit_counters
+             WHERE window_start IN (:windows)
+               AND bucket_key IN (:keys)
+            """;
+
+    private static final String PURGE_SQL =
+            "DELETE FROM rate_limit_counters WHERE window_start < ? LIMIT 1000";
+
+    static final int MAX_KEY_LENGTH = 191; // rate_limit_counters.bucket_key VARCHAR(191)
+
+    private static final int READ_CHUNK = 500;
+    private static final int PURGE_EVERY_SYNCS = 60;
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate tx;
+    private final Clock clock;
+    private final long windowSeconds;
+    private final long syncIntervalMillis;
+
+    private final ConcurrentHashMap<String, KeyState> states = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<WindowKey, Integer> carryOver = new ConcurrentHashMap<>(); // 윈도우가 넘어가며 남은 미전송분
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+    private long syncCount;
+
+    public ClusterRateLimiter(JdbcTemplate jdbc, Clock clock, Cluster cluster) {
+        this.jdbc = jdbc;
+        this.namedJdbc = new NamedParameterJdbcTemplate(jdbc);
+        this.tx = new TransactionTemplate(new DataSourceTransactionManager(jdbc.getDataSource()));
+        this.clock = clock;
+        this.windowSeconds = cluster.windowSeconds();
+        this.syncIntervalMillis = cluster.syncIntervalMillis();
+    }
+
+    /**
+     * 1회 소비 시도
+     *
+     * @return 0이면 허용, 양수면 재시도까지 남은 시간(ms)
+     */
+    public long tryAcquire(String key, int limit) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            return 0L; // 공유 카운터에 저장할 수 없는 키: 로컬 버킷 판단만 따른다
+        }
+        long nowMillis = clock.millis();
+        long window = windowOf(nowMillis);
+
+        while (true) {
+            KeyState s = states.computeIfAbsent(key, k -> new KeyState(window));
+            synchronized (s) {
+                if (s.evicted) {
+                    continue; // sync()가 막 제거한 상태 → 새로 만들어서 다시 시도
+                }
+                s.roll(key, window);
+                s.lastSeenWindow = window;
+
+                double elapsed = (nowMillis - window * 1000L) / (windowSeconds * 1000.0d);
+                double estimate = s.prevCount * (1.0d - elapsed) + s.currCount + s.pending;
+                if (estimate + 1.0d > limit) {
+                    return Math.max(1000L, (window + windowSeconds) * 1000L - nowMillis);
+                }
+                s.pending++;
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 로컬 증가분 배치 반영 + 전역 카운트 재조회
+     */
+    public synchronized void sync() {
+        long window = windowOf(clock.millis());
+        List<Object[]> upserts = new ArrayList<>();
+
+        for (WindowKey wk : carryOver.keySet()) {
+            Integer delta = carryOver.remove(wk);
+            if (delta != null && delta > 0) {
+                upserts.add(new Object[] {wk.key(), wk.window(), delta});
+            }
+        }
+
+        for (Map.Entry<String, KeyState> e : states.entrySet()) {
+            KeyState s = e.getValue();
+            synchronized (s) {
+                s.roll(e.getKey(), window);
+                if (s.pending > 0) {
+                    upserts.add(new Object[] {e.getKey(), s.window, s.pending});
+                    s.currCount += s.pending; // 재조회 전까지 과소평가하지 않도록 낙관 반영
+                    s.pending = 0;
+                } else if (s.lastSeenWindow < window - windowSeconds) {
+                    s.evicted = true; // 두 윈도우 이상 안 쓰인 키는 추적 종료
+                    states.remove(e.getKey(), s);
+                }
+            }
+        }
+
+        if (!upserts.isEmpty()) {
+            upsert(upserts);
+        }
+
+        refreshFromStore(window);
+
+        if (++syncCount % PURGE_EVERY_SYNCS == 0) {
+            jdbc.update(PURGE_SQL, window - 2 * windowSeconds);
+        }
+    }
+
+    /**
+     * 증가분 반영: 배치(한 트랜잭션) → 실패하면 row 단위로 재시도하고 실패한 row만 버린다.
+     */
+    private void upsert(List<Object[]> rows) {
+        try {
+            tx.executeWithoutResult(status -> jdbc.batchUpdate(UPSERT_SQL, rows));
+            return;
+        } catch (DataAccessException e) {
+            log.warn("[rate-limit] batch upsert failed, retrying {} row(s) one by one: {}", rows.size(), e.toString());
+        }
+
+        for (Object[] row : rows) {
+            try {
+                jdbc.update(UPSERT_SQL, row);
+            } catch (DataAccessException e) {
+                log.warn("[rate-limit] dropped delta key={} window={} delta={}: {}", row[0], row[1], row[2], e.toString());
+            }
+        }
+    }
+
+    public int trackedKeys() {
+        return states.size();
+    }
+
+    private void refreshFromStore(long window) {
+        List<String> keys = new ArrayList<>(states.keySet());
+        List<Long> windows = List.of(window, window - windowSeconds);
+
+        for (int from = 0; from < keys.size(); from += READ_CHUNK) {
+            List<String> chunk = keys.subList(from, Math.min(keys.size(), from + READ_CHUNK));
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("windows", windows)
+                    .addValue("keys", chunk);
+
+            namedJdbc.query(SELECT_SQL, params, rs -> {
+                KeyState s = states.get(rs.getString("bucket_key"));
+                if (s == null) {
+                    return;
+                }
+                long w = rs.getLong("window_start");
+                int count = rs.getInt("count");
+                synchronized (s) {
+                    if (w == s.window) {
+                        s.currCount = count;
+                    } else if (w == s.window - windowSeconds) {
+                        s.prevCount = count;
+                    }
+                }
+            });
+        }
+    }
+
+    private long windowOf(long epochMillis) {
+        long sec = epochMillis / 1000L;
+        return sec - Math.floorMod(sec, windowSeconds);
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "rate-limit-sync");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        syncQuietly(); // 종료 전 남은 증가분 반영
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (Exception e) {
+            // DB 장애 시에도 로컬 판단은 계속된다. (증가분은 다음 sync 때 다시 시도하지 않고 버린다)
+            log.warn("[rate-limit] cluster sync failed: {}", e.toString());
+        }
+    }
+
+    private record WindowKey(String key, long window) {}
+
+    /**
+     * 키별 near-cache 상태 (synchronized(this)로 보호)
+     */
+    private final class KeyState {
+        private long window;
+        private long lastSeenWindow;
+        private int prevCount;
+        private int currCount;
+        private int pending;
+        private boolean evicted;
+
+        private KeyState(long window) {
+            this.window = window;
+            this.lastSeenWindow = window;
+        }
+
+        private void roll(String key, long nowWindow) {
+            if (nowWindow <= window) {
+                return;
+            }
+            if (pending > 0) {
+                carryOver.merge(new WindowKey(key, window), pending, Integer::sum);
+            }
+            prevCount = (nowWindow == window + windowSeconds) ? currCount + pending : 0;
+            currCount = 0;
+            pending = 0;
+            window = nowWindow;
+        }
+    }
+}
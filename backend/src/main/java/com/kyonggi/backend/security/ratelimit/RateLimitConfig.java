@@ -0,0 +1,54 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import java.time.Clock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Rate Limit 필터 등록
+ *
+ * - FilterRegistrationBean으로 서블릿 필터 순서를 직접 지정한다.
+ *   CharacterEncodingFilter(HIGHEST_PRECEDENCE) 바로 뒤, Security Filter Chain(-100)보다 앞.
+ * - app.rate-limit.cluster.enabled=true일 때만 ClusterRateLimiter(MySQL 공유 카운터)를 만든다.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    @Bean
+    public StripedTokenBucketLimiter stripedTokenBucketLimiter(RateLimitProperties props) {
+        return new StripedTokenBucketLimiter(props.maxKeys(), props.idleEvictSeconds());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.rate-limit.cluster", name = "enabled", havingValue = "true")
+    public ClusterRateLimiter clusterRateLimiter(RateLimitProperties props, JdbcTemplate jdbcTemplate, Clock clock) {
+        return new ClusterRateLimiter(jdbcTemplate, clock, props.cluster());
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimitProperties props,
+            StripedTokenBucketLimiter limiter,
+            ObjectProvider<ClusterRateLimiter> clusterLimiter,
+            ObjectMapper objectMapper
+    ) throws JsonProcessingException {
+        RateLimitFilter filter = new RateLimitFilter(props, limiter, clusterLimiter.getIfAvailable(), objectMapper);
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(FILTER_ORDER);
+        registration.addUrlPatterns("/auth/*");
+        return registration;
+    }
+}
@@ -0,0 +1,220 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kyonggi.backend.auth.identity.signup.support.KyonggiEmailUtils;
+import com.kyonggi.backend.auth.token.support.TokenHashUtils;
+import com.kyonggi.backend.global.ApiError;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.security.ratelimit.RateLimitProperties.Route;
+import com.kyonggi.backend.security.ratelimit.RateLimitProperties.Rule;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 유입(admission) 단계 Rate Limit 필터
+ *
+ * - Security Filter Chain보다 앞에서 실행된다. (DB 트랜잭션/락, BCrypt 이전에 차단)
+ * - 대상 라우트가 아니면 경로 비교만 하고 바로 통과한다. (할당 없는 fast path)
+ * - 1차: 클라이언트 IP 버킷 → 바디를 읽지 않고 판단
+ * - 2차: 요청 바디의 email(정규화) 버킷 → 바디를 prefix 캐싱 후 JSON 스트리밍으로 email만 추출
+ *   이메일 버킷을 우회하는 바디는 컨트롤러까지 보내지 않는다.
+ *   - max-body-bytes 초과 → 413 REQUEST_TOO_LARGE (부분 바디로는 email을 확정할 수 없다)
+ *   - 최상위 email 키 중복 → 400 VALIDATION_ERROR (필터는 한 값으로 세고, 바인딩은 마지막 값을 쓰게 된다)
+ *   버킷 키에는 email 원문 대신 SHA-256 hex(64자)를 쓴다. 바디에서 온 값이라 길이가 최대 max-body-bytes까지
+ *   갈 수 있는데, 그대로 쓰면 rate_limit_counters.bucket_key(VARCHAR 191)를 넘겨 클러스터 sync가 실패한다.
+ * - 로컬 버킷을 통과하고 규칙에 cluster-limit이 있으면 ClusterRateLimiter(노드 간 공유 카운터)로 한 번 더 검사한다.
+ * - 차단 시 429 + Retry-After, 바디는 기동 시 한 번 직렬화해둔 ApiError 바이트를 그대로 쓴다.
+ *
+ * 클라이언트 IP는 request.getRemoteAddr()를 쓴다.
+ * 프록시 뒤라면 server.forward-headers-strategy 설정으로 X-Forwarded-For를 반영해야 한다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String EMAIL_FIELD = "email";
+    private static final String ROUTE_ATTRIBUTE = RateLimitFilter.class.getName() + ".route";
+
+    private final RateLimitProperties props;
+    private final StripedTokenBucketLimiter limiter;
+    private final ClusterRateLimiter clusterLimiter; // null이면 로컬 판단만
+    private final JsonFactory jsonFactory;
+    private final Route[] routes;
+    private final byte[] rejectedBody;
+    private final byte[] tooLargeBody;
+    private final byte[] ambiguousBody;
+
+    public RateLimitFilter(
+            RateLimitProperties props,
+            StripedTokenBucketLimiter limiter,
+            ClusterRateLimiter clusterLimiter,
+            ObjectMapper objectMapper
+    ) throws JsonProcessingException {
+        this.props = props;
+        this.limiter = limiter;
+        this.clusterLimiter = clusterLimiter;
+        this.jsonFactory = objectMapper.getFactory();
+        this.routes = props.routes().toArray(Route[]::new);
+        this.rejectedBody = objectMapper.writeValueAsBytes(ApiError.of(ErrorCode.RATE_LIMITED));
+        this.tooLargeBody = objectMapper.writeValueAsBytes(ApiError.of(ErrorCode.REQUEST_TOO_LARGE));
+        this.ambiguousBody = objectMapper.writeValueAsBytes(ApiError.of(ErrorCode.VALIDATION_ERROR));
+    }
+
+    /**
+     * 라우트 매칭은 여기서 한 번만 하고, 대상이면 결과를 요청 속성에 넣어 doFilterInternal에서 다시 쓴다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!props.enabled()) {
+            return true;
+        }
+        Route route = match(request);
+        if (route == null) {
+            return true;
+        }
+        request.setAttribute(ROUTE_ATTRIBUTE, route);
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Route route = (Route) request.getAttribute(ROUTE_ATTRIBUTE);
+        long now = System.nanoTime();
+
+        if (route.perIp() != null) {
+            long wait = acquire(route.id() + "|ip|" + request.getRemoteAddr(), route.perIp(), now);
+            if (wait > 0) {
+                reject(response, route, wait);
+                return;
+            }
+        }
+
+        HttpServletRequest forward = request;
+        if (route.perEmail() != null) {
+            CachedBodyRequest cached = CachedBodyRequest.wrap(request, props.maxBodyBytes());
+            forward = cached;
+
+            byte[] body = cached.cachedBody();
+            if (body == null) {
+                log.debug("[rate-limit] body too large route={}", route.id());
+                write(response, ErrorCode.REQUEST_TOO_LARGE, tooLargeBody);
+                return;
+            }
+
+            EmailField field = extractEmail(body);
+            if (field.duplicated()) {
+                log.debug("[rate-limit] duplicate email field route={}", route.id());
+                write(response, ErrorCode.VALIDATION_ERROR, ambiguousBody);
+                return;
+            }
+            String email = field.email();
+            if (email != null) {
+                long wait = acquire(route.id() + "|email|" + TokenHashUtils.sha256Hex(email), route.perEmail(), now);
+                if (wait > 0) {
+                    reject(response, route, wait);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(forward, response);
+    }
+
+    /**
+     * @return 0이면 허용, 양수면 재시도까지 남은 시간(ns)
+     */
+    private long acquire(String key, Rule rule, long nowNanos) {
+        long wait = limiter.tryAcquire(key, rule, nowNanos);
+        if (wait > 0 || clusterLimiter == null || rule.clusterLimit() == null) {
+            return wait;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(clusterLimiter.tryAcquire(key, rule.clusterLimit()));
+    }
+
+    private Route match(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        for (Route route : routes) {
+            if (route.path().equals(uri) && route.method().equals(method)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 최상위 JSON 객체에서 "email" 문자열 필드만 찾는다. (DTO 바인딩 없이 토큰 스트리밍)
+     * - 형식이 이상하거나 email이 없으면 email=null → 이메일 기준 제한은 건너뛴다. (IP 제한은 이미 적용됨)
+     *   이 경우 DTO 바인딩/검증도 같은 이유로 실패하므로 서비스까지 가지 않는다.
+     * - email 키가 두 번 이상 나오면 duplicated (객체 끝까지 읽어서 확인한다)
+     */
+    private EmailField extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return EmailField.NONE;
+        }
+        try (JsonParser p = jsonFactory.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                return EmailField.NONE;
+            }
+            String email = null;
+            boolean seen = false;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                JsonToken value = p.nextToken();
+                if (EMAIL_FIELD.equals(name)) {
+                    if (seen) {
+                        return EmailField.DUPLICATED;
+                    }
+                    seen = true;
+                    if (value == JsonToken.VALUE_STRING) {
+                        email = KyonggiEmailUtils.normalize(p.getText());
+                    }
+                }
+                p.skipChildren();
+            }
+            return (email == null || email.isEmpty()) ? EmailField.NONE : new EmailField(email, false);
+        } catch (IOException e) {
+            return EmailField.NONE;
+        }
+    }
+
+    private record EmailField(String email, boolean duplicated) {
+        static final EmailField NONE = new EmailField(null, false);
+        static final EmailField DUPLICATED = new EmailField(null, true);
+    }
+
+    private void reject(HttpServletResponse response, Route route, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.debug("[rate-limit] rejected route={}, retryAfter={}s", route.id(), retryAfter);
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        write(response, ErrorCode.RATE_LIMITED, rejectedBody);
+    }
+
+    private static void write(HttpServletResponse response, ErrorCode code, byte[] body) throws IOException {
+        response.setStatus(code.status().value());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,80 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 요청 유입(admission) 단계 Rate Limit 설정
+ *
+ * - 라우트(메서드 + 경로)별로 "IP 기준" / "정규화된 이메일 기준" 토큰 버킷 규칙을 둔다.
+ * - 규칙이 null이면 해당 기준은 검사하지 않는다.
+ * - 메모리 상한: max-keys(전체 버킷 수) + idle-evict-seconds(유휴 버킷 제거)
+ * - cluster.enabled면 규칙의 cluster-limit을 MySQL 공유 카운터(슬라이딩 윈도우 근사)로 한 번 더 검사한다.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,                // false면 필터가 아무것도 하지 않는다 (테스트 기본값)
+        @Min(1) int maxKeys,            // 메모리에 유지할 최대 버킷 수
+        @Min(1) long idleEvictSeconds,  // 이 시간 동안 접근 없는 버킷은 제거
+        @Min(64) int maxBodyBytes,      // 이메일 추출을 위해 미리 읽을 요청 바디 최대 크기 (per-email 라우트는 초과 시 413)
+        @Valid List<Route> routes,
+        @Valid Cluster cluster
+) {
+
+    public RateLimitProperties {
+        routes = (routes == null) ? List.of() : List.copyOf(routes);
+        cluster = (cluster == null) ? Cluster.DISABLED : cluster;
+    }
+
+    /**
+     * @param id       버킷 키 prefix (라우트 간 키 충돌 방지)
+     * @param path     정확히 일치해야 하는 요청 URI
+     * @param perIp    클라이언트 IP 기준 규칙
+     * @param perEmail 요청 바디 email(정규화) 기준 규칙 (바디가 없는 GET 라우트에는 두지 않는다)
+     * @param method   HTTP 메서드 (생략 시 POST)
+     */
+    public record Route(
+            @NotBlank String id,
+            @NotBlank String path,
+            @Valid Rule perIp,
+            @Valid Rule perEmail,
+            String method
+    ) {
+        public Route {
+            method = (method == null || method.isBlank()) ? "POST" : method.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 토큰 버킷 규칙
+     * - capacity: 순간 허용량(버스트)
+     * - refillPerMinute: 분당 보충 토큰 수(지속 허용량)
+     * - clusterLimit: 클러스터 전체 기준 윈도우당 허용량 (null이면 클러스터 검사 생략)
+     */
+    public record Rule(
+            @Min(1) int capacity,
+            @Min(1) int refillPerMinute,
+            @Min(1) Integer clusterLimit
+    ) {}
+
+    /**
+     * 클러스터 공유 카운터 설정 (rate_limit_counters 테이블)
+     * - windowSeconds: 고정 윈도우 크기 (이전 윈도우를 가중합해 슬라이딩 윈도우로 근사)
+     * - syncIntervalMillis: 로컬 증가분을 DB에 모아서 반영/재조회하는 주기
+     */
+    public record Cluster(
+            boolean enabled,
+            @Min(1) int windowSeconds,
+            @Min(100) long syncIntervalMillis
+    ) {
+        static final Cluster DISABLED = new Cluster(false, 60, 1000);
+    }
+}
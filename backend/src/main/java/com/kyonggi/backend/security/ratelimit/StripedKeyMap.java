@@ -0,0 +1,156 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * 락 스트라이핑(striping) 키 → 상태 저장소 (StripedTokenBucketLimiter, LoginThrottle 공용)
+ *
+ * - 키 해시로 stripe를 고르고, stripe 단위 락 안에서만 값을 읽고/쓴다.
+ *   (전역 락 없음 → 서로 다른 키는 대부분 다른 stripe라 경합이 거의 없다)
+ * - 유휴 값 제거는 별도 스케줄러 없이, 값을 만들거나 갱신할 때(compute) sweepInterval 간격으로 같이 처리한다.
+ * - stripe가 가득 차면 즉시 정리하고, 그래도 가득 차면 새 키는 "추적하지 않고 허용"한다. (fail-open)
+ *   → 키 스프레이 공격으로 정상 사용자까지 막히는 것보다, 메모리 상한을 지키는 것을 우선한다.
+ *
+ * 시간 단위는 호출자가 정한다. (now, sweepInterval, IdleCheck가 같은 단위만 쓰면 된다)
+ * 값은 stripe 락 안에서만 넘겨주므로 값 자체는 동기화가 필요 없다. (락 밖으로 값을 들고 나가지 않는다)
+ */
+public final class StripedKeyMap<V> {
+
+    private static final long NEVER_SWEPT = Long.MIN_VALUE;
+
+    private final Stripe<V>[] stripes;
+    private final int mask;
+    private final int maxKeysPerStripe;
+    private final long sweepInterval;
+    private final IdleCheck<V> idleCheck;
+
+    /**
+     * @param maxKeys 전체 키 상한 (stripe마다 maxKeys / stripe 수)
+     * @param sweepInterval stripe별 유휴 정리 간격
+     * @param idleCheck 지워도 되는 값이면 true
+     */
+    @SuppressWarnings("unchecked")
+    public StripedKeyMap(int maxKeys, long sweepInterval, IdleCheck<V> idleCheck) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(64, maxKeys / 16)));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.mask = stripeCount - 1;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.sweepInterval = sweepInterval;
+        this.idleCheck = idleCheck;
+    }
+
+    /**
+     * 키의 값으로 action 실행 (없으면 factory로 만든다)
+     *
+     * @return action 결과, stripe가 가득 차 새 키를 만들 수 없으면 whenFull (fail-open)
+     */
+    public <R> R compute(String key, long now, LongFunction<V> factory, Function<V, R> action, R whenFull) {
+        Stripe<V> stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            if (stripe.lastSweep == NEVER_SWEPT) {
+                stripe.lastSweep = now;
+            } else if (now - stripe.lastSweep > sweepInterval) {
+                stripe.sweep(now, idleCheck);
+            }
+
+            V value = stripe.values.get(key);
+            if (value == null) {
+                if (stripe.values.size() >= maxKeysPerStripe) {
+                    stripe.sweep(now, idleCheck);
+                    if (stripe.values.size() >= maxKeysPerStripe) {
+                        return whenFull;
+                    }
+                }
+                value = factory.apply(now);
+                stripe.values.put(key, value);
+            }
+            return action.apply(value);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 키의 값으로 action 실행 (없으면 null을 넘긴다, 새로 만들지 않는다)
+     */
+    public <R> R read(String key, Function<V, R> action) {
+        Stripe<V> stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            return action.apply(stripe.values.get(key));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void remove(String key) {
+        Stripe<V> stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            stripe.values.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (Stripe<V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total += stripe.values.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    public void clear() {
+        for (Stripe<V> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.values.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private Stripe<V> stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    /**
+     * 유휴 판정 (stripe 락 안에서 호출된다)
+     */
+    @FunctionalInterface
+    public interface IdleCheck<V> {
+        boolean isIdle(V value, long now);
+    }
+
+    private static final class Stripe<V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final HashMap<String, V> values = new HashMap<>();
+        private long lastSweep = NEVER_SWEPT;
+
+        private void sweep(long now, IdleCheck<V> idleCheck) {
+            Iterator<V> it = values.values().iterator();
+            while (it.hasNext()) {
+                if (idleCheck.isIdle(it.next(), now)) {
+                    it.remove();
+                }
+            }
+            lastSweep = now;
+        }
+    }
+}
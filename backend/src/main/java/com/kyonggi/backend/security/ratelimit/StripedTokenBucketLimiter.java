@@ -0,0 +1,78 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import com.kyonggi.backend.security.ratelimit.RateLimitProperties.Rule;
+
+/**
+ * 락 스트라이핑(striping) 토큰 버킷 저장소
+ *
+ * - 저장/유휴 정리/상한은 StripedKeyMap에 맡긴다. (stripe 락, idle/2 간격 정리)
+ * - 유휴 버킷: 마지막 요청 후 idle이 지난 버킷
+ * - stripe가 가득 차면 새 키는 "추적하지 않고 허용"한다. (fail-open)
+ *   → IP 스프레이 공격으로 정상 사용자까지 막히는 것보다, 메모리 상한을 지키는 것을 우선한다.
+ *
+ * 시간은 System.nanoTime() 기준이다. (Clock은 정책 시각용, 여기서는 단조 증가 시간만 필요)
+ */
+public class StripedTokenBucketLimiter {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final StripedKeyMap<TokenBucket> buckets;
+
+    public StripedTokenBucketLimiter(int maxKeys, long idleEvictSeconds) {
+        long idleNanos = TimeUnit.SECONDS.toNanos(idleEvictSeconds);
+        this.buckets = new StripedKeyMap<>(maxKeys, idleNanos / 2,
+                (bucket, nowNanos) -> nowNanos - bucket.lastSeenNanos > idleNanos);
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @return 0이면 허용, 양수면 다음 토큰까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key, Rule rule, long nowNanos) {
+        return buckets.compute(key, nowNanos,
+                now -> new TokenBucket(rule.capacity(), now),
+                bucket -> bucket.tryAcquire(rule, nowNanos),
+                0L);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * 단일 토큰 버킷 (StripedKeyMap stripe 락 안에서만 접근하므로 자체 동기화 없음)
+     */
+    private static final class TokenBucket {
+        private double tokens;
+        private long lastRefillNanos;
+        private long lastSeenNanos;
+
+        private TokenBucket(int capacity, long nowNanos) {
+            this.tokens = capacity;
+            this.lastRefillNanos = nowNanos;
+            this.lastSeenNanos = nowNanos;
+        }
+
+        private long tryAcquire(Rule rule, long nowNanos) {
+            long elapsed = nowNanos - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(rule.capacity(), tokens + (double) elapsed * rule.refillPerMinute() / NANOS_PER_MINUTE);
+                lastRefillNanos = nowNanos;
+            }
+            lastSeenNanos = nowNanos;
+
+            if (tokens >= 1.0d) {
+                tokens -= 1.0d;
+                return 0L;
+            }
+            return (long) Math.ceil((1.0d - tokens) * NANOS_PER_MINUTE / rule.refillPerMinute());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- V2__create_rate_limit_counters.sql
+
+-- 클러스터 공유 Rate limit 카운터 (고정 윈도우 버킷)
+-- - bucket_key: "{routeId}|ip|{ip}" / "{routeId}|email|{email}"
+-- - window_start: 윈도우 시작 시각(epoch seconds, window-seconds 단위로 내림)
+-- - 각 노드는 로컬에서 누적한 증가분을 주기적으로 한 번에 더한다.
+--   INSERT ... ON DUPLICATE KEY UPDATE count = count + delta
+CREATE TABLE rate_limit_counters (
+  bucket_key VARCHAR(191) NOT NULL,
+  window_start BIGINT NOT NULL,
+  count INT UNSIGNED NOT NULL DEFAULT 0,
+  updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+  PRIMARY KEY (bucket_key, window_start),
+  KEY idx_rate_limit_counters_window_start (window_start)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,22 @@
+-- V3__create_mail_outbox.sql
+
+-- 메일 발송 outbox (Transactional Outbox)
+-- - 업무 트랜잭션(예: OTP 발급)과 같은 트랜잭션에서 INSERT → 커밋되면 발송이 "예약"된 것으로 확정
+-- - body_cipher: 본문(OTP 원문 포함)은 AES-GCM 암호문으로만 저장 (iv || ciphertext)
+-- - relay는 (status, next_attempt_at) 인덱스로 발송 대상을 집어가며 SELECT ... FOR UPDATE SKIP LOCKED로 서로 비켜간다.
+-- - next_attempt_at: 다음 시도 가능 시각 (claim 시 lease 만큼 미뤄두고, 실패 시 backoff 만큼 미룬다)
+CREATE TABLE mail_outbox (
+  id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  kind VARCHAR(30) NOT NULL,
+  recipient VARCHAR(255) NOT NULL,
+  subject VARCHAR(200) NOT NULL,
+  body_cipher VARBINARY(2048) NULL,
+  status ENUM('PENDING','SENT','DEAD') NOT NULL DEFAULT 'PENDING',
+  attempts INT UNSIGNED NOT NULL DEFAULT 0,
+  next_attempt_at DATETIME(6) NOT NULL,
+  last_error VARCHAR(500) NULL,
+  sent_at DATETIME(6) NULL,
+  created_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (id),
+  KEY idx_mail_outbox_status_next_attempt (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,9 @@
+-- V4__widen_users_password_hash.sql
+
+-- 비밀번호 해시 포맷을 DelegatingPasswordEncoder("{id}hash")로 바꾸면서 길이를 넉넉히 늘린다.
+-- - {bcrypt}$2a$10$... : 68자
+-- - {argon2}$argon2id$v=19$m=...,t=...,p=...$salt$hash : 100자 안팎 (파라미터 자릿수에 따라 늘어남)
+-- - {pbkdf2}hex(salt||hash) : 104자
+-- 기존 행(접두사 없는 BCrypt 해시)은 그대로 두고, 로그인 성공 시 새 포맷으로 재해시한다.
+ALTER TABLE users
+  MODIFY COLUMN password_hash VARCHAR(255) NOT NULL;
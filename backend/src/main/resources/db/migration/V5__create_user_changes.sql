@@ -0,0 +1,14 @@
+-- V5__create_user_changes.sql
+
+-- users 변경 피드 (인스턴스 간 /auth/me 캐시 무효화)
+-- - users를 UPDATE/DELETE 하는 트랜잭션이 같은 트랜잭션에서 user_id 한 줄을 남긴다. (UserChangeFeed.publish)
+-- - 각 인스턴스는 id > 마지막으로 본 id 인 row를 주기적으로 읽어 로컬 캐시에서 해당 user_id를 지운다.
+-- - users FK는 걸지 않는다. (삭제된 사용자도 무효화 대상이므로)
+-- - 보관 기간이 지난 row는 폴링하면서 조금씩 지운다.
+CREATE TABLE user_changes (
+  id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  user_id BIGINT NOT NULL,
+  changed_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  PRIMARY KEY (id),
+  KEY idx_user_changes_changed_at (changed_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,7 @@
+-- V6__add_mail_outbox_version.sql
+
+-- mail_outbox 낙관적 락 버전 (JPA @Version)
+-- - relay가 lease를 넘겨 늦게 결과(SENT/재시도/DEAD)를 쓰는 동안 다른 relay가 이미 다시 집어갔으면
+--   버전이 달라서 늦은 쪽 쓰기가 실패한다. (다른 relay의 claim/결과를 덮어쓰지 않는다)
+ALTER TABLE mail_outbox
+  ADD COLUMN version BIGINT UNSIGNED NOT NULL DEFAULT 0;
@@ -1,6 +1,7 @@
 package com.kyonggi.backend;
 
 import java.time.Duration;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -145,6 +146,23 @@ public abstract class AbstractIntegrationTest {
         r.add("test.mailhog.base-url", AbstractIntegrationTest::mailhogBaseUrl);
     }
 
+    /**
+     * 같은 컨테이너(DB/메일)에 붙는 "두 번째 애플리케이션 컨텍스트"를 직접 띄울 때 쓰는 최소 프로퍼티
+     * - 예: 다중 인스턴스(노드 2개) 시나리오를 SpringApplicationBuilder로 재현하는 테스트
+     */
+    protected static Map<String, Object> containerProperties() {
+        return Map.of(
+                "spring.datasource.url", MYSQL.getJdbcUrl(),
+                "spring.datasource.username", MYSQL.getUsername(),
+                "spring.datasource.password", MYSQL.getPassword(),
+                "spring.flyway.url", MYSQL.getJdbcUrl(),
+                "spring.flyway.user", MYSQL.getUsername(),
+                "spring.flyway.password", MYSQL.getPassword(),
+                "spring.mail.host", getMailhogHost(),
+                "spring.mail.port", getMailhogSmtpPort()
+        );
+    }
+
     // 컨테이너 스타트
     private static void startContainersOnce() {
         try {
@@ -166,6 +184,13 @@ public abstract class AbstractIntegrationTest {
         }
     }
 
+    /**
+     * 공용 MySQL 컨테이너 (복제 구성처럼 컨테이너에 직접 접근해야 하는 테스트용)
+     */
+    protected static MySQLContainer<?> primaryMysql() {
+        return MYSQL;
+    }
+
     public static String getMailhogHost() {
         return MAILHOG.getHost();
     }
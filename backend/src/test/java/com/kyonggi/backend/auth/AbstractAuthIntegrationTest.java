@@ -6,9 +6,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.kyonggi.backend.AbstractIntegrationTest;
 import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.identity.existence.RegisteredUserFilter;
+import com.kyonggi.backend.auth.identity.login.activity.LoginActivityRecorder;
+import com.kyonggi.backend.auth.identity.login.credential.NegativeEmailCache;
+import com.kyonggi.backend.auth.identity.login.throttle.LoginThrottle;
+import com.kyonggi.backend.auth.identity.me.cache.MeProfileCache;
 import com.kyonggi.backend.auth.repo.EmailOtpRepository;
 import com.kyonggi.backend.auth.repo.UserRepository;
 import com.kyonggi.backend.auth.token.repo.RefreshTokenRepository;
+import com.kyonggi.backend.mail.outbox.MailOutboxRepository;
 import com.kyonggi.backend.support.MailhogSupport;
 
 /**
@@ -30,16 +36,32 @@ public abstract class AbstractAuthIntegrationTest extends AbstractIntegrationTes
     @Autowired protected RefreshTokenRepository refreshTokenRepository;
     @Autowired protected EmailOtpRepository emailOtpRepository;
     @Autowired protected PasswordEncoder passwordEncoder;
+    @Autowired protected MailOutboxRepository mailOutboxRepository;
+    @Autowired protected LoginThrottle loginThrottle;
+    @Autowired protected NegativeEmailCache negativeEmailCache;
+    @Autowired protected LoginActivityRecorder loginActivityRecorder;
+    @Autowired protected RegisteredUserFilter registeredUserFilter;
+    @Autowired protected MeProfileCache meProfileCache;
 
     @BeforeEach
     void resetAuthData() throws Exception {
         // 메일 잔여분 제거 (OTP 테스트 흔들림 방지)
         MailhogSupport.clearAll(); 
 
+        // 로그인 실패 잠금은 메모리 상태라 테스트 간에 이어지지 않게 비운다 (모든 요청이 127.0.0.1)
+        loginThrottle.clear();
+        negativeEmailCache.clear();
+        loginActivityRecorder.clear();
+        meProfileCache.clear();
+
         // 테이블 레코드 전체 삭제 (단 FK 걸린 것부터 제거)
         refreshTokenRepository.deleteAll();
         emailOtpRepository.deleteAll();
+        mailOutboxRepository.deleteAll();
         userRepository.deleteAll();
+
+        // 가입 이메일/닉네임 Bloom filter를 빈 users 기준으로 다시 만든다 (지운 row가 "있을 수도 있음"으로 남지 않게)
+        registeredUserFilter.rebuild();
     }
 
     // 유저 생성 유틸
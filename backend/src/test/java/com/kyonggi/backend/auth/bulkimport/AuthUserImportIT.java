@@ -0,0 +1,237 @@
+package com.kyonggi.backend.auth.bulkimport;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.identity.bulkimport.dto.UserImportReport;
+import com.kyonggi.backend.auth.identity.bulkimport.service.UserImportService;
+import com.kyonggi.backend.auth.identity.bulkimport.service.UserImportService.Format;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthFlowSupport;
+import com.kyonggi.backend.support.AuthHttpSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 일괄 가입 (POST /admin/users/import) 통합 테스트
+ *
+ * - CSV: 정상/검증 실패/중복(파일 안, 기존 users) 행이 섞여 있어도 정상 행만 들어가고 행 단위로 보고된다.
+ * - 가져온 계정으로 바로 로그인된다. (Bloom filter/음성 캐시 반영 포함)
+ * - 권한: USER 토큰은 403 ACCESS_DENIED
+ * - NDJSON: 서비스 직접 호출
+ * - 벤치: 100k행을 지연 생성 스트림으로 넣고 users/s, heap 사용량을 로그로 남긴다.
+ *   @Tag("benchmark")라 기본 test에서는 빠진다. (./gradlew test -Pbenchmarks --tests '*AuthUserImportIT')
+ */
+@Slf4j
+@DisplayName("[Auth][Admin][Import] 일괄 가입 통합 테스트")
+class AuthUserImportIT extends AbstractAuthIntegrationTest {
+
+    private static final String IMPORT_ENDPOINT = "/admin/users/import";
+    private static final String PW = "Import123!";
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired UserImportService userImportService;
+
+    @Test
+    @DisplayName("CSV: 정상 행만 들어가고, 검증 실패/중복은 행 번호와 코드로 보고된다")
+    void csv_import_reports_row_errors() throws Exception {
+        createDefaultUser();
+        String token = masterToken();
+
+        String csv = String.join("\n",
+                "email,password,nickname",
+                "imp1@kyonggi.ac.kr," + PW + ",imp_one",
+                "  IMP2@Kyonggi.ac.kr ," + PW + ",imp_two",
+                "outsider@gmail.com," + PW + ",imp_three",
+                "imp4@kyonggi.ac.kr,weak,imp_four",
+                "imp5@kyonggi.ac.kr," + PW + ",x",
+                "imp1@kyonggi.ac.kr," + PW + ",imp_dup_mail",
+                "imp7@kyonggi.ac.kr," + PW + ",IMP_ONE",
+                EMAIL + "," + PW + ",imp_existing",
+                "imp9@kyonggi.ac.kr," + PW + "," + NICKNAME,
+                "broken-line-without-columns",
+                "");
+
+        MvcResult res = mvc.perform(post(IMPORT_ENDPOINT)
+                        .header(HttpHeaders.AUTHORIZATION, AuthHttpSupport.bearer(token))
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode body = AuthHttpSupport.readJson(res);
+        assertThat(body.get("total").asLong()).isEqualTo(10);
+        assertThat(body.get("imported").asLong()).isEqualTo(2);
+        assertThat(body.get("rejected").asLong()).isEqualTo(8);
+
+        Map<Long, String> codeByLine = new HashMap<>();
+        body.get("errors").forEach(e -> codeByLine.put(e.get("line").asLong(), e.get("code").asText()));
+        assertThat(codeByLine).containsExactlyInAnyOrderEntriesOf(Map.of(
+                4L, ErrorCode.EMAIL_DOMAIN_NOT_ALLOWED.name(),
+                5L, ErrorCode.WEAK_PASSWORD.name(),
+                6L, ErrorCode.INVALID_NICKNAME.name(),
+                7L, ErrorCode.EMAIL_ALREADY_EXISTS.name(),
+                8L, ErrorCode.NICKNAME_ALREADY_EXISTS.name(),
+                9L, ErrorCode.EMAIL_ALREADY_EXISTS.name(),
+                10L, ErrorCode.NICKNAME_ALREADY_EXISTS.name(),
+                11L, ErrorCode.VALIDATION_ERROR.name()));
+
+        assertThat(userRepository.count()).isEqualTo(4); // default + master + imp1 + imp2
+        assertThat(registeredUserFilter.mightHaveEmail("imp2@kyonggi.ac.kr")).isTrue();
+        AuthFlowSupport.loginOk(mvc, "imp2@kyonggi.ac.kr", PW, false);
+    }
+
+    @Test
+    @DisplayName("권한: USER 토큰 → 403 ACCESS_DENIED, 지원하지 않는 Content-Type → 400")
+    void import_requires_master() throws Exception {
+        createDefaultUser();
+        String userToken = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken();
+
+        AuthHttpSupport.expectErrorWithCode(mvc.perform(post(IMPORT_ENDPOINT)
+                .header(HttpHeaders.AUTHORIZATION, AuthHttpSupport.bearer(userToken))
+                .contentType("text/csv")
+                .content("email,password,nickname\n")), ErrorCode.ACCESS_DENIED);
+
+        AuthHttpSupport.expectErrorWithCode(mvc.perform(post(IMPORT_ENDPOINT)
+                .header(HttpHeaders.AUTHORIZATION, AuthHttpSupport.bearer(masterToken()))
+                .contentType("application/xml")
+                .content("<users/>")), ErrorCode.VALIDATION_ERROR);
+    }
+
+    @Test
+    @DisplayName("NDJSON: 한 줄에 JSON 객체 하나, 잘못된 줄은 VALIDATION_ERROR")
+    void ndjson_import() {
+        String ndjson = String.join("\n",
+                "{\"email\":\"nd1@kyonggi.ac.kr\",\"password\":\"" + PW + "\",\"nickname\":\"nd_one\"}",
+                "{\"email\":\"nd2@kyonggi.ac.kr\",\"password\":\"" + PW + "\",\"nickname\":\"nd_two\"}",
+                "{not json",
+                "");
+
+        UserImportReport report = userImportService.importUsers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), Format.NDJSON);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.errors()).extracting(UserImportReport.RowError::code)
+                .containsExactly(ErrorCode.VALIDATION_ERROR.name());
+        assertThat(userRepository.findAll()).extracting(u -> u.getNickname())
+                .containsExactlyInAnyOrder("nd_one", "nd_two");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("벤치: 100k행 CSV 스트리밍 (users/s, heap)")
+    void import_100k_rows_benchmark() {
+        int rows = 100_000;
+        System.gc();
+        resetHeapPeaks();
+        long heapBefore = usedHeap();
+
+        UserImportReport report = userImportService.importUsers(new GeneratedCsv(rows), Format.CSV);
+
+        log.info("[import-bench] rows={}, imported={}, elapsed={}ms, throughput={} users/s, heapBefore={}MB, heapPeak={}MB",
+                rows, report.imported(), report.elapsedMillis(), report.usersPerSecond(),
+                heapBefore >> 20, peakHeap() >> 20);
+
+        assertThat(report.imported()).isEqualTo(rows);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)).isEqualTo(rows);
+    }
+
+    // 기본 유저와 별개의 MASTER 계정을 만들고 로그인한다.
+    private String masterToken() throws Exception {
+        String email = uniqueKyonggiEmail("master");
+        createUser(email, PASSWORD, "master_" + (System.nanoTime() % 100_000));
+        jdbcTemplate.update("UPDATE users SET role = 'MASTER' WHERE email = ?", email);
+        return AuthFlowSupport.loginOk(mvc, email, PASSWORD, false).accessToken();
+    }
+
+    private static void resetHeapPeaks() {
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long peakHeap() {
+        return heapPools().stream().mapToLong(p -> p.getPeakUsage().getUsed()).sum();
+    }
+
+    private static long usedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(p -> p.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 필요할 때마다 한 줄씩 만들어 내는 CSV 스트림 (파일 전체를 메모리에 만들지 않는다)
+     */
+    private static final class GeneratedCsv extends InputStream {
+        private final int rows;
+        private int next = -1; // -1 = 헤더
+        private byte[] line = new byte[0];
+        private int pos;
+
+        private GeneratedCsv(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (pos == line.length && !advance()) {
+                return -1;
+            }
+            return line[pos++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (pos == line.length && !advance()) {
+                return -1;
+            }
+            int n = Math.min(len, line.length - pos);
+            System.arraycopy(line, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        private boolean advance() {
+            if (next >= rows) {
+                return false;
+            }
+            String text = (next < 0)
+                    ? "email,password,nickname\n"
+                    : "bulk" + next + "@kyonggi.ac.kr," + PW + ",bulk" + next + "\n";
+            next++;
+            line = text.getBytes(StandardCharsets.US_ASCII);
+            pos = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.kyonggi.backend.auth.identity.bulkimport.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+
+/**
+ * 일괄 가입 리더 단위 테스트
+ *
+ * - 너무 긴 행은 maxLineChars + 1자만 담고 나머지는 버린 뒤 다음 행을 정상으로 읽는다.
+ * - 줄 끝 \n, \r\n, \r 모두 행 구분
+ * - 파일 앞 BOM은 버리고, 너무 긴 CSV 헤더는 요청 전체 오류
+ */
+@DisplayName("[Auth][Import] 일괄 가입 리더: 행 길이 제한 / 줄 끝 / 헤더")
+class UserImportReaderTest {
+
+    private static final int MAX_LINE_CHARS = 256;
+
+    @Test
+    @DisplayName("줄바꿈 없는 거대한 행은 오류 행 하나로 끝나고 다음 행은 정상으로 읽힌다")
+    void oversized_line_is_discarded_without_buffering() {
+        long hugeChars = 50L * 1024 * 1024; // 50M자 (그대로 String으로 만들면 100MB)
+        Reader in = new ConcatReader(
+                "email,password,nickname\n",
+                new RepeatingReader('x', hugeChars),
+                "\nok@kyonggi.ac.kr,Passw0rd!,okay\n");
+
+        UserImportReader reader = UserImportReader.csv(in, MAX_LINE_CHARS);
+
+        UserImportRow tooLong = reader.next();
+        assertThat(tooLong.line()).isEqualTo(2);
+        assertThat(tooLong.error()).isEqualTo(ErrorCode.VALIDATION_ERROR.name());
+
+        UserImportRow ok = reader.next();
+        assertThat(ok.line()).isEqualTo(3);
+        assertThat(ok.email()).isEqualTo("ok@kyonggi.ac.kr");
+        assertThat(ok.nickname()).isEqualTo("okay");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("\\r\\n, \\r, \\n 줄 끝과 마지막 줄바꿈 없는 행")
+    void line_endings() {
+        String ndjson = "{\"email\":\"a@kyonggi.ac.kr\"}\r\n"
+                + "{\"email\":\"b@kyonggi.ac.kr\"}\r"
+                + "{\"email\":\"c@kyonggi.ac.kr\"}\n"
+                + "{\"email\":\"d@kyonggi.ac.kr\"}";
+
+        UserImportReader reader = UserImportReader.ndjson(new StringReader(ndjson), MAX_LINE_CHARS, new JsonFactory());
+
+        assertThat(reader.next()).extracting(UserImportRow::line, UserImportRow::email).containsExactly(1L, "a@kyonggi.ac.kr");
+        assertThat(reader.next()).extracting(UserImportRow::line, UserImportRow::email).containsExactly(2L, "b@kyonggi.ac.kr");
+        assertThat(reader.next()).extracting(UserImportRow::line, UserImportRow::email).containsExactly(3L, "c@kyonggi.ac.kr");
+        assertThat(reader.next()).extracting(UserImportRow::line, UserImportRow::email).containsExactly(4L, "d@kyonggi.ac.kr");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("UTF-8 BOM으로 시작하는 CSV(Excel 저장)도 헤더를 인식한다")
+    void csv_header_with_bom() {
+        String csv = "\uFEFFemail,password,nickname\nbom@kyonggi.ac.kr,Passw0rd!,bommy\n";
+
+        UserImportReader reader = UserImportReader.csv(new StringReader(csv), MAX_LINE_CHARS);
+
+        assertThat(reader.next()).extracting(UserImportRow::line, UserImportRow::email, UserImportRow::nickname)
+                .containsExactly(2L, "bom@kyonggi.ac.kr", "bommy");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("maxLineChars를 넘는 CSV 헤더는 오류 행이 아니라 400 VALIDATION_ERROR")
+    void oversized_csv_header_is_fatal() {
+        String csv = "email,password,nickname," + "x".repeat(MAX_LINE_CHARS) + "\nok@kyonggi.ac.kr,Passw0rd!,okay\n";
+
+        UserImportReader reader = UserImportReader.csv(new StringReader(csv), MAX_LINE_CHARS);
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR));
+    }
+
+    // 같은 문자를 n개 지연 생성 (메모리에 올리지 않는다)
+    private static final class RepeatingReader extends Reader {
+        private final char c;
+        private long remaining;
+
+        private RepeatingReader(char c, long count) {
+            this.c = c;
+            this.remaining = count;
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int n = (int) Math.min(len, remaining);
+            Arrays.fill(buf, off, off + n, c);
+            remaining -= n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class ConcatReader extends Reader {
+        private final Reader[] parts;
+        private int index;
+
+        private ConcatReader(String head, Reader middle, String tail) {
+            this.parts = new Reader[] {new StringReader(head), middle, new StringReader(tail)};
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) throws IOException {
+            while (index < parts.length) {
+                int n = parts[index].read(buf, off, len);
+                if (n > 0) {
+                    return n;
+                }
+                index++;
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.kyonggi.backend.auth.identity.me.cache;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kyonggi.backend.auth.config.MeCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * MeProfileCache 단위 테스트 (stripe별 stamp / 크기 상한)
+ *
+ * - stamp 이후 같은 사용자가 무효화되면 put은 저장하지 않는다.
+ * - 다른 stripe 사용자의 무효화는 진행 중인 채우기를 버리지 않는다.
+ * - 크기는 maxEntries를 넘지 않는다.
+ */
+@DisplayName("[Auth][Me] 프로필 캐시 stamp / 상한")
+class MeProfileCacheTest {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final MeProfileCache cache = new MeProfileCache(
+            new MeCacheProperties(true, MAX_ENTRIES, 60, false, 1_000, 100, 0, 60),
+            Clock.systemUTC(),
+            new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("stamp 이후 같은 사용자 무효화 → put은 저장하지 않는다")
+    void invalidation_after_stamp_drops_fill() {
+        long stamp = cache.stamp(1L);
+        cache.invalidate(1L);
+
+        cache.put(1L, profile(1L), stamp);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 stripe 사용자의 무효화는 채우기를 버리지 않는다")
+    void invalidation_of_other_stripe_keeps_fill() {
+        long stamp = cache.stamp(1L);
+        cache.invalidate(2L);
+
+        cache.put(1L, profile(1L), stamp);
+
+        assertThat(cache.get(1L)).isEqualTo(profile(1L));
+    }
+
+    @Test
+    @DisplayName("maxEntries보다 많이 넣어도 크기는 상한 이하")
+    void size_is_bounded() {
+        for (long userId = 1; userId <= MAX_ENTRIES * 4L; userId++) {
+            cache.put(userId, profile(userId), cache.stamp(userId));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(MAX_ENTRIES);
+        assertThat(cache.get(MAX_ENTRIES * 4L)).isNotNull(); // 가장 최근 항목은 남아 있다
+    }
+
+    private static MeProfile profile(Long userId) {
+        return new MeProfile(null, MeProfile.etag(userId, null));
+    }
+}
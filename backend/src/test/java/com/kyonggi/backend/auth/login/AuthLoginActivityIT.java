@@ -0,0 +1,154 @@
+package com.kyonggi.backend.auth.login;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.identity.login.service.LoginService;
+import com.kyonggi.backend.support.AuthHttpSupport;
+import com.kyonggi.backend.support.TestClockConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 활동 기록(LoginActivityRecorder) 통합 테스트
+ *
+ * - 로그인 요청은 users를 UPDATE 하지 않는다. flush() 때 사용자당 1번, 최신 시각으로 반영
+ * - 반영 시 updated_at(ON UPDATE)은 바뀌지 않는다.
+ * - 활성 사용자 수는 active-window-minutes가 지나면 빠진다.
+ * - 간이 벤치마크: 로그인 지연 (write-behind vs 로그인 트랜잭션 안에서 UPDATE) 을 로그로 남긴다.
+ *   @Tag("benchmark")라 기본 test에서는 빠진다. (./gradlew test -Pbenchmarks --tests '*AuthLoginActivityIT')
+ *
+ * 주기 반영은 application-test.yml에서 사실상 꺼져 있고(1h), flush()를 직접 호출한다.
+ */
+@Slf4j
+@DisplayName("[Auth][Login][Activity] last_login_at write-behind / 활성 사용자 수")
+class AuthLoginActivityIT extends AbstractAuthIntegrationTest {
+
+    private static final int ROUNDS = 100;
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired LoginService loginService;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("여러 번 로그인해도 flush 전에는 UPDATE가 없고, flush 때 마지막 시각 1번만 반영된다")
+    void logins_are_coalesced_until_flush() throws Exception {
+        User user = createDefaultUser();
+        LocalDateTime updatedAtBefore = updatedAt(user.getId());
+
+        login();
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(5));
+        login();
+        LocalDateTime lastLoginAt = LocalDateTime.now(TestClockConfig.TEST_CLOCK);
+
+        assertThat(lastLoginAt(user.getId())).isNull();
+        assertThat(loginActivityRecorder.pendingCount()).isEqualTo(1);
+
+        assertThat(loginActivityRecorder.flush()).isEqualTo(1);
+
+        assertThat(lastLoginAt(user.getId())).isEqualTo(lastLoginAt);
+        assertThat(updatedAt(user.getId())).isEqualTo(updatedAtBefore);
+        assertThat(loginActivityRecorder.pendingCount()).isZero();
+        assertThat(loginActivityRecorder.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 더 최신 값이 있으면 오래된 시각으로 덮어쓰지 않는다")
+    void older_timestamp_does_not_overwrite_newer() throws Exception {
+        User user = createDefaultUser();
+        LocalDateTime newer = LocalDateTime.now(TestClockConfig.TEST_CLOCK).plusHours(1);
+        jdbc.update("UPDATE users SET last_login_at = ? WHERE id = ?", newer, user.getId()); // 다른 인스턴스가 먼저 반영
+
+        login();
+        loginActivityRecorder.flush();
+
+        assertThat(lastLoginAt(user.getId())).isEqualTo(newer);
+    }
+
+    @Test
+    @DisplayName("활성 사용자 수: 로그인한 사용자 수를 세고, 집계 구간이 지나면 빠진다")
+    void active_users_expire_after_window() throws Exception {
+        createDefaultUser();
+        createUser(uniqueKyonggiEmail("active"), PASSWORD, "Bob");
+        login();
+        login();
+
+        assertThat(loginActivityRecorder.activeUsers()).isEqualTo(1);
+
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofMinutes(16));
+        assertThat(loginActivityRecorder.activeUsers()).isZero();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("bench: 로그인 지연 write-behind vs 로그인 트랜잭션 안에서 last_login_at UPDATE")
+    void login_latency_bench() {
+        User user = createDefaultUser();
+
+        // 기존 방식: 로그인과 같은 트랜잭션에서 UPDATE (refresh 토큰 발급 트랜잭션이 여기에 합류, 커밋까지 row 락 유지)
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Runnable perRequestUpdate = () -> tx.executeWithoutResult(status -> {
+            serviceLogin();
+            jdbc.update("UPDATE users SET last_login_at = ? WHERE id = ?",
+                    LocalDateTime.now(TestClockConfig.TEST_CLOCK), user.getId());
+        });
+
+        for (int i = 0; i < 20; i++) { // warm-up
+            serviceLogin();
+            perRequestUpdate.run();
+        }
+        loginActivityRecorder.flush();
+        jdbc.update("UPDATE users SET last_login_at = NULL WHERE id = ?", user.getId());
+
+        long writeBehindNanos = 0;
+        long perRequestNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long t0 = System.nanoTime();
+            serviceLogin();
+            long t1 = System.nanoTime();
+            perRequestUpdate.run();
+            perRequestNanos += System.nanoTime() - t1;
+            writeBehindNanos += t1 - t0;
+        }
+
+        assertThat(lastLoginAt(user.getId())).isNotNull(); // 기존 방식 UPDATE가 실제로 커밋됨
+        assertThat(loginActivityRecorder.pendingCount()).isEqualTo(1); // write-behind는 사용자당 1건만 대기
+
+        long flushStartedAt = System.nanoTime();
+        assertThat(loginActivityRecorder.flush()).isEqualTo(1);
+        long flushMicros = (System.nanoTime() - flushStartedAt) / 1000;
+
+        log.info("[login-activity-bench] LoginService.login avg: write-behind={}us, UPDATE in login tx={}us | flush(1 user)={}us",
+                writeBehindNanos / ROUNDS / 1000, perRequestNanos / ROUNDS / 1000, flushMicros);
+    }
+
+    private void serviceLogin() {
+        loginService.login(EMAIL, PASSWORD, false, "127.0.0.1");
+    }
+
+    private void login() throws Exception {
+        AuthHttpSupport.performLogin(mvc, EMAIL, PASSWORD, false).andExpect(status().isOk());
+    }
+
+    private LocalDateTime lastLoginAt(Long userId) {
+        return jdbc.queryForObject("SELECT last_login_at FROM users WHERE id = ?", LocalDateTime.class, userId);
+    }
+
+    private LocalDateTime updatedAt(Long userId) {
+        return jdbc.queryForObject("SELECT updated_at FROM users WHERE id = ?", LocalDateTime.class, userId);
+    }
+}
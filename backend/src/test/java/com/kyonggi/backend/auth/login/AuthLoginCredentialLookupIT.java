@@ -0,0 +1,147 @@
+package com.kyonggi.backend.auth.login;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.CredentialCacheProperties;
+import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.domain.UserRole;
+import com.kyonggi.backend.auth.domain.UserStatus;
+import com.kyonggi.backend.auth.repo.UserCredentials;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthHttpSupport;
+import com.kyonggi.backend.support.TestClockConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 자격 증명 조회(UserCredentials projection + NegativeEmailCache) 통합 테스트
+ *
+ * - projection: 4개 컬럼만, 영속성 컨텍스트에 엔티티가 올라가지 않는다.
+ * - 없는 이메일: 두 번째부터 캐시 hit (DB 조회 없음), TTL 지나면 다시 조회
+ * - 가입(INSERT) 시 엔티티 리스너가 캐시를 비워서 바로 로그인된다.
+ * - 간이 벤치마크: 엔티티 조회 vs projection, 없는 이메일 로그인(캐시 miss vs hit) 지연을 로그로 남긴다.
+ *   @Tag("benchmark")라 기본 test에서는 빠진다. (./gradlew test -Pbenchmarks --tests '*AuthLoginCredentialLookupIT')
+ */
+@Slf4j
+@DisplayName("[Auth][Login][Credential-Lookup] projection + 없는 이메일 캐시")
+class AuthLoginCredentialLookupIT extends AbstractAuthIntegrationTest {
+
+    private static final int ROUNDS = 200;
+
+    @Autowired MockMvc mvc;
+    @Autowired EntityManager entityManager;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired CredentialCacheProperties cacheProps;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("projection: id/passwordHash/role/status만 읽고 영속성 컨텍스트에 엔티티가 없다")
+    void projection_does_not_hydrate_entity() {
+        User user = createDefaultUser();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(s -> {
+            UserCredentials c = userRepository.findCredentialsByEmail(EMAIL).orElseThrow();
+
+            assertThat(c.id()).isEqualTo(user.getId());
+            assertThat(c.passwordHash()).isEqualTo(user.getPasswordHash());
+            assertThat(c.role()).isEqualTo(UserRole.USER);
+            assertThat(c.status()).isEqualTo(UserStatus.ACTIVE);
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("없는 이메일: 두 번째 로그인부터 캐시 hit, TTL이 지나면 다시 DB 조회")
+    void missing_email_is_cached_until_ttl() throws Exception {
+        String email = uniqueKyonggiEmail("nobody");
+
+        AuthHttpSupport.expectErrorWithCode(login("10.2.0.1", email, PASSWORD), ErrorCode.INVALID_CREDENTIALS);
+        double hits = hits();
+        AuthHttpSupport.expectErrorWithCode(login("10.2.0.2", email, PASSWORD), ErrorCode.INVALID_CREDENTIALS);
+        assertThat(hits()).isEqualTo(hits + 1);
+
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(cacheProps.ttlSeconds() + 1));
+        assertThat(negativeEmailCache.isKnownMissing(email)).isFalse();
+    }
+
+    @Test
+    @DisplayName("가입(INSERT) 시 캐시가 비워져서 바로 로그인된다")
+    void insert_evicts_negative_cache() throws Exception {
+        AuthHttpSupport.expectErrorWithCode(login("10.2.0.3", EMAIL, PASSWORD), ErrorCode.INVALID_CREDENTIALS);
+        assertThat(negativeEmailCache.isKnownMissing(EMAIL)).isTrue();
+
+        createDefaultUser();
+
+        login("10.2.0.3", EMAIL, PASSWORD).andExpect(status().isOk());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("bench: 엔티티 조회 vs projection / 없는 이메일 로그인 캐시 miss vs hit")
+    void lookup_latency_bench() throws Exception {
+        createDefaultUser();
+
+        long entityNanos = timed(() -> userRepository.findByEmail(EMAIL).orElseThrow());
+        long projectionNanos = timed(() -> userRepository.findCredentialsByEmail(EMAIL).orElseThrow());
+
+        // 없는 이메일 로그인: 매번 다른 이메일(캐시 miss) vs 같은 이메일(캐시 hit). IP도 매번 바꿔 잠금에 걸리지 않게 한다.
+        long missNanos = 0;
+        long hitNanos = 0;
+        String cached = uniqueKyonggiEmail("bench_cached");
+        login("10.3.255.255", cached, PASSWORD);
+        for (int i = 0; i < ROUNDS; i++) {
+            String ip = "10.3." + (i / 250) + "." + (i % 250);
+            long t0 = System.nanoTime();
+            login(ip, uniqueKyonggiEmail("bench_miss" + i), PASSWORD);
+            long t1 = System.nanoTime();
+            login(ip, cached, PASSWORD);
+            hitNanos += System.nanoTime() - t1;
+            missNanos += t1 - t0;
+        }
+
+        log.info("[login-bench] lookup avg: entity={}us, projection={}us | /auth/login(unknown email) avg: db={}us, cached={}us",
+                entityNanos / ROUNDS / 1000, projectionNanos / ROUNDS / 1000,
+                missNanos / ROUNDS / 1000, hitNanos / ROUNDS / 1000);
+    }
+
+    private long timed(Runnable lookup) {
+        for (int i = 0; i < 20; i++) {
+            lookup.run(); // warm-up
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            lookup.run();
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private double hits() {
+        return meterRegistry.counter("auth.credential.negative_cache", "result", "hit").count();
+    }
+
+    private ResultActions login(String ip, String email, String password) throws Exception {
+        return mvc.perform(post(AuthHttpSupport.LOGIN_ENDPOINT)
+                .with(req -> { req.setRemoteAddr(ip); return req; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"%s","password":"%s","rememberMe":false}
+                        """.formatted(email, password)));
+    }
+}
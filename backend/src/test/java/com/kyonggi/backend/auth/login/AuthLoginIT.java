@@ -24,7 +24,7 @@ import com.kyonggi.backend.support.AuthHttpSupport.LoginResult;
 
 
 /**
- * LoginService.login(rawEmail, rawPassword, rememberMe) 통합 테스트
+ * LoginService.login(rawEmail, rawPassword, rememberMe, clientIp) 통합 테스트
  *
  * 1) 입력 방어(하지만 현재는 컨트롤러 @Valid가 먼저 막아 400으로 떨어질 수 있음)
  * 2) 도메인 정책(validateKyonggiDomain)
@@ -0,0 +1,132 @@
+package com.kyonggi.backend.auth.login;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.LoginThrottleProperties;
+import com.kyonggi.backend.auth.config.LoginThrottleProperties.Policy;
+import com.kyonggi.backend.auth.identity.login.throttle.LoginThrottle;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthHttpSupport;
+import com.kyonggi.backend.support.TestClockConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * LoginThrottle(로그인 실패 잠금) 통합 테스트
+ *
+ * application-test.yml: 계정 5회 / IP 20회, 첫 잠금 30s / 60s, 윈도우 15분
+ * - 계정: 5번 틀리면 잠김 → 맞는 비밀번호도 429 LOGIN_LOCKED, BCrypt 비교 없음
+ * - 잠금이 풀린 뒤 성공하면 계정 이력 초기화 / 또 틀리면 잠금 시간 2배
+ * - IP: 여러 계정에 걸친 실패도 IP 기준으로 잠긴다.
+ * - 메모리: max-keys를 넘겨 추적하지 않는다.
+ */
+@DisplayName("[Auth][Login][Throttle] 로그인 실패 잠금")
+class AuthLoginThrottleIT extends AbstractAuthIntegrationTest {
+
+    private static final String IP = "10.0.0.7";
+
+    @Autowired MockMvc mvc;
+    @Autowired LoginThrottleProperties throttleProps;
+    @Autowired MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void seedUser() {
+        createDefaultUser();
+    }
+
+    @Test
+    @DisplayName("계정: max-failures번 틀리면 잠기고, 맞는 비밀번호도 해시 비교 없이 429 LOGIN_LOCKED + Retry-After")
+    void account_is_locked_before_hashing() throws Exception {
+        failTimes(EMAIL, throttleProps.account().maxFailures());
+
+        double hashedBefore = meterRegistry.timer("auth.hash.time", "op", "matches").count();
+        MvcResult res = AuthHttpSupport.expectErrorWithCode(login(IP, EMAIL, PASSWORD), ErrorCode.LOGIN_LOCKED);
+
+        assertThat(res.getResponse().getHeader(HttpHeaders.RETRY_AFTER))
+                .isEqualTo(String.valueOf(throttleProps.account().baseLockoutSeconds()));
+        assertThat(meterRegistry.timer("auth.hash.time", "op", "matches").count()).isEqualTo(hashedBefore);
+    }
+
+    @Test
+    @DisplayName("계정: 잠금이 풀린 뒤 성공하면 실패 이력이 초기화된다")
+    void success_resets_account_failures() throws Exception {
+        failTimes(EMAIL, throttleProps.account().maxFailures());
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(throttleProps.account().baseLockoutSeconds()));
+
+        login(IP, EMAIL, PASSWORD).andExpect(status().isOk());
+
+        failTimes(EMAIL, throttleProps.account().maxFailures() - 1);
+        login(IP, EMAIL, PASSWORD).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("계정: 잠금이 풀린 뒤 또 틀리면 잠금 시간이 2배가 된다")
+    void repeated_lockout_doubles() throws Exception {
+        long base = throttleProps.account().baseLockoutSeconds();
+        failTimes(EMAIL, throttleProps.account().maxFailures());
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(base));
+
+        AuthHttpSupport.expectErrorWithCode(login(IP, EMAIL, "wrong-password1!"), ErrorCode.INVALID_CREDENTIALS);
+
+        MvcResult res = AuthHttpSupport.expectErrorWithCode(login(IP, EMAIL, PASSWORD), ErrorCode.LOGIN_LOCKED);
+        assertThat(res.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo(String.valueOf(base * 2));
+    }
+
+    @Test
+    @DisplayName("IP: 서로 다른 계정 실패가 IP 기준 max-failures에 닿으면 그 IP는 잠긴다 (다른 IP는 정상)")
+    void ip_is_locked_across_accounts() throws Exception {
+        for (int i = 0; i < throttleProps.ip().maxFailures(); i++) {
+            AuthHttpSupport.expectErrorWithCode(
+                    login(IP, "nobody" + i + "@kyonggi.ac.kr", "wrong-password1!"),
+                    ErrorCode.INVALID_CREDENTIALS);
+        }
+
+        AuthHttpSupport.expectErrorWithCode(login(IP, EMAIL, PASSWORD), ErrorCode.LOGIN_LOCKED);
+        login("10.0.0.8", EMAIL, PASSWORD).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("메모리: max-keys를 넘는 새 키는 추적하지 않는다")
+    void tracked_keys_are_bounded() {
+        Policy policy = new Policy(3, 30, 3600);
+        LoginThrottle small = new LoginThrottle(
+                new LoginThrottleProperties(true, 900, 16, policy, policy),
+                TestClockConfig.TEST_CLOCK, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 500; i++) {
+            small.onFailure("spray" + i + "@kyonggi.ac.kr", "10.1." + (i / 256) + "." + (i % 256));
+        }
+
+        assertThat(small.size()).isLessThanOrEqualTo(16);
+    }
+
+    private void failTimes(String email, int times) throws Exception {
+        for (int i = 0; i < times; i++) {
+            AuthHttpSupport.expectErrorWithCode(login(IP, email, "wrong-password1!"), ErrorCode.INVALID_CREDENTIALS);
+        }
+    }
+
+    private ResultActions login(String ip, String email, String password) throws Exception {
+        return mvc.perform(post(AuthHttpSupport.LOGIN_ENDPOINT)
+                .with(req -> { req.setRemoteAddr(ip); return req; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"%s","password":"%s","rememberMe":false}
+                        """.formatted(email, password)));
+    }
+}
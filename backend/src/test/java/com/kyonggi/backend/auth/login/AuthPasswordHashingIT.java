@@ -0,0 +1,147 @@
+package com.kyonggi.backend.auth.login;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.PasswordHashingProperties;
+import com.kyonggi.backend.auth.identity.password.PasswordHashingExecutor;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthHttpSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PasswordHashingExecutor(비밀번호 해시 전용 풀) 통합 테스트
+ *
+ * - login: 비밀번호 검증이 해시 풀에서 돌고 auth.hash.* 메트릭이 남는다.
+ * - 포화: latch로 워커를 붙잡은 전용 인스턴스(워커 1, 큐 1)로
+ *   큐 포화 → 즉시 503 AUTH_BUSY, 대기 시간 초과 → 503 + 대기 중이던 해시는 실행되지 않음을 확인한다.
+ */
+@DisplayName("[Auth][Login][Password-Hashing] 해시 전용 풀 admission control")
+class AuthPasswordHashingIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired MeterRegistry meterRegistry;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger hashed = new AtomicInteger();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private PasswordHashingExecutor saturated;
+
+    @AfterEach
+    void releaseWorkers() {
+        release.countDown();
+        callers.shutdownNow();
+        if (saturated != null) {
+            saturated.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("login: 비밀번호 검증은 해시 풀에서 실행되고 auth.hash.time이 기록된다")
+    void login_hashes_on_dedicated_pool() throws Exception {
+        createDefaultUser();
+        long before = meterRegistry.timer("auth.hash.time", "op", "matches").count();
+
+        AuthHttpSupport.performLogin(mvc, EMAIL, PASSWORD, false)
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.timer("auth.hash.time", "op", "matches").count()).isEqualTo(before + 1);
+        assertThat(meterRegistry.timer("auth.hash.wait").count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("포화: 워커 + 큐가 가득 차면 기다리지 않고 503 AUTH_BUSY + Retry-After")
+    void queue_full_fails_fast() throws Exception {
+        saturated = saturatedExecutor(60_000);
+        occupyWorkerAndQueue();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> saturated.encode("another"))
+                .isInstanceOfSatisfying(ApiException.class, e -> {
+                    assertThat(e.getCode()).isEqualTo(ErrorCode.AUTH_BUSY.name());
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(3);
+                });
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1_000);
+    }
+
+    @Test
+    @DisplayName("포화: max-wait을 넘기면 503 AUTH_BUSY, 큐에서 기다리던 해시는 취소되어 실행되지 않는다")
+    void wait_deadline_cancels_queued_hash() throws Exception {
+        saturated = saturatedExecutor(200);
+        callers.submit(() -> saturated.encode("worker-blocker")); // 워커 점유
+        awaitActive(1);
+
+        assertThatThrownBy(() -> saturated.encode("queued"))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getCode()).isEqualTo(ErrorCode.AUTH_BUSY.name()));
+        assertThat(saturated.queueSize()).isZero();
+
+        release.countDown();
+        Thread.sleep(200);
+        assertThat(hashed.get()).isEqualTo(1); // worker-blocker만 실행됨
+    }
+
+    // 워커 1개, 큐 1칸, encode()는 latch가 풀릴 때까지 블록
+    private PasswordHashingExecutor saturatedExecutor(long maxWaitMillis) {
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                hashed.incrementAndGet();
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+        return new PasswordHashingExecutor(blocking,
+                new PasswordHashingProperties(1, 1, maxWaitMillis, 3),
+                new SimpleMeterRegistry());
+    }
+
+    private void occupyWorkerAndQueue() throws InterruptedException {
+        callers.submit(() -> saturated.encode("worker"));
+        awaitActive(1);
+        callers.submit(() -> saturated.encode("queued"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (saturated.queueSize() < 1) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("hash queue not filled");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitActive(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (saturated.activeCount() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("hash worker not busy");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
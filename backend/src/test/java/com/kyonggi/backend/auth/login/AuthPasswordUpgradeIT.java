@@ -0,0 +1,114 @@
+package com.kyonggi.backend.auth.login;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.PasswordEncodingProperties;
+import com.kyonggi.backend.auth.config.PasswordEncodingProperties.Algorithm;
+import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.identity.password.PasswordEncoders;
+import com.kyonggi.backend.auth.identity.password.PasswordHashCalibrator;
+import com.kyonggi.backend.auth.identity.password.PasswordHashCalibrator.Recommendation;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthHttpSupport;
+
+/**
+ * 비밀번호 해시 업그레이드(DelegatingPasswordEncoder + PasswordRehasher) 통합 테스트
+ *
+ * - 접두사 없는 기존 BCrypt 해시 → 로그인 성공 → 백그라운드로 "{bcrypt}" + 현재 cost로 재해시
+ * - 다른 알고리즘(Argon2id) 해시도 검증되고, encode-id(BCRYPT)로 재해시
+ * - 이미 현재 설정인 해시 / 로그인 실패 → 재해시하지 않음
+ * - 캘리브레이션: 현재 장비에서 측정한 권장 cost를 돌려준다.
+ */
+@DisplayName("[Auth][Login][Password-Upgrade] 로그인 시 비밀번호 해시 업그레이드")
+class AuthPasswordUpgradeIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired PasswordEncodingProperties passwordProps;
+
+    @Test
+    @DisplayName("접두사 없는 기존 BCrypt 해시 → 로그인 성공 후 {bcrypt} 포맷으로 재해시")
+    void legacy_bcrypt_hash_is_upgraded_after_login() throws Exception {
+        String legacy = PasswordEncoders.bcrypt(passwordProps.bcryptCost() + 1).encode(PASSWORD);
+        User user = saveUserWithHash(legacy);
+
+        AuthHttpSupport.performLogin(mvc, EMAIL, PASSWORD, false)
+                .andExpect(status().isOk());
+
+        String upgraded = awaitHashChanged(user.getId(), legacy);
+        assertThat(upgraded).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches(PASSWORD, upgraded)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(upgraded)).isFalse();
+
+        // 재해시 후에도 로그인 가능
+        AuthHttpSupport.performLogin(mvc, EMAIL, PASSWORD, false)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Argon2id 해시도 검증되고, encode-id(BCRYPT)로 재해시된다")
+    void other_algorithm_is_verified_and_migrated() throws Exception {
+        PasswordEncodingProperties.Argon2 a = passwordProps.argon2();
+        String argon2 = "{argon2}" + PasswordEncoders.argon2(a.memoryKib(), a.iterations(), a.parallelism()).encode(PASSWORD);
+        User user = saveUserWithHash(argon2);
+
+        AuthHttpSupport.performLogin(mvc, EMAIL, PASSWORD, false)
+                .andExpect(status().isOk());
+
+        assertThat(awaitHashChanged(user.getId(), argon2)).startsWith("{" + Algorithm.BCRYPT.id() + "}");
+    }
+
+    @Test
+    @DisplayName("이미 현재 설정인 해시 / 로그인 실패 → 재해시하지 않음")
+    void current_hash_or_failed_login_is_not_rehashed() throws Exception {
+        User current = createDefaultUser();
+        String hash = current.getPasswordHash();
+
+        AuthHttpSupport.performLogin(mvc, EMAIL, PASSWORD, false)
+                .andExpect(status().isOk());
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performLogin(mvc, EMAIL, PASSWORD + "x", false),
+                ErrorCode.INVALID_CREDENTIALS
+        );
+
+        Thread.sleep(300);
+        assertThat(userRepository.findById(current.getId()).orElseThrow().getPasswordHash()).isEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("캘리브레이션: 현재 장비에서 재서 목표 시간에 맞는 BCrypt cost를 권장한다")
+    void calibration_recommends_cost_for_target() {
+        Recommendation r = new PasswordHashCalibrator(passwordProps).calibrate();
+
+        assertThat(r.algorithm()).isEqualTo(Algorithm.BCRYPT);
+        assertThat(r.current()).isEqualTo(passwordProps.bcryptCost());
+        assertThat(r.recommended()).isBetween(4L, 20L);
+    }
+
+    private User saveUserWithHash(String hash) {
+        return userRepository.save(User.create(EMAIL, hash, NICKNAME));
+    }
+
+    private String awaitHashChanged(Long userId, String before) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (true) {
+            String hash = userRepository.findById(userId).orElseThrow().getPasswordHash();
+            if (!hash.equals(before)) {
+                return hash;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("password hash was not upgraded");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.kyonggi.backend.auth.login;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.identity.existence.BloomFilter;
+import com.kyonggi.backend.auth.identity.existence.RegisteredUserFilter.Stats;
+import com.kyonggi.backend.auth.identity.login.credential.UserCredentialLookup;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthHttpSupport;
+import com.kyonggi.backend.support.TestClockConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입 이메일/닉네임 Bloom filter(RegisteredUserFilter) 통합 테스트
+ *
+ * - 가입(INSERT) 직후 "있을 수도 있음", 가입 안 한 값은 "확실히 없음" (닉네임은 대소문자 무시)
+ * - 다른 인스턴스 가입(리스너를 거치지 않은 INSERT)은 refresh()에서 반영된다.
+ *   로그인은 filter를 쓰지 않으므로 refresh 전에도 그 계정으로 로그인할 수 있다.
+ * - 갱신이 max-staleness보다 밀리면 filter를 믿지 않고 "있을 수도 있음"으로 답한다.
+ * - 간이 벤치마크: 재구성 시간, 1M 사용자당 메모리, 실측 오탐률을 로그로 남긴다.
+ *   @Tag("benchmark")라 기본 test에서는 빠진다. (./gradlew test -Pbenchmarks --tests '*AuthRegisteredUserFilterIT')
+ */
+@Slf4j
+@DisplayName("[Auth][Existence-Filter] 가입 이메일/닉네임 Bloom filter")
+class AuthRegisteredUserFilterIT extends AbstractAuthIntegrationTest {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (email, password_hash, nickname) VALUES (?, ?, ?)";
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired UserCredentialLookup userCredentialLookup;
+
+    @Test
+    @DisplayName("가입 직후 이메일/닉네임은 '있을 수도 있음', 나머지는 '확실히 없음'")
+    void insert_is_visible_immediately() {
+        assertThat(registeredUserFilter.isReady()).isTrue();
+        assertThat(registeredUserFilter.mightHaveEmail(EMAIL)).isFalse();
+
+        createDefaultUser();
+
+        assertThat(registeredUserFilter.mightHaveEmail(EMAIL)).isTrue();
+        assertThat(registeredUserFilter.mightHaveNickname(NICKNAME)).isTrue();
+        assertThat(registeredUserFilter.mightHaveNickname(NICKNAME.toUpperCase())).isTrue(); // users collation은 대소문자 무시
+        assertThat(registeredUserFilter.mightHaveNickname("Nobody")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 가입 직후: filter가 아직 모르는 계정도 로그인할 수 있다")
+    void login_does_not_trust_filter_absent() throws Exception {
+        String email = uniqueKyonggiEmail("fresh_node");
+        jdbc.update(INSERT_SQL, email, passwordEncoder.encode(PASSWORD), "FreshNode"); // 다른 인스턴스 가입 (리스너 없음)
+        assertThat(registeredUserFilter.mightHaveEmail(email)).isFalse();
+        double absentBefore = absent("email");
+
+        AuthHttpSupport.performLogin(mvc, email, PASSWORD, false).andExpect(status().isOk());
+
+        assertThat(absent("email")).isEqualTo(absentBefore); // 로그인 경로는 filter를 묻지 않는다
+        assertThat(negativeEmailCache.isKnownMissing(email)).isFalse();
+    }
+
+    @Test
+    @DisplayName("없는 이메일 로그인: DB에서 확인하고 없는 이메일 캐시에 남긴다")
+    void unknown_email_login_goes_to_db() throws Exception {
+        String email = uniqueKyonggiEmail("nobody");
+
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performLogin(mvc, email, PASSWORD, false),
+                ErrorCode.INVALID_CREDENTIALS);
+
+        assertThat(negativeEmailCache.isKnownMissing(email)).isTrue();
+    }
+
+    @Test
+    @DisplayName("refresh: 다른 인스턴스 가입분(리스너 없이 INSERT)도 읽어온다")
+    void refresh_picks_up_rows_from_other_instances() {
+        String email = uniqueKyonggiEmail("other_node");
+        jdbc.update(INSERT_SQL, email, passwordEncoder.encode(PASSWORD), "OtherNode");
+        assertThat(registeredUserFilter.mightHaveEmail(email)).isFalse();
+
+        assertThat(registeredUserFilter.refresh()).isEqualTo(1);
+
+        assertThat(registeredUserFilter.mightHaveEmail(email)).isTrue();
+        assertThat(registeredUserFilter.mightHaveNickname("OtherNode")).isTrue();
+    }
+
+    @Test
+    @DisplayName("stale filter: 갱신이 밀리면 '있을 수도 있음'으로 답한다 (자격 증명 조회는 filter와 무관하게 DB)")
+    void stale_filter_falls_through_to_db() {
+        String email = uniqueKyonggiEmail("stale_node");
+        jdbc.update(INSERT_SQL, email, passwordEncoder.encode(PASSWORD), "StaleNode"); // 다른 인스턴스 가입 (리스너 없음)
+
+        // refresh 전: filter는 "확실히 없음"이지만 자격 증명 조회는 DB에서 찾는다
+        assertThat(registeredUserFilter.mightHaveEmail(email)).isFalse();
+        assertThat(userCredentialLookup.find(email)).isPresent();
+
+        // refresh가 max-staleness(테스트 1h) 동안 성공하지 못함
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofHours(1).plusSeconds(1));
+        assertThat(registeredUserFilter.isStale()).isTrue();
+        assertThat(registeredUserFilter.mightHaveEmail(uniqueKyonggiEmail("anyone"))).isTrue();
+
+        // 갱신이 다시 성공하면 filter를 다시 쓴다
+        registeredUserFilter.refresh();
+        assertThat(registeredUserFilter.isStale()).isFalse();
+        assertThat(registeredUserFilter.mightHaveEmail(email)).isTrue();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("bench: 재구성 시간 / 1M 사용자당 메모리 / 실측 오탐률")
+    void rebuild_memory_and_false_positive_rate() {
+        int users = 20_000;
+        List<Object[]> rows = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            rows.add(new Object[] {"bench" + i + "@kyonggi.ac.kr", "hash", "bench" + i});
+        }
+        jdbc.batchUpdate(INSERT_SQL, rows);
+
+        Stats stats = registeredUserFilter.rebuild();
+        assertThat(stats.users()).isEqualTo(users);
+        for (int i = 0; i < users; i += 997) {
+            assertThat(registeredUserFilter.mightHaveEmail("bench" + i + "@kyonggi.ac.kr")).isTrue(); // false negative 없음
+        }
+
+        // 1M 원소 / 목표 1%: 넣지 않은 1M개로 실측
+        int n = 1_000_000;
+        long startedAt = System.nanoTime();
+        BloomFilter filter = BloomFilter.create(n, 0.01);
+        for (int i = 0; i < n; i++) {
+            filter.put("member" + i + "@kyonggi.ac.kr");
+        }
+        long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        int falsePositives = 0;
+        for (int i = 0; i < n; i++) {
+            if (filter.mightContain("stranger" + i + "@kyonggi.ac.kr")) {
+                falsePositives++;
+            }
+        }
+        double measured = (double) falsePositives / n;
+
+        log.info("[existence-filter-bench] rebuild users={} in {}ms ({} bytes, {} bytes / 1M users, k={}) | "
+                        + "standalone 1M: build={}ms, {} bytes per filter, fpp expected={} measured={}",
+                stats.users(), stats.elapsedMillis(), stats.bytes(), stats.bytesPerMillionUsers(), stats.hashFunctions(),
+                buildMillis, filter.sizeInBytes(),
+                String.format("%.5f", filter.expectedFalsePositiveRate(n)), String.format("%.5f", measured));
+
+        assertThat(measured).isLessThan(0.02);
+    }
+
+    private double absent(String kind) {
+        return meterRegistry.counter("auth.existence_filter.checks", "kind", kind, "result", "absent").count();
+    }
+}
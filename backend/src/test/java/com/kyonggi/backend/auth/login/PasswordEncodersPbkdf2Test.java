@@ -0,0 +1,65 @@
+package com.kyonggi.backend.auth.login;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
+
+import com.kyonggi.backend.auth.config.PasswordEncodingProperties;
+import com.kyonggi.backend.auth.config.PasswordEncodingProperties.Algorithm;
+import com.kyonggi.backend.auth.identity.password.PasswordEncoders;
+
+/**
+ * PBKDF2 반복 횟수 업그레이드 (DelegatingPasswordEncoder + 반복 횟수 기록 포맷)
+ *
+ * - 해시에 반복 횟수가 남으므로, 설정을 올리면 기존 해시는 검증되면서 재해시 대상(upgradeEncoding)이 된다.
+ * - 반복 횟수가 없는 기존 포맷도 현재 설정으로 검증되고 재해시 대상이 된다.
+ */
+@DisplayName("[Auth][Password] PBKDF2 반복 횟수 변경 → 재해시")
+class PasswordEncodersPbkdf2Test {
+
+    private static final String PASSWORD = "Abcdef12!";
+
+    @Test
+    @DisplayName("반복 횟수를 올리면 기존 해시는 검증되고 upgradeEncoding=true, 새 해시는 false")
+    void raising_iterations_triggers_rehash() {
+        PasswordEncoder before = PasswordEncoders.delegating(props(1_000));
+        PasswordEncoder after = PasswordEncoders.delegating(props(2_000));
+
+        String oldHash = before.encode(PASSWORD);
+        assertThat(oldHash).startsWith("{pbkdf2}1000$");
+        assertThat(before.upgradeEncoding(oldHash)).isFalse();
+
+        assertThat(after.matches(PASSWORD, oldHash)).isTrue();
+        assertThat(after.matches(PASSWORD + "x", oldHash)).isFalse();
+        assertThat(after.upgradeEncoding(oldHash)).isTrue();
+
+        String newHash = after.encode(PASSWORD);
+        assertThat(newHash).startsWith("{pbkdf2}2000$");
+        assertThat(after.matches(PASSWORD, newHash)).isTrue();
+        assertThat(after.upgradeEncoding(newHash)).isFalse();
+        assertThat(before.upgradeEncoding(newHash)).isFalse(); // 설정을 낮춰도 더 강한 해시는 그대로 둔다
+    }
+
+    @Test
+    @DisplayName("반복 횟수 미기록 기존 포맷: 현재 설정으로 검증되고 재해시 대상")
+    void untagged_hash_is_verified_and_upgraded() {
+        PasswordEncoder encoder = PasswordEncoders.delegating(props(1_000));
+        String legacy = "{pbkdf2}"
+                + new Pbkdf2PasswordEncoder("", 16, 1_000, SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256).encode(PASSWORD);
+
+        assertThat(encoder.matches(PASSWORD, legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    private static PasswordEncodingProperties props(int pbkdf2Iterations) {
+        return new PasswordEncodingProperties(
+                Algorithm.PBKDF2,
+                4,
+                new PasswordEncodingProperties.Argon2(1024, 1, 1),
+                pbkdf2Iterations,
+                new PasswordEncodingProperties.Calibration(false, 100, 1));
+    }
+}
@@ -0,0 +1,101 @@
+package com.kyonggi.backend.auth.login;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kyonggi.backend.auth.config.CredentialCacheProperties;
+import com.kyonggi.backend.auth.identity.login.credential.NegativeEmailCache;
+import com.kyonggi.backend.auth.identity.login.credential.UserCredentialLookup;
+import com.kyonggi.backend.auth.repo.UserCredentials;
+import com.kyonggi.backend.auth.repo.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * UserCredentialLookup 단위 테스트 (캐시/리포지토리 mock)
+ *
+ * - 없는 이메일 캐시에 없으면 항상 DB로 확인하고, "없음"은 DB 조회 결과로만 캐시한다.
+ * - DB 조회 도중 가입 커밋(evict)이 끼면 "없음"을 캐시하지 않는다. (NegativeEmailCache generation)
+ */
+@DisplayName("[Auth][Login] 자격 증명 조회: 없는 이메일 캐시 + DB")
+class UserCredentialLookupTest {
+
+    private static final String EMAIL = "someone@kyonggi.ac.kr";
+
+    private UserRepository userRepository;
+    private NegativeEmailCache negativeEmailCache;
+    private UserCredentialLookup lookup;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        negativeEmailCache = mock(NegativeEmailCache.class);
+        lookup = new UserCredentialLookup(userRepository, negativeEmailCache);
+    }
+
+    @Test
+    @DisplayName("없는 이메일 캐시 hit: DB에 가지 않는다")
+    void known_missing_skips_db() {
+        when(negativeEmailCache.isKnownMissing(EMAIL)).thenReturn(true);
+
+        assertThat(lookup.find(EMAIL)).isEmpty();
+
+        verify(userRepository, never()).findCredentialsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("DB hit: 그대로 돌려주고 없는 이메일 캐시에 쓰지 않는다")
+    void db_hit_is_returned() {
+        UserCredentials credentials = mock(UserCredentials.class);
+        when(userRepository.findCredentialsByEmail(EMAIL)).thenReturn(Optional.of(credentials));
+
+        assertThat(lookup.find(EMAIL)).containsSame(credentials);
+
+        verify(negativeEmailCache, never()).putMissing(eq(EMAIL), anyLong());
+    }
+
+    @Test
+    @DisplayName("DB 없음: 그때만 없는 이메일 캐시에 쓴다")
+    void db_miss_is_cached() {
+        when(userRepository.findCredentialsByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThat(lookup.find(EMAIL)).isEmpty();
+
+        verify(userRepository).findCredentialsByEmail(EMAIL);
+        verify(negativeEmailCache).putMissing(EMAIL, 0L);
+    }
+
+    @Test
+    @DisplayName("조회 도중 가입이 커밋되어 evict 되면 '없음'을 캐시하지 않는다")
+    void evict_during_lookup_skips_negative_entry() {
+        NegativeEmailCache cache = new NegativeEmailCache(
+                new CredentialCacheProperties(true, 100, 60), Clock.systemUTC(), new SimpleMeterRegistry());
+        UserCredentialLookup realCacheLookup = new UserCredentialLookup(userRepository, cache);
+
+        // 커밋 전 상태를 읽은 직후 가입 트랜잭션이 커밋되고 afterCommit evict가 돈다
+        when(userRepository.findCredentialsByEmail(EMAIL)).thenAnswer(inv -> {
+            cache.evictAfterCommit(EMAIL);
+            return Optional.empty();
+        });
+        assertThat(realCacheLookup.find(EMAIL)).isEmpty();
+        assertThat(cache.isKnownMissing(EMAIL)).isFalse();
+
+        // 끼어드는 evict가 없으면 평소대로 캐시한다
+        doReturn(Optional.empty()).when(userRepository).findCredentialsByEmail(EMAIL);
+        assertThat(realCacheLookup.find(EMAIL)).isEmpty();
+        assertThat(cache.isKnownMissing(EMAIL)).isTrue();
+    }
+}
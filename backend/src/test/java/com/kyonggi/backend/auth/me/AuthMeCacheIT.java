@@ -0,0 +1,111 @@
+package com.kyonggi.backend.auth.me;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.MeCacheProperties;
+import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.domain.UserStatus;
+import com.kyonggi.backend.auth.identity.me.cache.UserChangeFeed;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthFlowSupport;
+import com.kyonggi.backend.support.AuthHttpSupport;
+import com.kyonggi.backend.support.TestClockConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * /auth/me 프로필 캐시 통합 테스트
+ *
+ * - 두 번째 /auth/me부터는 캐시에서 응답한다. (hit 카운터, auth.me 타이머)
+ * - JPA 삭제는 같은 인스턴스 캐시를 바로 비우고 user_changes에 남는다.
+ * - 다른 인스턴스 변경(SQL + user_changes)은 poll() 후 반영된다.
+ * - 피드 없이 SQL로만 바꾼 값은 TTL이 지나면 반영된다.
+ *
+ * 캐시가 비어 있을 때의 삭제/비활성 정책은 AuthMeIT가 그대로 검증한다.
+ */
+@DisplayName("[Auth][Me][Cache] /auth/me 캐시/무효화 통합 테스트")
+class AuthMeCacheIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired UserChangeFeed userChangeFeed;
+    @Autowired MeCacheProperties props;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("cache: 두 번째 조회는 hit, SQL 직접 변경은 TTL 후 반영")
+    void second_me_is_cached_until_ttl() throws Exception {
+        createDefaultUser();
+        String token = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken();
+        double hitsBefore = hits();
+
+        me(token).andExpect(status().isOk()).andExpect(jsonPath("$.nickname").value(NICKNAME));
+        me(token).andExpect(status().isOk());
+        assertThat(hits() - hitsBefore).isEqualTo(1.0d);
+
+        // 피드를 거치지 않는 변경: TTL 동안은 캐시 값
+        jdbc.update("UPDATE users SET nickname = 'Renamed' WHERE email = ?", EMAIL);
+        me(token).andExpect(jsonPath("$.nickname").value(NICKNAME));
+
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(props.ttlSeconds() + 1));
+        me(token).andExpect(jsonPath("$.nickname").value("Renamed"));
+
+        assertThat(meterRegistry.get("auth.me").timer().count()).isGreaterThanOrEqualTo(4);
+        assertThat(meterRegistry.get("auth.me.cache.hit_ratio").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("invalidate: JPA 삭제 → 캐시 즉시 무효화 + user_changes 기록 → USER_NOT_FOUND")
+    void jpa_delete_invalidates_cache() throws Exception {
+        User user = createDefaultUser();
+        String token = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken();
+        me(token).andExpect(status().isOk());
+        assertThat(meProfileCache.size()).isEqualTo(1);
+
+        refreshTokenRepository.deleteAll();
+        userRepository.delete(user);
+
+        assertThat(meProfileCache.size()).isZero();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM user_changes WHERE user_id = ?", Long.class, user.getId()))
+                .isPositive();
+        AuthHttpSupport.expectErrorWithCode(me(token), ErrorCode.USER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("feed: 다른 인스턴스의 상태 변경(user_changes) → poll() 후 ACCOUNT_DISABLED")
+    void change_feed_invalidates_cache() throws Exception {
+        User user = createDefaultUser();
+        String token = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken();
+        me(token).andExpect(status().isOk());
+
+        // 다른 인스턴스가 한 것처럼: users 변경 + 피드 기록 (이 인스턴스 캐시는 모른다)
+        jdbc.update("UPDATE users SET status = ? WHERE id = ?", UserStatus.SUSPENDED.name(), user.getId());
+        jdbc.update("INSERT INTO user_changes (user_id) VALUES (?)", user.getId());
+        me(token).andExpect(status().isOk());
+
+        assertThat(userChangeFeed.poll()).isPositive();
+        AuthHttpSupport.expectErrorWithCode(me(token), ErrorCode.ACCOUNT_DISABLED);
+
+        // 이미 적용한 변경은 다시 적용하지 않는다
+        assertThat(userChangeFeed.poll()).isZero();
+    }
+
+    private ResultActions me(String token) throws Exception {
+        return AuthHttpSupport.performMe(mvc, AuthHttpSupport.bearer(token));
+    }
+
+    private double hits() {
+        return meterRegistry.get("auth.me.cache").tag("result", "hit").counter().count();
+    }
+}
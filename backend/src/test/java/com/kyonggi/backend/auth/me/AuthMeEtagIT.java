@@ -0,0 +1,110 @@
+package com.kyonggi.backend.auth.me;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.domain.UserStatus;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthFlowSupport;
+import com.kyonggi.backend.support.AuthHttpSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * /auth/me 조건부 GET (ETag / If-None-Match → 304) 통합 테스트
+ *
+ * - 200 응답에 강한 ETag + Cache-Control(private, no-cache)
+ * - 같은 ETag로 다시 물으면 304 + 빈 본문 (캐시 hit → DB 조회 없음)
+ * - users가 바뀌면(updated_at) ETag가 바뀌어 200 + 새 본문
+ * - 비활성 계정은 ETag가 맞아도 304가 아니라 ACCOUNT_DISABLED
+ */
+@DisplayName("[Auth][Me][ETag] /auth/me 조건부 GET 통합 테스트")
+class AuthMeEtagIT extends AbstractAuthIntegrationTest {
+
+    private static final String ME_ENDPOINT = "/auth/me";
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("If-None-Match 일치 → 304 + 빈 본문, 캐시 hit")
+    void matching_etag_returns_304_without_body() throws Exception {
+        createDefaultUser();
+        String token = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken();
+
+        MvcResult first = me(token, null)
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"me").endsWith("\"");
+
+        double hitsBefore = hits();
+        MvcResult second = me(token, etag)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+        assertThat(second.getResponse().getContentAsByteArray()).isEmpty();
+        assertThat(hits() - hitsBefore).isEqualTo(1.0d);
+
+        me(token, "\"something-else\"").andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("users 변경(updated_at) → ETag가 바뀌어 200 + 새 본문")
+    void etag_changes_when_user_row_changes() throws Exception {
+        User user = createDefaultUser();
+        String token = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken();
+        String etag = me(token, null).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        jdbc.update("UPDATE users SET nickname = 'Renamed' WHERE id = ?", user.getId());
+        meProfileCache.invalidate(user.getId()); // 다른 인스턴스 변경이 피드로 반영된 상태
+
+        MvcResult res = me(token, etag)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value("Renamed"))
+                .andReturn();
+        assertThat(res.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("비활성 계정은 ETag가 맞아도 304가 아니라 ACCOUNT_DISABLED")
+    void disabled_user_never_gets_304() throws Exception {
+        User user = createDefaultUser();
+        String token = AuthFlowSupport.loginOk(mvc, EMAIL, PASSWORD, false).accessToken();
+        String etag = me(token, null).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        jdbc.update("UPDATE users SET status = ? WHERE id = ?", UserStatus.SUSPENDED.name(), user.getId());
+        meProfileCache.invalidate(user.getId());
+
+        AuthHttpSupport.expectErrorWithCode(me(token, etag), ErrorCode.ACCOUNT_DISABLED);
+    }
+
+    private ResultActions me(String token, String ifNoneMatch) throws Exception {
+        var request = get(ME_ENDPOINT).header(HttpHeaders.AUTHORIZATION, AuthHttpSupport.bearer(token));
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mvc.perform(request);
+    }
+
+    private double hits() {
+        return meterRegistry.get("auth.me.cache").tag("result", "hit").counter().count();
+    }
+}
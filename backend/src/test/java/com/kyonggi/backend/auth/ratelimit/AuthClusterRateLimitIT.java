@@ -0,0 +1,127 @@
+package com.kyonggi.backend.auth.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.kyonggi.backend.BackendApplication;
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.security.ratelimit.ClusterRateLimiter;
+import com.kyonggi.backend.support.TestClockConfig;
+
+/**
+ * 클러스터 공유 Rate Limit 통합 테스트 (노드 2개 = 애플리케이션 컨텍스트 2개)
+ *
+ * - node A: 이 테스트의 스프링 컨텍스트
+ * - node B: 같은 MySQL에 붙는 두 번째 컨텍스트 (SpringApplicationBuilder, 웹 서버 없음)
+ * - 두 노드는 같은 TEST_CLOCK을 쓰므로 윈도우 경계가 같다.
+ * - 주기 sync는 테스트에서 직접 호출한다. (application-test.yml: sync-interval-millis 1h)
+ */
+@TestPropertySource(properties = "app.rate-limit.cluster.enabled=true")
+@DisplayName("[Auth][RateLimit][Cluster] MySQL 공유 카운터 통합 테스트")
+class AuthClusterRateLimitIT extends AbstractAuthIntegrationTest {
+
+    private static ConfigurableApplicationContext nodeB;
+
+    @Autowired ClusterRateLimiter nodeA;
+    @Autowired JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void startSecondNode() {
+        Map<String, Object> props = new HashMap<>(containerProperties());
+        props.put("app.rate-limit.cluster.enabled", "true");
+        props.put("spring.main.banner-mode", "off");
+
+        nodeB = new SpringApplicationBuilder(BackendApplication.class, TestClockConfig.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties(props)
+                .run();
+    }
+
+    @AfterAll
+    static void stopSecondNode() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @BeforeEach
+    void cleanCounters() {
+        jdbc.update("DELETE FROM rate_limit_counters");
+    }
+
+    @Test
+    @DisplayName("두 노드의 소비량이 합산되어 cluster-limit을 넘지 못한다")
+    void limit_is_shared_between_nodes() {
+        ClusterRateLimiter b = nodeB.getBean(ClusterRateLimiter.class);
+        String key = "login|email|shared_" + System.nanoTime() + "@kyonggi.ac.kr";
+        int limit = 10;
+
+        for (int i = 0; i < 6; i++) {
+            assertThat(nodeA.tryAcquire(key, limit)).isZero();
+        }
+        nodeA.sync();
+
+        assertThat(b.tryAcquire(key, limit)).isZero(); // B가 키를 추적 시작
+        b.sync();                                      // B: 1 반영 + 전역 7 재조회
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(b.tryAcquire(key, limit)).isZero(); // 8, 9, 10
+        }
+        assertThat(b.tryAcquire(key, limit)).isPositive(); // 11번째는 차단
+
+        b.sync();
+        nodeA.sync();
+        assertThat(nodeA.tryAcquire(key, limit)).isPositive(); // A도 전역 카운트를 보고 차단
+    }
+
+    @Test
+    @DisplayName("요청마다 쓰지 않고, sync 한 번에 키당 row 하나로 모아서 반영한다")
+    void increments_are_batched_per_key() {
+        String key = "otp-request|ip|10.9.9." + (System.nanoTime() % 200);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(nodeA.tryAcquire(key, 1_000)).isZero();
+        }
+        assertThat(countRows(key)).isZero(); // sync 전에는 DB 쓰기 없음
+
+        nodeA.sync();
+
+        assertThat(countRows(key)).isEqualTo(1);
+        assertThat(jdbc.queryForObject(
+                "SELECT count FROM rate_limit_counters WHERE bucket_key = ?", Integer.class, key))
+                .isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("bucket_key 길이를 넘는 키가 섞여도 다른 키의 증가분은 그대로 반영된다")
+    void oversized_key_does_not_drop_other_deltas() {
+        String longKey = "login|email|" + "a".repeat(300) + "@kyonggi.ac.kr";
+        String key = "login|ip|10.8.8." + (System.nanoTime() % 200);
+
+        assertThat(nodeA.tryAcquire(longKey, 1)).isZero();
+        assertThat(nodeA.tryAcquire(key, 100)).isZero();
+        nodeA.sync();
+
+        assertThat(countRows(key)).isEqualTo(1);
+        assertThat(countRows(longKey)).isZero();
+    }
+
+    private int countRows(String key) {
+        return jdbc.queryForObject(
+                "SELECT COUNT(*) FROM rate_limit_counters WHERE bucket_key = ?", Integer.class, key);
+    }
+}
@@ -0,0 +1,135 @@
+package com.kyonggi.backend.auth.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.OtpPurpose;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.security.ratelimit.StripedTokenBucketLimiter;
+import com.kyonggi.backend.support.AuthHttpSupport;
+
+/**
+ * 요청 유입 단계 Rate Limit 필터 통합 테스트
+ *
+ * - application-test.yml의 라우트 규칙을 그대로 쓰고, enabled만 켠다.
+ *   (otp-request: per-ip 5 / per-email 2, login: per-email 3, nickname-available(GET): per-ip 5)
+ * - 차단된 요청은 서비스(DB)까지 가지 않아야 한다.
+ */
+@TestPropertySource(properties = "app.rate-limit.enabled=true")
+@DisplayName("[Auth][RateLimit] 요청 유입 단계 Rate Limit 통합 테스트")
+class AuthRateLimitIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired StripedTokenBucketLimiter limiter;
+
+    @BeforeEach
+    void resetBuckets() {
+        limiter.clear();
+    }
+
+    @Test
+    @DisplayName("login: 같은 이메일 연속 시도 → per-email 한도 초과 시 429 RATE_LIMITED + Retry-After")
+    void login_is_limited_per_email() throws Exception {
+        createDefaultUser();
+
+        for (int i = 0; i < 3; i++) {
+            AuthHttpSupport.expectErrorWithCode(
+                    login("10.0.0.1", EMAIL, "wrong-password"),
+                    ErrorCode.INVALID_CREDENTIALS
+            );
+        }
+
+        // 대소문자/공백이 달라도 정규화된 같은 이메일 버킷이다.
+        ResultActions limited = login("10.0.0.1", "  " + EMAIL.toUpperCase() + " ", PASSWORD);
+        AuthHttpSupport.expectErrorWithCode(limited, ErrorCode.RATE_LIMITED);
+        limited.andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        MvcResult res = limited.andReturn();
+        assertThat(Long.parseLong(res.getResponse().getHeader(HttpHeaders.RETRY_AFTER))).isPositive();
+
+        // 다른 이메일은 영향 없음
+        AuthHttpSupport.expectErrorWithCode(
+                login("10.0.0.1", "other@kyonggi.ac.kr", PASSWORD),
+                ErrorCode.INVALID_CREDENTIALS
+        );
+    }
+
+    @Test
+    @DisplayName("otp/request: 같은 IP에서 이메일을 바꿔가며 요청 → per-ip 한도 초과 시 429 + OTP 레코드 미생성")
+    void otp_request_is_limited_per_ip_before_db() throws Exception {
+        String ip = "10.0.0.2";
+
+        for (int i = 0; i < 5; i++) {
+            otpRequest(ip, uniqueKyonggiEmail("ip" + i)).andExpect(status().is2xxSuccessful());
+        }
+
+        String blocked = uniqueKyonggiEmail("blocked");
+        AuthHttpSupport.expectErrorWithCode(otpRequest(ip, blocked), ErrorCode.RATE_LIMITED);
+
+        // 필터에서 잘렸으므로 서비스/DB까지 가지 않았다.
+        assertThat(emailOtpRepository.findByEmailAndPurpose(blocked, OtpPurpose.SIGNUP)).isEmpty();
+
+        // 다른 IP는 영향 없음
+        otpRequest("10.0.0.3", blocked).andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    @DisplayName("nickname-available(GET): 같은 IP 연속 조회 → per-ip 한도 초과 시 429, 다른 IP는 영향 없음")
+    void nickname_available_is_limited_per_ip() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            nicknameAvailable("10.0.0.4", "Nick" + i).andExpect(status().isOk());
+        }
+
+        AuthHttpSupport.expectErrorWithCode(nicknameAvailable("10.0.0.4", "Nick5"), ErrorCode.RATE_LIMITED);
+        nicknameAvailable("10.0.0.5", "Nick5").andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("대상 라우트가 아니면 제한하지 않는다 (/auth/refresh)")
+    void non_limited_route_passes_through() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            AuthHttpSupport.expectErrorWithCode(
+                    AuthHttpSupport.performRefresh(mvc, null),
+                    ErrorCode.REFRESH_INVALID
+            );
+        }
+    }
+
+    private ResultActions login(String ip, String email, String password) throws Exception {
+        return mvc.perform(post(AuthHttpSupport.LOGIN_ENDPOINT)
+                .with(req -> { req.setRemoteAddr(ip); return req; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"%s","password":"%s","rememberMe":false}
+                        """.formatted(email, password)));
+    }
+
+    private ResultActions nicknameAvailable(String ip, String nickname) throws Exception {
+        return mvc.perform(get(AuthHttpSupport.NICKNAME_AVAILABLE_ENDPOINT)
+                .with(req -> { req.setRemoteAddr(ip); return req; })
+                .param("nickname", nickname));
+    }
+
+    private ResultActions otpRequest(String ip, String email) throws Exception {
+        return mvc.perform(post(AuthHttpSupport.SIGNUP_OTP_REQUEST_ENDPOINT)
+                .with(req -> { req.setRemoteAddr(ip); return req; })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"%s"}
+                        """.formatted(email)));
+    }
+}
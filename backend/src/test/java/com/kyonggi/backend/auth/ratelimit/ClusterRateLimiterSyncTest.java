@@ -0,0 +1,84 @@
+package com.kyonggi.backend.auth.ratelimit;
+
+import java.sql.Connection;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.kyonggi.backend.security.ratelimit.ClusterRateLimiter;
+import com.kyonggi.backend.security.ratelimit.RateLimitProperties.Cluster;
+import com.kyonggi.backend.support.TestClockConfig.MutableClock;
+
+/**
+ * ClusterRateLimiter.sync() 실패 격리 단위 테스트 (DB 없이 JdbcTemplate mock)
+ *
+ * - 배치 upsert가 실패하면 row 단위로 재시도하고, 실패한 row만 버린다.
+ */
+@DisplayName("[RateLimit][Cluster] sync 실패 격리")
+class ClusterRateLimiterSyncTest {
+
+    private JdbcTemplate jdbc;
+    private ClusterRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+
+        jdbc = mock(JdbcTemplate.class);
+        when(jdbc.getDataSource()).thenReturn(dataSource);
+
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:10Z"), ZoneOffset.UTC);
+        limiter = new ClusterRateLimiter(jdbc, clock, new Cluster(true, 60, 1000));
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 row 단위로 다시 반영하고, 실패한 row만 버린다")
+    void failing_row_is_isolated() {
+        when(jdbc.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("Data too long for column 'bucket_key'"));
+        doThrow(new DataIntegrityViolationException("row rejected"))
+                .when(jdbc).update(anyString(), eq("login|email|bad"), any(), any());
+
+        assertThat(limiter.tryAcquire("login|email|bad", 10)).isZero();
+        assertThat(limiter.tryAcquire("login|ip|10.0.0.1", 10)).isZero();
+        assertThat(limiter.tryAcquire("login|ip|10.0.0.2", 10)).isZero();
+
+        limiter.sync();
+
+        verify(jdbc).update(anyString(), eq("login|email|bad"), any(), any());
+        verify(jdbc).update(anyString(), eq("login|ip|10.0.0.1"), any(), any());
+        verify(jdbc).update(anyString(), eq("login|ip|10.0.0.2"), any(), any());
+    }
+
+    @Test
+    @DisplayName("bucket_key 길이를 넘는 키는 공유 카운터에 올리지 않는다")
+    void oversized_key_is_never_written() {
+        String longKey = "login|email|" + "a".repeat(300);
+
+        assertThat(limiter.tryAcquire(longKey, 1)).isZero();
+        assertThat(limiter.tryAcquire(longKey, 1)).isZero(); // 로컬 버킷 판단만 따른다
+        assertThat(limiter.trackedKeys()).isZero();
+
+        limiter.sync();
+
+        verify(jdbc, never()).batchUpdate(anyString(), anyList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.EmailOtp;
+import com.kyonggi.backend.auth.domain.OtpPurpose;
+import com.kyonggi.backend.auth.identity.signup.job.EmailOtpCleanupJob;
+import com.kyonggi.backend.support.TestClockConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * EmailOtpCleanupJob 통합 테스트
+ *
+ * - TEST_CLOCK: 2026-01-01 00:00 (KST) → 1시간 이동 후 실행
+ * - 어제 발송 + 만료 → 삭제
+ * - 오늘 발송 + 만료 → 유지 (daily-send-limit 집계에 필요)
+ * - 미만료 → 유지
+ * - 다른 세션이 GET_LOCK을 쥐고 있으면 → 아무것도 지우지 않고 skip
+ *
+ * 스케줄은 application-test.yml에서 꺼져 있고(cron "-"), runOnce()를 직접 호출한다.
+ * batch-size가 2라서 여러 배치로 나뉘어 지워지는 경로도 함께 탄다.
+ */
+@DisplayName("[Auth][Signup][OTP-Cleanup] 만료 OTP 정리 배치")
+class AuthOtpCleanupJobIT extends AbstractAuthIntegrationTest {
+
+    @Autowired EmailOtpCleanupJob cleanupJob;
+    @Autowired DataSource dataSource;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("cleanup: 어제 발송된 만료 row만 지우고, 오늘 발송된 row/미만료 row는 남긴다")
+    void deletes_only_expired_rows_outside_daily_window() throws Exception {
+        LocalDateTime yesterday = LocalDateTime.of(2025, 12, 31, 22, 0);
+        for (int i = 0; i < 5; i++) {
+            saveOtp("stale" + i, yesterday.plusMinutes(i));
+        }
+
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofHours(1)); // now = 2026-01-01 01:00
+        String sentToday = saveOtp("today", LocalDateTime.of(2026, 1, 1, 0, 10)); // 00:20 만료
+        String pending = saveOtp("pending", LocalDateTime.of(2026, 1, 1, 0, 55)); // 01:05 만료
+
+        double deletedBefore = meterRegistry.counter("otp.cleanup.deleted").count();
+
+        int deleted = cleanupJob.runOnce();
+
+        assertThat(deleted).isEqualTo(5);
+        assertThat(emailOtpRepository.count()).isEqualTo(2);
+        assertThat(emailOtpRepository.findByEmailAndPurpose(sentToday, OtpPurpose.SIGNUP)).isPresent();
+        assertThat(emailOtpRepository.findByEmailAndPurpose(pending, OtpPurpose.SIGNUP)).isPresent();
+        assertThat(meterRegistry.counter("otp.cleanup.deleted").count() - deletedBefore).isEqualTo(5.0d);
+    }
+
+    @Test
+    @DisplayName("cleanup: 다른 인스턴스가 리더 락을 잡고 있으면 skip 한다")
+    void skips_when_lock_is_held_elsewhere() throws Exception {
+        saveOtp("stale", LocalDateTime.of(2025, 12, 31, 22, 0));
+
+        try (Connection other = dataSource.getConnection();
+             Statement st = other.createStatement()) {
+            try (ResultSet rs = st.executeQuery("SELECT GET_LOCK('email_otp_cleanup', 0)")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getInt(1)).isEqualTo(1);
+            }
+            try {
+                assertThat(cleanupJob.runOnce()).isZero();
+                assertThat(emailOtpRepository.count()).isEqualTo(1);
+            } finally {
+                st.execute("SELECT RELEASE_LOCK('email_otp_cleanup')");
+            }
+        }
+
+        assertThat(cleanupJob.runOnce()).isEqualTo(1);
+        assertThat(emailOtpRepository.count()).isZero();
+    }
+
+    private String saveOtp(String prefix, LocalDateTime sentAt) {
+        String email = uniqueKyonggiEmail(prefix);
+        LocalDate sentDate = sentAt.toLocalDate();
+        emailOtpRepository.save(EmailOtp.create(
+                email, "hash", OtpPurpose.SIGNUP,
+                sentAt.plusMinutes(10), sentAt, sentDate, sentAt.plusSeconds(20)));
+        return email;
+    }
+}
@@ -0,0 +1,107 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.EmailOtp;
+import com.kyonggi.backend.auth.domain.OtpPurpose;
+import com.kyonggi.backend.auth.domain.User;
+import com.kyonggi.backend.auth.identity.signup.service.SignupService;
+import com.kyonggi.backend.support.TestClockConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * completeSignup 커넥션 점유 시간 벤치마크 (HikariCP hikaricp.connections.usage)
+ *
+ * - 현재: 해시는 트랜잭션 밖 → 커넥션 점유 = 선검사 조회 + 짧은 트랜잭션(OTP 잠금/INSERT/DELETE)
+ * - 비교용(기존 순서 재현): 한 트랜잭션 안에서 OTP 잠금 → BCrypt → INSERT → DELETE
+ *
+ * BCrypt 비용은 운영 기본값(10)으로 올려서 잰다. 가입 1건당 커넥션 점유 시간 합계를 로그로 남긴다.
+ */
+@Slf4j
+@TestPropertySource(properties = "app.auth.password.bcrypt-cost=10")
+@DisplayName("[Auth][Signup][Bench] completeSignup 커넥션 점유 시간")
+class AuthSignupConnectionHoldIT extends AbstractAuthIntegrationTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired SignupService signupService;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("bench: 해시를 트랜잭션 밖으로 → 가입 1건당 커넥션 점유 시간이 BCrypt 시간만큼 줄어든다")
+    void hashing_outside_transaction_shortens_connection_hold() {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").timer();
+        assertThat(usage).isNotNull();
+
+        // 현재 구현
+        Snapshot before = Snapshot.of(usage);
+        for (int i = 0; i < ROUNDS; i++) {
+            String email = seedVerifiedOtp("hold_new" + i);
+            signupService.completeSignup(email, PASSWORD, PASSWORD, "HoldNew" + i);
+        }
+        Snapshot staged = Snapshot.of(usage).minus(before);
+
+        // 기존 순서 재현: 락을 잡은 채로 BCrypt
+        before = Snapshot.of(usage);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < ROUNDS; i++) {
+            String email = seedVerifiedOtp("hold_old" + i);
+            String nick = "HoldOld" + i;
+            tx.executeWithoutResult(s -> {
+                EmailOtp otp = emailOtpRepository.findByEmailAndPurposeForUpdate(email, OtpPurpose.SIGNUP).orElseThrow();
+                String hash = passwordEncoder.encode(PASSWORD);
+                userRepository.save(User.create(email, hash, nick));
+                emailOtpRepository.delete(otp);
+            });
+        }
+        Snapshot inTx = Snapshot.of(usage).minus(before);
+
+        assertThat(userRepository.count()).isEqualTo(2L * ROUNDS);
+        assertThat(emailOtpRepository.count()).isZero();
+
+        // seed(save) 1회분도 같이 잡히지만 두 경로에 똑같이 들어간다.
+        log.info("[signup-hold-bench] per signup: hash-outside-tx={}ms over {} checkout(s), hash-inside-tx={}ms over {} checkout(s)",
+                String.format("%.2f", staged.millisPer(ROUNDS)), staged.count() / ROUNDS,
+                String.format("%.2f", inTx.millisPer(ROUNDS)), inTx.count() / ROUNDS);
+
+        assertThat(staged.millisPer(ROUNDS)).isLessThan(inTx.millisPer(ROUNDS));
+    }
+
+    private String seedVerifiedOtp(String prefix) {
+        String email = uniqueKyonggiEmail(prefix);
+        LocalDateTime now = LocalDateTime.now(TestClockConfig.TEST_CLOCK);
+        EmailOtp otp = EmailOtp.create(email, "hash", OtpPurpose.SIGNUP, now.plusMinutes(10), now, LocalDate.now(TestClockConfig.TEST_CLOCK), now);
+        otp.markVerified(now);
+        emailOtpRepository.save(otp);
+        return email;
+    }
+
+    private record Snapshot(long count, double totalMillis) {
+        static Snapshot of(Timer timer) {
+            return new Snapshot(timer.count(), timer.totalTime(TimeUnit.MILLISECONDS));
+        }
+
+        Snapshot minus(Snapshot other) {
+            return new Snapshot(count - other.count, totalMillis - other.totalMillis);
+        }
+
+        double millisPer(int n) {
+            return totalMillis / n;
+        }
+    }
+}
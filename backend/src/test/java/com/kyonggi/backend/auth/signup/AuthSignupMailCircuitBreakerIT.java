@@ -0,0 +1,162 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.OtpPurpose;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.mail.MailCircuitBreaker;
+import com.kyonggi.backend.mail.MailCircuitBreakerProperties;
+import com.kyonggi.backend.mail.outbox.MailBodyCipher;
+import com.kyonggi.backend.mail.outbox.MailOutbox;
+import com.kyonggi.backend.mail.outbox.MailOutboxProperties;
+import com.kyonggi.backend.mail.outbox.MailOutboxRelay;
+import com.kyonggi.backend.mail.outbox.MailOutboxService;
+import com.kyonggi.backend.mail.outbox.MailOutboxStatus;
+import com.kyonggi.backend.support.AuthHttpSupport;
+import com.kyonggi.backend.support.FaultySmtpServer;
+import com.kyonggi.backend.support.FaultySmtpServer.Mode;
+import com.kyonggi.backend.support.TestClockConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SMTP 회로 차단기(MailCircuitBreaker) 통합 테스트
+ *
+ * - relay는 앱의 회로 차단기 빈을 쓰되, SMTP만 장애 주입 서버(FaultySmtpServer)로 바꿔 만든다.
+ * - 실패율 초과 → OPEN: relay는 claim 하지 않고(attempts 유지), OTP 요청은 즉시 503 MAIL_UNAVAILABLE
+ * - OPEN 시간 경과 → HALF_OPEN 시험 발송: 성공하면 CLOSED + 밀린 메일 발송, 실패하면 다시 OPEN
+ * - 느린 호출 비율 초과 → 발송은 성공해도 OPEN
+ */
+@DisplayName("[Auth][Signup][Mail-Circuit] SMTP 장애 시 회로 차단")
+class AuthSignupMailCircuitBreakerIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired MailCircuitBreaker circuitBreaker;
+    @Autowired MailCircuitBreakerProperties breakerProps;
+    @Autowired MailOutboxService outboxService;
+    @Autowired MailOutboxProperties outboxProps;
+    @Autowired MailBodyCipher cipher;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private FaultySmtpServer smtp;
+    private MailOutboxRelay relay;
+
+    @BeforeEach
+    void startSmtp() throws Exception {
+        smtp = FaultySmtpServer.start();
+        relay = new MailOutboxRelay(mailOutboxRepository, cipher, smtp.sender(), circuitBreaker, outboxProps,
+                TestClockConfig.TEST_CLOCK, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void stopSmtp() throws Exception {
+        circuitBreaker.reset(); // 다른 테스트가 열린 회로를 물려받지 않게
+        smtp.close();
+    }
+
+    @Test
+    @DisplayName("실패율 초과 → OPEN: 메일은 PENDING으로 대기(attempts 유지), OTP 요청은 즉시 503 MAIL_UNAVAILABLE")
+    void failures_open_circuit_and_requests_fail_fast() throws Exception {
+        openCircuit();
+
+        Long parked = enqueue("circuit_parked");
+        relay.deliver(parked);
+        assertThat(relay.poll()).isZero();
+
+        MailOutbox row = mailOutboxRepository.findById(parked).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(row.getAttempts()).isZero();
+
+        String email = uniqueKyonggiEmail("circuit_open");
+        MvcResult res = AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupOtpRequest(mvc, email),
+                ErrorCode.MAIL_UNAVAILABLE
+        );
+        assertThat(res.getResponse().getHeader(HttpHeaders.RETRY_AFTER))
+                .isEqualTo(String.valueOf(breakerProps.openSeconds()));
+        assertThat(emailOtpRepository.findByEmailAndPurpose(email, OtpPurpose.SIGNUP)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 발송 성공 → CLOSED, 밀린 메일이 발송되고 OTP 요청도 다시 받는다")
+    void half_open_probe_success_closes_circuit() throws Exception {
+        List<Long> failed = openCircuit();
+        Long parked = enqueue("circuit_recover");
+
+        smtp.mode(Mode.ACCEPT);
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(breakerProps.openSeconds()));
+
+        assertThat(relay.poll()).isEqualTo(failed.size() + 1);
+        assertThat(circuitBreaker.state()).isEqualTo(MailCircuitBreaker.State.CLOSED);
+        assertThat(smtp.received()).isEqualTo(failed.size() + 1);
+        assertThat(mailOutboxRepository.findById(parked).orElseThrow().getStatus()).isEqualTo(MailOutboxStatus.SENT);
+
+        AuthHttpSupport.performSignupOtpRequest(mvc, uniqueKyonggiEmail("circuit_closed"))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 발송 실패 → 다시 OPEN (OTP 요청 503 유지)")
+    void half_open_probe_failure_reopens_circuit() throws Exception {
+        openCircuit();
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(breakerProps.openSeconds()));
+
+        assertThat(relay.poll()).isPositive(); // 시험 batch 1회
+        assertThat(circuitBreaker.state()).isEqualTo(MailCircuitBreaker.State.OPEN);
+        assertThat(relay.poll()).isZero();
+
+        AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupOtpRequest(mvc, uniqueKyonggiEmail("circuit_reopen")),
+                ErrorCode.MAIL_UNAVAILABLE
+        );
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율 초과 → 발송은 성공해도 OPEN")
+    void slow_calls_open_circuit() {
+        smtp.slow(breakerProps.slowCallDurationMillis() + 100);
+
+        for (int i = 0; i < breakerProps.minimumCalls(); i++) {
+            Long id = enqueue("circuit_slow" + i);
+            relay.deliver(id);
+            assertThat(mailOutboxRepository.findById(id).orElseThrow().getStatus()).isEqualTo(MailOutboxStatus.SENT);
+        }
+
+        assertThat(circuitBreaker.state()).isEqualTo(MailCircuitBreaker.State.OPEN);
+    }
+
+    // 연결 실패를 minimum-calls번 쌓아서 회로를 연다 (deliver 1번 = SMTP 호출 1번)
+    private List<Long> openCircuit() {
+        smtp.mode(Mode.DROP);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < breakerProps.minimumCalls(); i++) {
+            Long id = enqueue("circuit_fail" + i);
+            relay.deliver(id);
+            ids.add(id);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(MailCircuitBreaker.State.OPEN);
+        assertThat(mailOutboxRepository.findById(ids.get(0)).orElseThrow().getAttempts()).isEqualTo(1);
+        return ids;
+    }
+
+    private Long enqueue(String prefix) {
+        return new TransactionTemplate(transactionManager)
+                .execute(s -> outboxService.enqueue("test", uniqueKyonggiEmail(prefix), "subject", "body"));
+    }
+}
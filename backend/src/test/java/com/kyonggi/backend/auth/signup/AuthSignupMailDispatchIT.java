@@ -0,0 +1,106 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.domain.OtpPurpose;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.mail.MailDispatchProperties;
+import com.kyonggi.backend.mail.MailDispatcher;
+import com.kyonggi.backend.support.AuthHttpSupport;
+import com.kyonggi.backend.support.MailhogSupport;
+
+/**
+ * MailDispatcher(비동기 메일 발송) 통합 테스트
+ *
+ * - 워커를 latch로 붙잡아 "SMTP가 느린 상황"을 만든다.
+ * - request: 워커가 바빠도 큐에 여유가 있으면 → 2xx 즉시 반환, 메일은 워커가 풀린 뒤 도착
+ * - request: 큐가 가득 차면(REJECT) → 503 MAIL_DISPATCH_BUSY + Retry-After, OTP row 생성 안 됨
+ */
+@DisplayName("[Auth][Signup][Mail-Dispatch] 비동기 메일 발송 back-pressure")
+class AuthSignupMailDispatchIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired MailDispatcher mailDispatcher;
+    @Autowired MailDispatchProperties dispatchProps;
+
+    private CountDownLatch release = new CountDownLatch(0);
+
+    @AfterEach
+    void releaseWorkers() throws Exception {
+        release.countDown();
+        awaitQueueDrained();
+    }
+
+    @Test
+    @DisplayName("request: 워커가 모두 바빠도 응답은 커밋 직후 반환되고, 메일은 나중에 발송된다")
+    void request_returns_before_smtp_when_workers_busy() throws Exception {
+        blockWorkers(dispatchProps.workers());
+        String email = uniqueKyonggiEmail("dispatch_async");
+
+        AuthHttpSupport.performSignupOtpRequest(mvc, email)
+                .andExpect(status().is2xxSuccessful());
+
+        assertThat(emailOtpRepository.findByEmailAndPurpose(email, OtpPurpose.SIGNUP)).isPresent();
+        assertThat(mailDispatcher.queueSize()).isEqualTo(1); // 아직 큐에서 대기 중
+
+        release.countDown();
+        assertThat(MailhogSupport.awaitOtpFor(email, Duration.ofSeconds(15))).matches("\\d{6}");
+    }
+
+    @Test
+    @DisplayName("request: 메일 큐가 가득 차면 → 503 MAIL_DISPATCH_BUSY, OTP는 발급되지 않는다")
+    void request_rejected_when_queue_full() throws Exception {
+        blockWorkers(dispatchProps.workers() + dispatchProps.queueCapacity());
+        String email = uniqueKyonggiEmail("dispatch_full");
+
+        MvcResult res = AuthHttpSupport.expectErrorWithCode(
+                AuthHttpSupport.performSignupOtpRequest(mvc, email),
+                ErrorCode.MAIL_DISPATCH_BUSY
+        );
+
+        assertThat(res.getResponse().getHeader(HttpHeaders.RETRY_AFTER))
+                .isEqualTo(String.valueOf(dispatchProps.retryAfterSeconds()));
+        assertThat(emailOtpRepository.findByEmailAndPurpose(email, OtpPurpose.SIGNUP)).isEmpty();
+    }
+
+    /**
+     * latch가 풀릴 때까지 끝나지 않는 작업으로 워커(+큐)를 채운다.
+     */
+    private void blockWorkers(int tasks) throws Exception {
+        release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(dispatchProps.workers());
+        CountDownLatch gate = release;
+
+        for (int i = 0; i < tasks; i++) {
+            mailDispatcher.dispatch("test-block", () -> {
+                started.countDown();
+                try {
+                    gate.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitQueueDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (mailDispatcher.queueSize() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.mail.MailCircuitBreaker;
+import com.kyonggi.backend.mail.MailCircuitBreakerProperties;
+import com.kyonggi.backend.mail.outbox.MailBodyCipher;
+import com.kyonggi.backend.mail.outbox.MailOutbox;
+import com.kyonggi.backend.mail.outbox.MailOutboxProperties;
+import com.kyonggi.backend.mail.outbox.MailOutboxRelay;
+import com.kyonggi.backend.mail.outbox.MailOutboxService;
+import com.kyonggi.backend.mail.outbox.MailOutboxStatus;
+import com.kyonggi.backend.support.AuthFlowSupport;
+import com.kyonggi.backend.support.TestClockConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * mail_outbox(Transactional Outbox) 통합 테스트
+ *
+ * - request: OTP 발급과 같은 트랜잭션에서 outbox row가 생기고, 본문은 평문 OTP를 담지 않는다.
+ *            커밋 직후 fast path로 발송되면 SENT + 본문 삭제
+ * - relay: SMTP 실패 → backoff 후 재시도 → max-attempts 초과 시 DEAD
+ * - relay: lease가 지나 다른 relay가 다시 집은 row는 늦게 끝난 relay가 덮어쓰지 않는다. (@Version)
+ * - relay: batch 처리량(msg/s)과 end-to-end 지연을 MailHog 대상으로 측정 (로그)
+ *   @Tag("benchmark")라 기본 test에서는 빠진다. (./gradlew test -Pbenchmarks --tests '*AuthSignupMailOutboxIT')
+ *
+ * 폴링은 application-test.yml에서 사실상 꺼져 있고(1h), poll()을 직접 호출한다.
+ */
+@Slf4j
+@DisplayName("[Auth][Signup][Mail-Outbox] outbox 적재/relay 통합 테스트")
+class AuthSignupMailOutboxIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired MailOutboxService outboxService;
+    @Autowired MailOutboxRelay outboxRelay;
+    @Autowired MailOutboxProperties outboxProps;
+    @Autowired MailBodyCipher cipher;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("request: OTP 발급 트랜잭션에 outbox row가 함께 커밋되고, 발송 후 SENT + 본문 삭제")
+    void request_writes_encrypted_outbox_row_and_delivers() throws Exception {
+        String email = uniqueKyonggiEmail("outbox_ok");
+
+        String otp = AuthFlowSupport.requestSignupOtpAndAwaitCode(mvc, email, email);
+
+        MailOutbox row = awaitStatus(email, MailOutboxStatus.SENT);
+        assertThat(row.getKind()).isEqualTo("signup-otp");
+        assertThat(row.getAttempts()).isEqualTo(1);
+        assertThat(row.getBodyCipher()).isNull();
+        assertThat(row.getSentAt()).isNotNull();
+        assertThat(otp).matches("\\d{6}");
+    }
+
+    @Test
+    @DisplayName("outbox: 저장되는 본문은 암호문이고, 복호화하면 원문이 나온다")
+    void body_is_stored_encrypted() {
+        String email = uniqueKyonggiEmail("outbox_cipher");
+        Long id = enqueue(email, "인증번호: 123456");
+
+        MailOutbox row = mailOutboxRepository.findById(id).orElseThrow();
+        assertThat(new String(row.getBodyCipher(), StandardCharsets.ISO_8859_1)).doesNotContain("123456");
+        assertThat(cipher.decrypt(row.getBodyCipher())).isEqualTo("인증번호: 123456");
+    }
+
+    @Test
+    @DisplayName("relay: SMTP 실패 → backoff 재시도 → max-attempts 초과 시 DEAD")
+    void failing_smtp_backs_off_then_dead_letters() {
+        MailOutboxRelay brokenRelay = relayWith(brokenSmtp());
+        Long id = enqueue(uniqueKyonggiEmail("outbox_dead"), "body");
+
+        assertThat(brokenRelay.poll()).isEqualTo(1);
+        MailOutbox first = mailOutboxRepository.findById(id).orElseThrow();
+        assertThat(first.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getLastError()).isNotBlank();
+
+        // backoff(5s) 전에는 다시 집지 않는다
+        assertThat(brokenRelay.poll()).isZero();
+
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(outboxProps.backoffBaseSeconds()));
+        assertThat(brokenRelay.poll()).isEqualTo(1);
+        assertThat(mailOutboxRepository.findById(id).orElseThrow().getAttempts()).isEqualTo(2);
+
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(outboxProps.backoffBaseSeconds() * 2L));
+        assertThat(brokenRelay.poll()).isEqualTo(1);
+
+        MailOutbox dead = mailOutboxRepository.findById(id).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(MailOutboxStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(outboxProps.maxAttempts());
+        assertThat(dead.getBodyCipher()).isNull();
+
+        TestClockConfig.TEST_CLOCK.advance(Duration.ofHours(1));
+        assertThat(outboxRelay.poll()).isZero(); // DEAD는 더 이상 집지 않는다
+    }
+
+    @Test
+    @DisplayName("relay: lease 만료 후 다른 relay가 다시 집어간 row는 늦게 끝난 relay의 결과로 덮어쓰지 않는다")
+    void late_relay_does_not_overwrite_reclaimed_row() {
+        Long id = enqueue(uniqueKyonggiEmail("outbox_lease"), "body");
+        MailOutboxRelay other = relayWith(brokenSmtp());
+
+        // SMTP 대화가 lease보다 오래 걸리는 동안 다른 relay가 같은 row를 다시 집어 실패를 기록한다.
+        JavaMailSenderImpl slowSmtp = new JavaMailSenderImpl() {
+            @Override
+            public void send(SimpleMailMessage... messages) {
+                TestClockConfig.TEST_CLOCK.advance(Duration.ofSeconds(outboxProps.leaseSeconds() + 1));
+                assertThat(other.poll()).isEqualTo(1);
+            }
+        };
+        relayWith(slowSmtp).poll();
+
+        MailOutbox row = mailOutboxRepository.findById(id).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(MailOutboxStatus.PENDING); // 늦은 relay의 SENT로 덮이지 않았다
+        assertThat(row.getAttempts()).isEqualTo(2);
+        assertThat(row.getBodyCipher()).isNotNull();
+        assertThat(row.getLastError()).isNotBlank();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("relay: batch 처리량/지연 측정 (MailHog)")
+    void relay_throughput_against_mailhog() {
+        int total = 100;
+        long enqueuedAt = System.nanoTime();
+        new TransactionTemplate(transactionManager).executeWithoutResult(s -> {
+            for (int i = 0; i < total; i++) {
+                outboxService.enqueue("bench", uniqueKyonggiEmail("outbox_bench" + i), "bench", "인증번호: 000000");
+            }
+        });
+
+        long startedAt = System.nanoTime();
+        int processed = 0;
+        while (processed < total) {
+            int n = outboxRelay.poll();
+            if (n == 0) {
+                break;
+            }
+            processed += n;
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long endToEndMillis = (System.nanoTime() - enqueuedAt) / 1_000_000;
+
+        log.info("[outbox-bench] mails={}, batchSize={}, relay={}ms, throughput={} msg/s, e2e={}ms",
+                total, outboxProps.batchSize(), elapsedMillis, total * 1000L / elapsedMillis, endToEndMillis);
+
+        assertThat(processed).isEqualTo(total);
+        assertThat(mailOutboxRepository.countByStatus(MailOutboxStatus.SENT)).isEqualTo(total);
+    }
+
+    private Long enqueue(String to, String body) {
+        return new TransactionTemplate(transactionManager)
+                .execute(s -> outboxService.enqueue("test", to, "subject", body));
+    }
+
+    // 회로 차단은 끈다: 재시도/DEAD 흐름만 본다 (회로 차단은 AuthSignupMailCircuitBreakerIT)
+    private MailOutboxRelay relayWith(JavaMailSenderImpl sender) {
+        MailCircuitBreaker noBreaker = new MailCircuitBreaker(
+                new MailCircuitBreakerProperties(false, 1, 1, 100, 100, 1, 1, 1),
+                TestClockConfig.TEST_CLOCK, new SimpleMeterRegistry());
+        return new MailOutboxRelay(mailOutboxRepository, cipher, sender, noBreaker, outboxProps,
+                TestClockConfig.TEST_CLOCK, transactionManager, new SimpleMeterRegistry());
+    }
+
+    // 아무도 리슨하지 않는 포트 → 즉시 connection refused
+    private static JavaMailSenderImpl brokenSmtp() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(1);
+        sender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "1000");
+        return sender;
+    }
+
+    private MailOutbox awaitStatus(String recipient, MailOutboxStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (true) {
+            List<MailOutbox> rows = mailOutboxRepository.findAll().stream()
+                    .filter(m -> m.getRecipient().equals(recipient))
+                    .toList();
+            if (rows.size() == 1 && rows.get(0).getStatus() == status) {
+                return rows.get(0);
+            }
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("outbox row not " + status + ": " + rows.size() + " row(s) for " + recipient);
+            }
+            Thread.sleep(100);
+        }
+    }
+}
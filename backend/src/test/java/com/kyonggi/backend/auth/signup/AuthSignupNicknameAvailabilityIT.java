@@ -0,0 +1,90 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.identity.signup.support.SignupPatterns;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthHttpSupport;
+
+/**
+ * GET /auth/signup/nickname-available 통합 테스트
+ *
+ * - 비어 있는 닉네임: available=true, 추천 없음
+ * - 사용 중인 닉네임(대소문자 무시): available=false + 형식에 맞고 실제로 비어 있는 추천
+ * - 형식 오류: 400 INVALID_NICKNAME
+ * (IP 기준 rate limit은 AuthRateLimitIT)
+ */
+@DisplayName("[Auth][Signup][Nickname] 닉네임 사용 가능 여부 조회")
+class AuthSignupNicknameAvailabilityIT extends AbstractAuthIntegrationTest {
+
+    @Autowired MockMvc mvc;
+
+    @Test
+    @DisplayName("비어 있는 닉네임 → 200 available=true, suggestions=[] (Cache-Control: no-store)")
+    void free_nickname_is_available() throws Exception {
+        ResultActions res = check("  Fresh_1  ").andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+
+        JsonNode body = AuthHttpSupport.readJson(res.andReturn());
+        assertThat(body.get("nickname").asText()).isEqualTo("Fresh_1");
+        assertThat(body.get("available").asBoolean()).isTrue();
+        assertThat(body.get("suggestions")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용 중인 닉네임(대소문자 무시) → available=false + 비어 있는 추천")
+    void taken_nickname_returns_free_suggestions() throws Exception {
+        createDefaultUser();
+
+        for (String nickname : List.of(NICKNAME, NICKNAME.toLowerCase())) {
+            MvcResult res = check(nickname).andExpect(status().isOk()).andReturn();
+            JsonNode body = AuthHttpSupport.readJson(res);
+
+            assertThat(body.get("available").asBoolean()).isFalse();
+            assertThat(body.get("suggestions").size()).isBetween(1, 3);
+            for (JsonNode s : body.get("suggestions")) {
+                assertThat(s.asText()).matches(SignupPatterns.NICKNAME_REGEX).startsWith(nickname);
+                assertThat(userRepository.existsByNickname(s.asText())).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("긴 닉네임의 추천도 20자를 넘지 않는다")
+    void suggestions_respect_max_length() throws Exception {
+        String longNick = "abcdefghijklmnopqrst"; // 20자
+        createUser(uniqueKyonggiEmail("long"), PASSWORD, longNick);
+
+        JsonNode body = AuthHttpSupport.readJson(check(longNick).andReturn());
+        assertThat(body.get("available").asBoolean()).isFalse();
+        for (JsonNode s : body.get("suggestions")) {
+            assertThat(s.asText()).matches(SignupPatterns.NICKNAME_REGEX);
+        }
+    }
+
+    @Test
+    @DisplayName("형식 오류/누락 → 400 INVALID_NICKNAME")
+    void invalid_nickname_is_rejected() throws Exception {
+        AuthHttpSupport.expectErrorWithCode(check("a"), ErrorCode.INVALID_NICKNAME);
+        AuthHttpSupport.expectErrorWithCode(check("bad nick!"), ErrorCode.INVALID_NICKNAME);
+        AuthHttpSupport.expectErrorWithCode(mvc.perform(get(AuthHttpSupport.NICKNAME_AVAILABLE_ENDPOINT)), ErrorCode.INVALID_NICKNAME);
+    }
+
+    private ResultActions check(String nickname) throws Exception {
+        return mvc.perform(get(AuthHttpSupport.NICKNAME_AVAILABLE_ENDPOINT).param("nickname", nickname));
+    }
+}
@@ -0,0 +1,116 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.kyonggi.backend.auth.AbstractAuthIntegrationTest;
+import com.kyonggi.backend.auth.config.OtpProperties;
+import com.kyonggi.backend.auth.domain.EmailOtp;
+import com.kyonggi.backend.auth.domain.OtpPurpose;
+import com.kyonggi.backend.auth.identity.signup.service.SignupOtpService;
+import com.kyonggi.backend.global.ApiException;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.support.AuthHttpSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * verifySignupOtp() 동시성 테스트 (조건부 UPDATE 기반 검증)
+ *
+ * - 같은 OTP에 오답 요청을 동시에 몰아넣어도
+ *   failedAttempts는 정확히 maxFailures에서 멈춰야 한다. (lost update / over-count 없음)
+ * - OTP_INVALID는 정확히 maxFailures번, 나머지는 OTP_TOO_MANY_FAILURES
+ * - 락 대기 시간은 InnoDB 통계(Innodb_row_lock_time) 증가분으로 로그에 남긴다.
+ */
+@Slf4j
+@DisplayName("[Auth][Signup][OTP-Concurrency] 동시 오답 브루트포스 시뮬레이션")
+class AuthSignupOtpConcurrencyIT extends AbstractAuthIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int ATTEMPTS = 40;
+
+    @Autowired MockMvc mvc;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired OtpProperties otpProps;
+    @Autowired SignupOtpService signupOtpService;
+
+    @Test
+    @DisplayName("verify: 동시 오답 → failedAttempts == maxFailures, OTP_INVALID는 정확히 maxFailures번")
+    void concurrent_wrong_codes_never_over_count() throws Exception {
+        String email = uniqueKyonggiEmail("bruteforce");
+
+        AuthHttpSupport.performSignupOtpRequest(mvc, email)
+                .andExpect(status().is2xxSuccessful());
+
+        Map<String, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long lockTimeBefore = innodbRowLockTimeMillis();
+        long startedAt = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < ATTEMPTS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        // 6자리 정규 코드와 절대 겹치지 않는 값(7자리)으로 항상 오답을 보장
+                        signupOtpService.verifySignupOtp(email, "0000000");
+                        outcomes.computeIfAbsent("OK", k -> new AtomicInteger()).incrementAndGet();
+                    } catch (ApiException e) {
+                        outcomes.computeIfAbsent(e.getCode(), k -> new AtomicInteger()).incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        long lockWaitMillis = innodbRowLockTimeMillis() - lockTimeBefore;
+        log.info("[otp-bruteforce] attempts={}, threads={}, elapsed={}ms, innodbRowLockWait={}ms, outcomes={}",
+                ATTEMPTS, THREADS, elapsedMillis, lockWaitMillis, outcomes);
+
+        int max = otpProps.maxFailures();
+        EmailOtp row = emailOtpRepository.findByEmailAndPurpose(email, OtpPurpose.SIGNUP).orElseThrow();
+
+        assertThat(row.isVerified()).isFalse();
+        assertThat(row.getFailedAttempts()).isEqualTo(max);
+        assertThat(count(outcomes, ErrorCode.OTP_INVALID.name())).isEqualTo(max);
+        assertThat(count(outcomes, ErrorCode.OTP_TOO_MANY_FAILURES.name())).isEqualTo(ATTEMPTS - max);
+        assertThat(outcomes).doesNotContainKey("OK");
+    }
+
+    private long innodbRowLockTimeMillis() {
+        return jdbc.queryForList("SHOW GLOBAL STATUS LIKE 'Innodb_row_lock_time'").stream()
+                .findFirst()
+                .map(r -> Long.parseLong(String.valueOf(r.get("Value"))))
+                .orElse(0L);
+    }
+
+    private static int count(Map<String, AtomicInteger> outcomes, String key) {
+        AtomicInteger c = outcomes.get(key);
+        return (c == null) ? 0 : c.get();
+    }
+}
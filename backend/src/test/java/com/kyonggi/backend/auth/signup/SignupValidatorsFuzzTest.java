@@ -0,0 +1,113 @@
+package com.kyonggi.backend.auth.signup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kyonggi.backend.auth.identity.signup.support.SignupPatterns;
+import com.kyonggi.backend.auth.identity.signup.support.SignupValidators;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SignupValidators ↔ SignupPatterns 정규식 동치 검사 (무작위 입력)
+ *
+ * - 경계 문자(공백류, 줄 끝 문자, 한글 범위 양끝 ±1, surrogate pair, 짝 없는 surrogate)를 섞은
+ *   알파벳에서 고정 seed로 입력을 만들어 두 구현의 결과가 항상 같은지 본다.
+ * - 정상 입력 위주 + 완전 무작위 입력 두 분포를 모두 돌린다. (무작위만 돌리면 거의 다 false라 의미가 약하다)
+ * - 비용 비교는 src/jmh의 SignupPatternsBenchmark (input=mixed가 이 테스트와 같은 분포)
+ */
+@Slf4j
+@DisplayName("[Auth][Signup][Validators] 손 검사기 ↔ 정규식 동치 (fuzz)")
+class SignupValidatorsFuzzTest {
+
+    private static final Pattern PASSWORD = Pattern.compile(SignupPatterns.PASSWORD_REGEX);
+    private static final Pattern NICKNAME = Pattern.compile(SignupPatterns.NICKNAME_REGEX);
+
+    private static final int CASES = 200_000;
+
+    // 규칙 경계에 걸리는 문자들
+    private static final String[] ALPHABET = {
+            "a", "Z", "m", "0", "9", "5", "!", "_", "@", "-", "~",
+            " ", "\t", "\n", "\u000B", "\f", "\r", "\u00A0", "\u3000",
+            "\u0085", "\u2028", "\u2029",
+            "가", "힣", "\uABFF", "\uD7A4", "ㄱ", "é", "\uFF21", "\uFF11",
+            "😀", "\uD83D", "\uDE00"
+    };
+
+    @Test
+    @DisplayName("고정 경계 사례: 두 구현이 같은 결과")
+    void boundary_cases_agree() {
+        List<String> cases = List.of(
+                "", "a", "aaaaaaaa1", "aaaaaaa1!", "aaaaaaaaaaaaa1!", "aaaaaaaaaaaaaa1!",
+                "Abcdef12!", "Abcdef12 !", "Abcdef12!\n", "\u2028Abcdef12", "Abcdef12\u2028", "A\u2028bcdef12!",
+                "Abc😀def12", "😀😀😀😀😀😀😀a1", "😀😀😀😀😀😀😀😀😀😀😀😀😀a1", "\uD83DAbcdef12",
+                "가", "가힣", "Anna", "a_b", "닉네임_123", "a b", "aaaaaaaaaaaaaaaaaaaa", "aaaaaaaaaaaaaaaaaaaaa",
+                "\uABFF\uABFF", "\uD7A4a", "ㄱㄴ", "ab\n");
+        for (String s : cases) {
+            assertAgree(s);
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 입력: 두 구현이 같은 결과 (정상 위주 + 완전 무작위)")
+    void random_inputs_agree() {
+        SplittableRandom random = new SplittableRandom(20240301L);
+        int passwordTrue = 0;
+        int nicknameTrue = 0;
+
+        for (int i = 0; i < CASES; i++) {
+            String s = (i % 2 == 0) ? mostlyValid(random) : anything(random);
+            assertAgree(s);
+            passwordTrue += SignupValidators.isValidPassword(s) ? 1 : 0;
+            nicknameTrue += SignupValidators.isValidNickname(s) ? 1 : 0;
+        }
+
+        log.info("[validators-fuzz] cases={}, passwordValid={}, nicknameValid={}", CASES, passwordTrue, nicknameTrue);
+        assertThat(passwordTrue).isPositive();
+        assertThat(nicknameTrue).isPositive();
+    }
+
+    private static void assertAgree(String s) {
+        assertThat(SignupValidators.isValidPassword(s))
+                .as("password %s", escape(s))
+                .isEqualTo(PASSWORD.matcher(s).matches());
+        assertThat(SignupValidators.isValidNickname(s))
+                .as("nickname %s", escape(s))
+                .isEqualTo(NICKNAME.matcher(s).matches());
+    }
+
+    // 영문/숫자/특수문자/한글 위주 + 가끔 경계 문자 1개
+    private static String mostlyValid(SplittableRandom random) {
+        String common = "abcXYZ019!_#가나힣";
+        int length = random.nextInt(1, 23);
+        StringBuilder sb = new StringBuilder(length + 2);
+        for (int i = 0; i < length; i++) {
+            if (random.nextInt(20) == 0) {
+                sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            } else {
+                sb.append(common.charAt(random.nextInt(common.length())));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String anything(SplittableRandom random) {
+        int length = random.nextInt(0, 34);
+        StringBuilder sb = new StringBuilder(length * 2);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String escape(String s) {
+        StringBuilder sb = new StringBuilder();
+        s.chars().forEach(c -> sb.append(c < 0x20 || c > 0x7e ? String.format("\\u%04X", c) : String.valueOf((char) c)));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.kyonggi.backend.global;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ApiErrorWriter(미리 직렬화한 ApiError) ↔ Jackson 직렬화 동치
+ *
+ * - 모든 ErrorCode에 대해 상수 본문 / Retry-After 템플릿 결과가 ObjectMapper 결과와 바이트 단위로 같다.
+ * - 메시지 변경/details가 있으면 미리 만든 본문을 쓰지 않는다. (호출자가 Jackson 경로로)
+ * - 비용 비교는 JMH ApiErrorWriterBenchmark
+ */
+@DisplayName("[Global][ApiErrorWriter] 미리 직렬화한 에러 응답")
+class ApiErrorWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApiErrorWriter writer = new ApiErrorWriter(objectMapper);
+
+    @Test
+    @DisplayName("모든 ErrorCode: 상수 본문/Retry-After 템플릿이 Jackson 결과와 같고 상태/헤더도 맞다")
+    void bodies_match_jackson() throws Exception {
+        for (ErrorCode code : ErrorCode.values()) {
+            for (Integer retryAfter : new Integer[] {null, 0, 7, 86_400, Integer.MAX_VALUE}) {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                assertThat(writer.tryWrite(response, new ApiException(code, retryAfter))).isTrue();
+
+                assertThat(response.getContentAsByteArray())
+                        .as("%s retryAfter=%s", code, retryAfter)
+                        .isEqualTo(objectMapper.writeValueAsBytes(ApiError.of(code, retryAfter)));
+                assertThat(response.getStatus()).isEqualTo(code.status().value());
+                assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+                assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+                assertThat(response.getHeader(HttpHeaders.RETRY_AFTER))
+                        .isEqualTo(retryAfter == null ? null : String.valueOf(retryAfter));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("메시지 변경/details가 있으면 쓰지 않고 false")
+    void dynamic_errors_fall_back() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(writer.tryWrite(response, new ApiException(ErrorCode.VALIDATION_ERROR, "email is required"))).isFalse();
+        assertThat(writer.tryWrite(response, new ApiException(ErrorCode.VALIDATION_ERROR, null, Map.of("line", 3))))
+                .isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.kyonggi.backend.global;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.kyonggi.backend.auth.config.OtpProperties;
+import com.kyonggi.backend.auth.identity.signup.service.SignupOtpService;
+import com.kyonggi.backend.auth.identity.signup.support.OtpHasher;
+import com.kyonggi.backend.auth.repo.EmailOtpRepository;
+import com.kyonggi.backend.security.JwtService.InvalidJwtException;
+
+/**
+ * ApiException 스택 트레이스 스위치 (app.errors.stack-traces)
+ *
+ * - 기본(false): 스택 트레이스가 비어 있고, 하위 클래스(SignupOtpService.OtpInvalidException)도 같다.
+ * - true: 다시 채워진다. (이후 생성되는 예외부터)
+ * - throw 비용 비교는 src/jmh의 ApiExceptionBenchmark
+ */
+@DisplayName("[Global][ApiException] 스택 트레이스 없는 예상 오류")
+class ApiExceptionStackTraceTest {
+
+    @AfterEach
+    void restoreDefault() {
+        ApiException.setStackTraceEnabled(false);
+    }
+
+    @Test
+    @DisplayName("기본: 스택 트레이스 없음 (하위 클래스/InvalidJwtException 포함), 메시지/코드는 그대로")
+    void stackless_by_default() {
+        ApiException e = new ApiException(ErrorCode.INVALID_CREDENTIALS);
+        assertThat(e.getStackTrace()).isEmpty();
+        assertThat(e.getCode()).isEqualTo("INVALID_CREDENTIALS");
+        assertThat(e.getMessage()).isEqualTo(ErrorCode.INVALID_CREDENTIALS.defaultMessage());
+
+        ApiException otpInvalid = otpMismatch();
+        assertThat(otpInvalid.getClass().getSimpleName()).isEqualTo("OtpInvalidException");
+        assertThat(otpInvalid.getCode()).isEqualTo("OTP_INVALID");
+        assertThat(otpInvalid.getStackTrace()).isEmpty();
+
+        assertThat(new InvalidJwtException("Invalid JWT", new IllegalArgumentException()).getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("stack-traces=true: 이후 생성되는 예외부터 스택 트레이스를 채운다")
+    void opt_in_restores_stack_traces() {
+        ApiException.setStackTraceEnabled(true);
+
+        assertThat(new ApiException(ErrorCode.OTP_INVALID).getStackTrace()).isNotEmpty();
+        assertThat(otpMismatch().getStackTrace()).isNotEmpty();
+        assertThat(new InvalidJwtException("Invalid JWT", null).getStackTrace()).isNotEmpty();
+    }
+
+    // 실제 SignupOtpService 경로로 OTP 불일치(OtpInvalidException)를 낸다. (리포지토리: 실패 횟수 +1 성공)
+    private static ApiException otpMismatch() {
+        OtpProperties props = new OtpProperties(10, 5, 60, 10, "0123456789abcdef0123456789abcdef", null);
+        EmailOtpRepository repository = mock(EmailOtpRepository.class);
+        when(repository.increaseFailureIfPending(anyString(), any(), any(), anyInt())).thenReturn(1);
+
+        SignupOtpService service = new SignupOtpService(repository, null, null, null, null, null,
+                new OtpHasher(props), props, Clock.systemUTC());
+        return catchThrowableOfType(ApiException.class, () -> service.verifySignupOtp("someone@kyonggi.ac.kr", "000000"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.kyonggi.backend.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 라우팅 키 결정 단위 테스트 (DB 없이)
+ *
+ * - replica는 ReplicaReads.read(...) 안의 readOnly 트랜잭션만 쓴다.
+ * - 힌트 없는 readOnly 트랜잭션(Spring Data 조회 기본값)은 primary
+ */
+@DisplayName("[DB][Routing] replica는 명시적 opt-in만")
+class ReadWriteRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReadWriteRoutingDataSource routing;
+    private ReplicaReads replicaReads;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        routing = new ReadWriteRoutingDataSource(lagMonitor, new SimpleMeterRegistry());
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        replicaReads = new ReplicaReads(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("힌트 없는 readOnly 트랜잭션 → primary")
+    void read_only_without_hint_uses_primary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("ReplicaReads + readOnly → replica, 복제 지연이면 primary")
+    void opted_in_read_uses_replica_unless_lagging() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(replicaReads.read(routing::determineCurrentLookupKey)).isEqualTo(ReadWriteRoutingDataSource.REPLICA);
+
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+        assertThat(replicaReads.read(routing::determineCurrentLookupKey)).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("readTracked: 실제로 replica 커넥션을 골랐을 때만 fromReplica")
+    void read_tracked_reports_replica_use() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(replicaReads.readTracked(routing::determineCurrentLookupKey).fromReplica()).isTrue();
+        assertThat(replicaReads.readTracked(() -> "no sql").fromReplica()).isFalse();
+
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+        assertThat(replicaReads.readTracked(routing::determineCurrentLookupKey).fromReplica()).isFalse();
+    }
+
+    @Test
+    @DisplayName("ReplicaReads라도 쓰기 트랜잭션에 합류하면 primary, 힌트는 read(...) 밖으로 새지 않는다")
+    void hint_requires_read_only_and_is_scoped() {
+        assertThat(replicaReads.read(routing::determineCurrentLookupKey)).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+
+        boolean outerKept = replicaReads.read(() -> {
+            replicaReads.read(() -> null);
+            return ReplicaReads.isRequested(); // 중첩 read가 끝나도 바깥 힌트는 유지
+        });
+        assertThat(outerKept).isTrue();
+        assertThat(ReplicaReads.isRequested()).isFalse();
+    }
+}
@@ -0,0 +1,260 @@
+package com.kyonggi.backend.global.datasource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.Testcontainers;
+import org.testcontainers.containers.MySQLContainer;
+
+import com.kyonggi.backend.AbstractIntegrationTest;
+import com.kyonggi.backend.auth.domain.UserRole;
+import com.kyonggi.backend.auth.identity.me.cache.MeProfileCache;
+import com.kyonggi.backend.auth.identity.me.service.MeService;
+import com.kyonggi.backend.auth.repo.UserRepository;
+import com.kyonggi.backend.security.AuthPrincipal;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 통합 테스트 (MySQL 2대: 공용 컨테이너 = primary, 여기서 띄우는 컨테이너 = replica)
+ *
+ * 복제 구성 (binlog 위치 기반, row format):
+ * 1) primary/replica 모두 Flyway로 같은 스키마를 만든다. (스키마는 복제하지 않는다)
+ * 2) primary의 현재 binlog 위치부터 replica가 따라가게 한다. (replica → host.testcontainers.internal:primary포트)
+ *    - 그 이전에 primary에 있던 row는 replica에 없으므로, 다른 테스트가 그 row를 지우거나 고칠 때 나는
+ *      1032/1062/1452 오류는 replica에서 건너뛴다. (테스트 전용 설정)
+ *
+ * 검증:
+ * - ReplicaReads.read(...) → replica(@@server_id=2), 힌트 없는 readOnly 트랜잭션/그 외 → primary(@@server_id=1)
+ * - primary에 쓴 row가 복제되어 ReplicaReads로 감싼 리포지토리 조회로 보인다. (감싸지 않으면 primary)
+ * - 복제 SQL 스레드를 멈추면(지연 NULL) replica 요청도 primary로, 다시 켜면 replica로 돌아온다.
+ * - /auth/me 캐시 miss 조회: replica가 답한 값은 캐시하지 않고, primary가 답한 값만 캐시한다.
+ * - 풀별 Hikari 메트릭(pool=primary|replica)
+ */
+@Slf4j
+@DisplayName("[DB][Routing] opt-in replica 라우팅 / 지연 시 primary 폴백")
+class ReadWriteRoutingIT extends AbstractIntegrationTest {
+
+    private static final int PRIMARY_SERVER_ID = 1;
+    private static final int REPLICA_SERVER_ID = 2;
+
+    static final MySQLContainer<?> REPLICA = new MySQLContainer<>("mysql:8.0.36")
+            .withDatabaseName("kyonggi_board_test")
+            .withUsername("kyonggi")
+            .withPassword("kyonggi")
+            .withCommand(
+                    "--server-id=" + REPLICA_SERVER_ID,
+                    "--relay-log=replica-relay",
+                    "--read-only=ON",
+                    "--replicate-do-db=kyonggi_board_test",
+                    "--replica-skip-errors=1032,1062,1452")
+            .withStartupTimeout(Duration.ofMinutes(2));
+
+    static {
+        startReplication();
+    }
+
+    @DynamicPropertySource
+    static void replicaProps(DynamicPropertyRegistry r) {
+        r.add("app.datasource.replica.enabled", () -> "true");
+        r.add("app.datasource.replica.url", REPLICA::getJdbcUrl);
+        r.add("app.datasource.replica.username", REPLICA::getUsername);
+        r.add("app.datasource.replica.password", REPLICA::getPassword);
+        r.add("app.datasource.replica.maximum-pool-size", () -> "2");
+        r.add("app.datasource.replica.minimum-idle", () -> "1");
+        r.add("app.datasource.replica.connection-timeout-millis", () -> "5000");
+        r.add("app.datasource.replica.max-lag-seconds", () -> "2");
+        r.add("app.datasource.replica.lag-check-interval-millis", () -> "3600000"); // check()를 직접 호출
+    }
+
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired UserRepository userRepository;
+    @Autowired ReplicaLagMonitor lagMonitor;
+    @Autowired ReplicaReads replicaReads;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired MeService meService;
+    @Autowired MeProfileCache meProfileCache;
+
+    @Test
+    @DisplayName("ReplicaReads → replica, 힌트 없는 readOnly/쓰기 트랜잭션/트랜잭션 밖 → primary")
+    void only_opted_in_reads_use_replica() {
+        assertThat(lagMonitor.check()).isTrue();
+
+        assertThat(replicaServerId()).isEqualTo(REPLICA_SERVER_ID);
+        assertThat(serverId(true)).isEqualTo(PRIMARY_SERVER_ID);
+        assertThat(serverId(false)).isEqualTo(PRIMARY_SERVER_ID);
+        assertThat(jdbc.queryForObject("SELECT @@server_id", Integer.class)).isEqualTo(PRIMARY_SERVER_ID);
+
+        assertThat(meterRegistry.get("db.routing").tag("target", ReadWriteRoutingDataSource.REPLICA).counter().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("primary에 쓴 row가 복제되어 ReplicaReads로 감싼 리포지토리 조회로 보인다")
+    void primary_writes_are_read_back_from_replica() throws Exception {
+        String email = "routing_" + System.nanoTime() + "@kyonggi.ac.kr";
+        jdbc.update("INSERT INTO users (email, password_hash, nickname) VALUES (?, 'x', ?)",
+                email, "rt" + (System.nanoTime() % 1_000_000_000L));
+        try {
+            assertThat(userRepository.existsByEmail(email)).isTrue(); // 힌트 없음 → primary, 바로 보인다
+            await(() -> replicaReads.read(() -> userRepository.existsByEmail(email)), Duration.ofSeconds(10));
+            assertThat(lagMonitor.check()).isTrue();
+        } finally {
+            jdbc.update("DELETE FROM users WHERE email = ?", email);
+        }
+    }
+
+    @Test
+    @DisplayName("복제 중단(지연 NULL) → replica 요청도 primary, 재개 후 replica로 복귀")
+    void stopped_replication_falls_back_to_primary() throws Exception {
+        assertThat(lagMonitor.check()).isTrue();
+        double fallbackBefore = meterRegistry.get("db.routing.fallback").counter().count();
+
+        replicaRoot("STOP REPLICA SQL_THREAD");
+        try {
+            assertThat(lagMonitor.check()).isFalse();
+            assertThat(lagMonitor.lagSeconds()).isEqualTo(-1);
+            assertThat(replicaServerId()).isEqualTo(PRIMARY_SERVER_ID);
+            assertThat(meterRegistry.get("db.routing.fallback").counter().count()).isGreaterThan(fallbackBefore);
+        } finally {
+            replicaRoot("START REPLICA SQL_THREAD");
+        }
+
+        await(lagMonitor::check, Duration.ofSeconds(10));
+        assertThat(replicaServerId()).isEqualTo(REPLICA_SERVER_ID);
+    }
+
+    @Test
+    @DisplayName("MeService: replica가 답한 프로필은 캐시하지 않고, primary 폴백 값은 캐시한다")
+    void me_profile_from_replica_is_not_cached() throws Exception {
+        String email = "routing_me_" + System.nanoTime() + "@kyonggi.ac.kr";
+        jdbc.update("INSERT INTO users (email, password_hash, nickname) VALUES (?, 'x', ?)",
+                email, "rm" + (System.nanoTime() % 1_000_000_000L));
+        Long userId = jdbc.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+        AuthPrincipal principal = new AuthPrincipal(userId, UserRole.USER);
+        try {
+            await(() -> replicaReads.read(() -> userRepository.existsByEmail(email)), Duration.ofSeconds(10));
+            assertThat(lagMonitor.check()).isTrue();
+            meProfileCache.clear();
+
+            assertThat(meService.me(principal).email()).isEqualTo(email);
+            assertThat(meProfileCache.size()).isZero(); // replica 값
+
+            replicaRoot("STOP REPLICA SQL_THREAD");
+            try {
+                assertThat(lagMonitor.check()).isFalse();
+                assertThat(meService.me(principal).email()).isEqualTo(email);
+                assertThat(meProfileCache.size()).isEqualTo(1); // primary 폴백 값
+            } finally {
+                replicaRoot("START REPLICA SQL_THREAD");
+            }
+            await(lagMonitor::check, Duration.ofSeconds(10));
+        } finally {
+            meProfileCache.clear();
+            jdbc.update("DELETE FROM users WHERE email = ?", email);
+        }
+    }
+
+    @Test
+    @DisplayName("Hikari 메트릭이 풀별(pool=primary|replica)로 나온다")
+    void hikari_metrics_per_pool() {
+        replicaServerId();
+        serverId(false);
+
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", ReadWriteRoutingDataSource.PRIMARY).gauge())
+                .isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", ReadWriteRoutingDataSource.REPLICA).gauge())
+                .isNotNull();
+    }
+
+    private int serverId(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(s -> jdbc.queryForObject("SELECT @@server_id", Integer.class));
+    }
+
+    private int replicaServerId() {
+        return replicaReads.read(() -> jdbc.queryForObject("SELECT @@server_id", Integer.class));
+    }
+
+    private static void await(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("condition not met within " + timeout);
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    // ===== 복제 구성 =====
+
+    private static void startReplication() {
+        MySQLContainer<?> primary = primaryMysql();
+        int primaryPort = primary.getMappedPort(MySQLContainer.MYSQL_PORT);
+        Testcontainers.exposeHostPorts(primaryPort); // replica 컨테이너 → 호스트 → primary 매핑 포트
+        REPLICA.start();
+
+        migrate(primary);
+        migrate(REPLICA);
+
+        try (Connection source = root(primary); Statement st = source.createStatement();
+             ResultSet rs = st.executeQuery("SHOW MASTER STATUS")) {
+            if (!rs.next()) {
+                throw new IllegalStateException("primary binlog is disabled");
+            }
+            String file = rs.getString("File");
+            long position = rs.getLong("Position");
+
+            replicaRoot("GRANT REPLICATION CLIENT ON *.* TO '" + REPLICA.getUsername() + "'@'%'");
+            replicaRoot("CHANGE REPLICATION SOURCE TO"
+                    + " SOURCE_HOST='host.testcontainers.internal',"
+                    + " SOURCE_PORT=" + primaryPort + ","
+                    + " SOURCE_USER='root', SOURCE_PASSWORD='" + primary.getPassword() + "',"
+                    + " SOURCE_LOG_FILE='" + file + "', SOURCE_LOG_POS=" + position + ","
+                    + " GET_SOURCE_PUBLIC_KEY=1");
+            replicaRoot("START REPLICA");
+            log.info("[TEST] replica following primary from {}:{}", file, position);
+        } catch (SQLException e) {
+            throw new IllegalStateException("replication setup failed", e);
+        }
+    }
+
+    // 스키마는 복제하지 않고 양쪽에 같은 마이그레이션을 적용한다. (root: replica는 read_only)
+    private static void migrate(MySQLContainer<?> mysql) {
+        Flyway.configure()
+                .dataSource(mysql.getJdbcUrl(), "root", mysql.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    private static void replicaRoot(String sql) {
+        try (Connection c = root(REPLICA); Statement st = c.createStatement()) {
+            st.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(sql, e);
+        }
+    }
+
+    private static Connection root(MySQLContainer<?> mysql) throws SQLException {
+        return DriverManager.getConnection(mysql.getJdbcUrl(), "root", mysql.getPassword());
+    }
+}
@@ -0,0 +1,72 @@
+package com.kyonggi.backend.global.jackson;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kyonggi.backend.auth.identity.login.dto.LoginRequest;
+import com.kyonggi.backend.auth.identity.signup.dto.SignupCompleteRequest;
+
+/**
+ * TrimStringDeserializer(@Trim) 테스트
+ *
+ * - @Trim 필드만 잘리고 비밀번호는 공백까지 그대로 유지된다.
+ * - 자를 게 없으면 파서가 만든 문자열을 그대로 돌려준다. (새 문자열 없음)
+ * - 문자열이 아닌 스칼라(숫자 등)는 이전처럼 문자열로 바꿔 trim 한다.
+ * - 이전 구현(getValueAsString().trim())과의 비용 비교는 src/jmh의 TrimStringDeserializerBenchmark
+ */
+@DisplayName("[Global][Jackson] @Trim 문자열 역직렬화")
+class TrimStringDeserializerTest {
+
+    private static final String LOGIN_PADDED =
+            "{\"email\":\"  student@kyonggi.ac.kr \",\"password\":\" Abcdef12! \",\"rememberMe\":true}";
+    private static final String SIGNUP_PADDED =
+            "{\"email\":\"\\tstudent@kyonggi.ac.kr\\n\",\"password\":\"Abcdef12!\",\"passwordConfirm\":\"Abcdef12!\",\"nickname\":\"학생_01\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("@Trim 필드(email)만 잘리고, 비밀번호/닉네임은 그대로")
+    void trims_only_marked_fields() throws Exception {
+        LoginRequest login = objectMapper.readValue(LOGIN_PADDED, LoginRequest.class);
+        assertThat(login.email()).isEqualTo("student@kyonggi.ac.kr");
+        assertThat(login.password()).isEqualTo(" Abcdef12! ");
+
+        SignupCompleteRequest signup = objectMapper.readValue(SIGNUP_PADDED, SignupCompleteRequest.class);
+        assertThat(signup.email()).isEqualTo("student@kyonggi.ac.kr");
+        assertThat(signup.nickname()).isEqualTo("학생_01");
+    }
+
+    @Test
+    @DisplayName("경계: 공백뿐/빈 문자열/제어 문자/이스케이프/숫자 토큰/null")
+    void edge_cases_match_string_trim() throws Exception {
+        for (String raw : List.of("", " ", "\t\n ", "a", " a ", "\u0001a\u0001", "a b", "  a  ", "　a")) {
+            assertThat(deserialize(objectMapper.writeValueAsString(raw))).as("[%s]", raw).isEqualTo(raw.trim());
+        }
+        assertThat(deserialize("\"\\u0020x\\u0020\"")).isEqualTo("x");
+        assertThat(deserialize("42")).isEqualTo("42");
+        assertThat(objectMapper.readValue("{\"email\":null,\"password\":\"p\"}", LoginRequest.class).email()).isNull();
+    }
+
+    @Test
+    @DisplayName("자를 게 없으면 파서의 문자열을 그대로 돌려준다")
+    void returns_parser_string_when_nothing_to_trim() throws Exception {
+        try (JsonParser p = objectMapper.createParser("\"student@kyonggi.ac.kr\"")) {
+            p.nextToken();
+            String v = new TrimStringDeserializer().deserialize(p, objectMapper.getDeserializationContext());
+            assertThat(v).isSameAs(p.getText());
+        }
+    }
+
+    private String deserialize(String json) throws IOException {
+        try (JsonParser p = objectMapper.createParser(json)) {
+            p.nextToken();
+            return new TrimStringDeserializer().deserialize(p, objectMapper.getDeserializationContext());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.kyonggi.backend.mail;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.kyonggi.backend.mail.outbox.MailBodyCipher;
+import com.kyonggi.backend.mail.outbox.MailOutbox;
+import com.kyonggi.backend.mail.outbox.MailOutboxProperties;
+import com.kyonggi.backend.mail.outbox.MailOutboxRelay;
+import com.kyonggi.backend.mail.outbox.MailOutboxRepository;
+import com.kyonggi.backend.support.TestClockConfig.MutableClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * MailOutboxRelay ↔ MailCircuitBreaker 허가 관리 (DB/SMTP 없이 mock으로)
+ *
+ * - HALF_OPEN에서 claim 쿼리(lockDueBatch/lockDueById)가 실패해도 시험 허가가 새지 않는다.
+ *   → 다음 폴링에서 시험 발송을 할 수 있고, 성공하면 CLOSED로 돌아온다.
+ */
+@DisplayName("[Mail][Outbox-Relay] 회로 허가 누수 방지")
+class MailOutboxRelayCircuitTest {
+
+    private static final MailOutboxProperties OUTBOX_PROPS =
+            new MailOutboxProperties("0123456789abcdef0123456789abcdef", 1000, 10, 60, 5, 5, 300, 24);
+    private static final MailCircuitBreakerProperties BREAKER_PROPS =
+            new MailCircuitBreakerProperties(true, 4, 2, 50, 100, 10_000, 30, 1);
+
+    private final MutableClock clock = new MutableClock(Clock.systemUTC().instant(), ZoneId.of("UTC"));
+    private final MailOutboxRepository repository = mock(MailOutboxRepository.class);
+    private final MailBodyCipher cipher = new MailBodyCipher(OUTBOX_PROPS.encryptionSecret(), new SecureRandom());
+
+    private MailCircuitBreaker breaker;
+    private MailOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager tm = mock(PlatformTransactionManager.class);
+        when(tm.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        breaker = new MailCircuitBreaker(BREAKER_PROPS, clock, new SimpleMeterRegistry());
+        relay = new MailOutboxRelay(repository, cipher, mock(JavaMailSender.class), breaker, OUTBOX_PROPS,
+                clock, tm, new SimpleMeterRegistry());
+        halfOpen();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN + lockDueBatch 예외 → 허가가 남지 않고, 다음 poll의 시험 발송 성공으로 CLOSED")
+    void failing_batch_claim_does_not_leak_probe_permit() {
+        when(repository.lockDueBatch(any(), anyInt())).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        assertThat(relay.poll()).isZero();
+        assertThat(breaker.state()).isEqualTo(MailCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.isCallPermitted()).isTrue();
+
+        doReturn(List.of(pending()), List.of()).when(repository).lockDueBatch(any(), anyInt());
+
+        assertThat(relay.poll()).isEqualTo(1);
+        assertThat(breaker.state()).isEqualTo(MailCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN + lockDueById 예외(fast path) → 허가가 남지 않는다")
+    void failing_single_claim_does_not_leak_probe_permit() {
+        when(repository.lockDueById(any(), any())).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        assertThatThrownBy(() -> relay.deliver(1L)).isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(breaker.state()).isEqualTo(MailCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    // 실패 minimum-calls번 → OPEN → open-seconds 경과 → (다음 허가 확인 시) HALF_OPEN
+    private void halfOpen() {
+        for (int i = 0; i < BREAKER_PROPS.minimumCalls(); i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure(0);
+        }
+        assertThat(breaker.state()).isEqualTo(MailCircuitBreaker.State.OPEN);
+        clock.advance(Duration.ofSeconds(BREAKER_PROPS.openSeconds()));
+        assertThat(breaker.isCallPermitted()).isTrue();
+        assertThat(breaker.state()).isEqualTo(MailCircuitBreaker.State.HALF_OPEN);
+    }
+
+    private MailOutbox pending() {
+        return MailOutbox.pending("test", "to@kyonggi.ac.kr", "subject", cipher.encrypt("body"),
+                LocalDateTime.now(clock));
+    }
+}
@@ -0,0 +1,149 @@
+package com.kyonggi.backend.mail;
+
+import java.time.Duration;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.kyonggi.backend.AbstractIntegrationTest;
+import com.kyonggi.backend.support.MailhogSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PooledJavaMailSender(SMTP 연결 재사용) 통합 테스트 + 간이 벤치마크 (MailHog)
+ *
+ * - 풀: 단건 send()를 연속 호출해도 연결을 재사용 (연결 수 <= max-connections)
+ * - 풀 + batch: send(SimpleMailMessage...) 한 번에 한 연결로 연속 발송
+ * - 벤치마크: 기본 JavaMailSenderImpl(send()마다 새 연결) vs 풀 vs 풀 + batch 처리량(msg/s)을 로그로 남긴다.
+ *   (MailHog는 로컬 컨테이너라 절대값보다 비율을 본다)
+ *   @Tag("benchmark")라 기본 test에서는 빠진다. (./gradlew test -Pbenchmarks --tests '*MailTransportPoolIT')
+ */
+@Slf4j
+@DisplayName("[Mail][SMTP-Pool] 연결 재사용 / batch 발송")
+class MailTransportPoolIT extends AbstractIntegrationTest {
+
+    private static final int MESSAGES = 60;
+
+    @Autowired JavaMailSender mailSender;
+    @Autowired MailProperties mailProperties;
+    @Autowired MailTransportPoolProperties poolProps;
+    @Autowired MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void clearMailhog() throws Exception {
+        MailhogSupport.clearAll();
+    }
+
+    @Test
+    @DisplayName("pool: 단건 send() 반복 시 연결을 재사용한다 (새 연결 수 <= max-connections)")
+    void single_sends_reuse_connections() throws Exception {
+        assertThat(mailSender).isInstanceOf(PooledJavaMailSender.class);
+        double openedBefore = opened();
+
+        for (int i = 0; i < MESSAGES; i++) {
+            mailSender.send(message("pool-single", i));
+        }
+
+        MailhogSupport.awaitMessageCount(MESSAGES, Duration.ofSeconds(15));
+        assertThat(opened() - openedBefore).isLessThanOrEqualTo(poolProps.maxConnections());
+    }
+
+    @Test
+    @DisplayName("pool: batch send(messages...)는 한 연결로 연속 발송한다")
+    void batch_send_uses_single_connection() throws Exception {
+        ((PooledJavaMailSender) mailSender).evictIdle(); // 유휴 연결을 비워서 "새 연결 1개"를 정확히 센다
+        double openedBefore = opened();
+
+        mailSender.send(batch("pool-batch"));
+
+        MailhogSupport.awaitMessageCount(MESSAGES, Duration.ofSeconds(15));
+        assertThat(opened() - openedBefore).isLessThanOrEqualTo(1.0d);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("bench: 단건 send() 처리량 기본 구현(send마다 새 연결) vs 풀")
+    void single_send_throughput_plain_vs_pooled() throws Exception {
+        double openedBefore = opened();
+        long pooledMillis = timed(i -> mailSender.send(message("pool-single", i)));
+        double openedDelta = opened() - openedBefore;
+        MailhogSupport.awaitMessageCount(MESSAGES, Duration.ofSeconds(15));
+
+        MailhogSupport.clearAll();
+        JavaMailSenderImpl plain = plainSender();
+        long plainMillis = timed(i -> plain.send(message("plain-single", i)));
+        MailhogSupport.awaitMessageCount(MESSAGES, Duration.ofSeconds(15));
+
+        log.info("[smtp-bench] messages={}, plain={}ms ({} msg/s, {} connections), pooled={}ms ({} msg/s, {} connection(s), {} msg/connection)",
+                MESSAGES,
+                plainMillis, perSecond(plainMillis), MESSAGES,
+                pooledMillis, perSecond(pooledMillis), (long) openedDelta,
+                (long) (MESSAGES / Math.max(1, openedDelta)));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("bench: 풀 + batch send(messages...) 처리량")
+    void batch_send_throughput() throws Exception {
+        SimpleMailMessage[] batch = batch("pool-batch");
+        ((PooledJavaMailSender) mailSender).evictIdle();
+
+        long startedAt = System.nanoTime();
+        mailSender.send(batch);
+        long batchMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        MailhogSupport.awaitMessageCount(MESSAGES, Duration.ofSeconds(15));
+
+        log.info("[smtp-bench] batch messages={}, elapsed={}ms, throughput={} msg/s over 1 connection",
+                MESSAGES, batchMillis, perSecond(batchMillis));
+    }
+
+    private static SimpleMailMessage[] batch(String prefix) {
+        SimpleMailMessage[] batch = new SimpleMailMessage[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            batch[i] = message(prefix, i);
+        }
+        return batch;
+    }
+
+    private long timed(IntConsumer send) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            send.accept(i);
+        }
+        return Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private double opened() {
+        return meterRegistry.counter("mail.smtp.connections.opened").count();
+    }
+
+    private JavaMailSenderImpl plainSender() {
+        JavaMailSenderImpl plain = new JavaMailSenderImpl();
+        plain.setHost(mailProperties.getHost());
+        plain.setPort(mailProperties.getPort());
+        return plain;
+    }
+
+    private static SimpleMailMessage message(String prefix, int i) {
+        SimpleMailMessage msg = new SimpleMailMessage();
+        msg.setTo(prefix + "_" + i + "@kyonggi.ac.kr");
+        msg.setSubject("bench");
+        msg.setText("인증번호: 000000");
+        return msg;
+    }
+
+    private static long perSecond(long millis) {
+        return MESSAGES * 1000L / millis;
+    }
+}
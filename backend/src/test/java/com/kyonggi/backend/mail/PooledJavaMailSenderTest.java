@@ -0,0 +1,115 @@
+package com.kyonggi.backend.mail;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * PooledJavaMailSender 실패 보고 단위 테스트 (SMTP 서버 없이 Transport mock)
+ *
+ * - batch 도중 재연결 인증이 실패하면 아직 보내지 않은 메일만 실패로 보고한다.
+ * - batch 첫 메일 전에 인증이 실패하면 MailAuthenticationException (JavaMailSenderImpl과 동일)
+ */
+@DisplayName("[Mail][SMTP-Pool] batch 실패 보고")
+class PooledJavaMailSenderTest {
+
+    @Test
+    @DisplayName("batch 도중 재연결 인증 실패: 이미 보낸 메일은 실패 목록에 없다")
+    void auth_failure_mid_batch_fails_only_unsent() throws Exception {
+        Transport first = mock(Transport.class);
+        doNothing()
+                .doThrow(new MessagingException("connection reset"))
+                .when(first).sendMessage(any(MimeMessage.class), any());
+
+        StubSender sender = new StubSender();
+        sender.connections.add(first);
+        // 두 번째 연결(재연결)은 인증 실패
+
+        SimpleMailMessage sent = message(0);
+        SimpleMailMessage broken = message(1);
+        SimpleMailMessage unsent = message(2);
+
+        assertThatThrownBy(() -> sender.send(sent, broken, unsent))
+                .isInstanceOfSatisfying(MailSendException.class, ex ->
+                        assertThat(ex.getFailedMessages())
+                                .containsOnlyKeys(broken, unsent));
+    }
+
+    @Test
+    @DisplayName("첫 연결부터 인증 실패: MailAuthenticationException")
+    void auth_failure_before_first_message() {
+        StubSender sender = new StubSender();
+
+        assertThatThrownBy(() -> sender.send(message(0), message(1)))
+                .isInstanceOf(MailAuthenticationException.class);
+    }
+
+    @Test
+    @DisplayName("수신자 거부 후 인증 실패: 앞선 거부는 그대로, 보낸 메일은 제외")
+    void keeps_earlier_failures_and_skips_delivered() throws Exception {
+        Transport first = mock(Transport.class);
+        doThrow(new SendFailedException("rejected"))
+                .doNothing()
+                .doThrow(new MessagingException("connection reset"))
+                .when(first).sendMessage(any(MimeMessage.class), any());
+
+        StubSender sender = new StubSender();
+        sender.connections.add(first);
+
+        SimpleMailMessage rejected = message(0);
+        SimpleMailMessage sent = message(1);
+        SimpleMailMessage broken = message(2);
+
+        assertThatThrownBy(() -> sender.send(rejected, sent, broken))
+                .isInstanceOfSatisfying(MailSendException.class, ex ->
+                        assertThat(ex.getFailedMessages()).containsOnlyKeys(rejected, broken));
+    }
+
+    private static SimpleMailMessage message(int i) {
+        SimpleMailMessage msg = new SimpleMailMessage();
+        msg.setFrom("noreply@kyonggi.ac.kr");
+        msg.setTo("user_" + i + "@kyonggi.ac.kr");
+        msg.setSubject("test");
+        msg.setText("인증번호: 000000");
+        return msg;
+    }
+
+    /**
+     * connectTransport()가 준비된 mock을 순서대로 돌려주고, 다 쓰면 인증 실패를 던진다.
+     */
+    private static final class StubSender extends PooledJavaMailSender {
+
+        private final Deque<Transport> connections = new ArrayDeque<>();
+
+        private StubSender() {
+            super(new MailTransportPoolProperties(true, 1, 60, 1_000, 100), new SimpleMeterRegistry());
+        }
+
+        @Override
+        protected Transport connectTransport() throws MessagingException {
+            Transport next = connections.pollFirst();
+            if (next == null) {
+                throw new AuthenticationFailedException("535 authentication failed");
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+/**
+ * CachedBodyRequest 비동기 읽기(setReadListener) 단위 테스트
+ *
+ * - 바디가 전부 캐시에 있으면 setReadListener 즉시 onDataAvailable → onAllDataRead
+ * - 리스너 안에서 읽은 바이트는 원래 바디와 같다.
+ */
+@DisplayName("[RateLimit] CachedBodyRequest 비동기 읽기")
+class CachedBodyRequestTest {
+
+    private static final String BODY = "{\"email\":\"user@kyonggi.ac.kr\",\"password\":\"pw\"}";
+
+    @Test
+    @DisplayName("캐시된 바디: 리스너가 바로 호출되고 바디 전체를 읽는다")
+    void read_listener_on_cached_body() throws Exception {
+        CachedBodyRequest request = CachedBodyRequest.wrap(post(BODY), 1024);
+        ServletInputStream in = request.getInputStream();
+        RecordingListener listener = new RecordingListener(in);
+
+        in.setReadListener(listener);
+
+        assertThat(listener.events).containsExactly("data", "all");
+        assertThat(listener.body.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(in.isFinished()).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 바디: onAllDataRead만 호출된다")
+    void read_listener_on_empty_body() throws Exception {
+        CachedBodyRequest request = CachedBodyRequest.wrap(post(""), 1024);
+        ServletInputStream in = request.getInputStream();
+        RecordingListener listener = new RecordingListener(in);
+
+        in.setReadListener(listener);
+
+        assertThat(listener.events).containsExactly("all");
+    }
+
+    @Test
+    @DisplayName("리스너는 한 번만 등록할 수 있다")
+    void read_listener_only_once() throws Exception {
+        ServletInputStream in = CachedBodyRequest.wrap(post(BODY), 1024).getInputStream();
+        in.setReadListener(new RecordingListener(in));
+
+        assertThatThrownBy(() -> in.setReadListener(new RecordingListener(in)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static MockHttpServletRequest post(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static final class RecordingListener implements ReadListener {
+        private final ServletInputStream in;
+        private final List<String> events = new ArrayList<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        private RecordingListener(ServletInputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            events.add("data");
+            byte[] buf = new byte[16];
+            while (in.isReady() && !in.isFinished()) {
+                int n = in.read(buf);
+                if (n < 0) {
+                    break;
+                }
+                body.write(buf, 0, n);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() {
+            events.add("all");
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            events.add("error");
+        }
+    }
+}
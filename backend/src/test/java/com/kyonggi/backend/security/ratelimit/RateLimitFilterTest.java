@@ -0,0 +1,97 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kyonggi.backend.global.ErrorCode;
+import com.kyonggi.backend.security.ratelimit.RateLimitProperties.Route;
+import com.kyonggi.backend.security.ratelimit.RateLimitProperties.Rule;
+
+/**
+ * RateLimitFilter per-email 버킷 우회 방지 단위 테스트 (DB/컨테이너 없이 MockHttpServletRequest)
+ *
+ * - max-body-bytes를 넘는 바디 → 413 (email 검사를 건너뛰고 통과시키지 않는다)
+ * - 최상위 email 키 중복 → 400 (필터가 센 이메일과 바인딩된 이메일이 달라지는 것을 막는다)
+ */
+@DisplayName("[RateLimit] per-email 버킷 우회 방지")
+class RateLimitFilterTest {
+
+    private static final int MAX_BODY_BYTES = 256;
+    private static final String VICTIM = "victim@kyonggi.ac.kr";
+
+    private StripedTokenBucketLimiter limiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Route login = new Route("login", "/auth/login", null, new Rule(1, 1, null), "POST");
+        RateLimitProperties props = new RateLimitProperties(true, 1000, 600, MAX_BODY_BYTES, List.of(login), null);
+        limiter = new StripedTokenBucketLimiter(props.maxKeys(), props.idleEvictSeconds());
+        filter = new RateLimitFilter(props, limiter, null, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("email 버킷이 비면 같은 이메일은 429")
+    void same_email_is_limited() throws Exception {
+        assertThat(login("{\"email\":\"" + VICTIM + "\"}").chain.getRequest()).isNotNull();
+
+        Result limited = login("{\"email\":\"" + VICTIM + "\"}");
+        assertThat(limited.response.getStatus()).isEqualTo(ErrorCode.RATE_LIMITED.status().value());
+        assertThat(limited.chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("max-body-bytes 초과 바디는 413으로 거절하고 체인으로 넘기지 않는다")
+    void oversized_body_is_rejected() throws Exception {
+        login("{\"email\":\"" + VICTIM + "\"}"); // 버킷 소진
+
+        String padded = "{\"email\":\"" + VICTIM + "\",\"password\":\"" + "x".repeat(MAX_BODY_BYTES) + "\"}";
+        Result result = login(padded);
+
+        assertThat(result.response.getStatus()).isEqualTo(ErrorCode.REQUEST_TOO_LARGE.status().value());
+        assertThat(result.response.getContentAsString()).contains(ErrorCode.REQUEST_TOO_LARGE.name());
+        assertThat(result.chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("email 키가 중복된 바디는 400으로 거절하고 어느 버킷도 차감하지 않는다")
+    void duplicate_email_key_is_rejected() throws Exception {
+        Result result = login("{\"email\":\"decoy@kyonggi.ac.kr\",\"email\":\"" + VICTIM + "\"}");
+
+        assertThat(result.response.getStatus()).isEqualTo(ErrorCode.VALIDATION_ERROR.status().value());
+        assertThat(result.chain.getRequest()).isNull();
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("email이 아닌 다른 키 중복이나 중첩 객체의 email은 거절 사유가 아니다")
+    void nested_email_is_not_duplicate() throws Exception {
+        Result result = login("{\"meta\":{\"email\":\"x@kyonggi.ac.kr\"},\"email\":\"" + VICTIM + "\"}");
+
+        assertThat(result.chain.getRequest()).isNotNull();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    private Result login(String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+        return new Result(response, chain);
+    }
+
+    private record Result(MockHttpServletResponse response, MockFilterChain chain) {}
+}
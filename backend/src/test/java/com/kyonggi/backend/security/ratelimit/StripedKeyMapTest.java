@@ -0,0 +1,62 @@
+package com.kyonggi.backend.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * StripedKeyMap 단위 테스트 (StripedTokenBucketLimiter / LoginThrottle 공용 저장소)
+ *
+ * - stripe가 가득 차면 유휴 값을 먼저 지우고, 그래도 가득 차면 새 키는 만들지 않는다. (fail-open)
+ * - read는 없는 키를 만들지 않는다.
+ */
+@DisplayName("[RateLimit] StripedKeyMap 상한 / 유휴 정리")
+class StripedKeyMapTest {
+
+    private static final long IDLE = 100;
+
+    // maxKeys 4 → stripe 1개, 키 4개
+    private final StripedKeyMap<long[]> map = new StripedKeyMap<>(4, IDLE / 2, (lastSeen, now) -> now - lastSeen[0] > IDLE);
+
+    @Test
+    @DisplayName("가득 차면 새 키는 추적하지 않고 whenFull")
+    void full_stripe_fails_open() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(touch("k" + i, 0)).isTrue();
+        }
+
+        assertThat(touch("k4", 10)).isFalse();
+        assertThat(map.size()).isEqualTo(4);
+        assertThat(touch("k0", 10)).isTrue(); // 이미 있는 키는 계속 갱신
+    }
+
+    @Test
+    @DisplayName("가득 찼을 때 유휴 값이 있으면 지우고 새 키를 만든다")
+    void full_stripe_sweeps_idle_first() {
+        for (int i = 0; i < 4; i++) {
+            touch("k" + i, 0);
+        }
+        touch("k0", 120); // 주기 정리(k1~k3 제거)
+
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(touch("k4", 120)).isTrue();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("read는 없는 키에 null을 넘기고 만들지 않는다")
+    void read_does_not_create() {
+        Boolean absent = map.read("missing", v -> v == null);
+
+        assertThat(absent).isTrue();
+        assertThat(map.size()).isZero();
+    }
+
+    private boolean touch(String key, long now) {
+        Boolean tracked = map.compute(key, now, t -> new long[] {t}, v -> {
+            v[0] = now;
+            return true;
+        }, false);
+        return tracked;
+    }
+}
@@ -47,6 +47,7 @@ public final class AuthHttpSupport {
     public static final String SIGNUP_OTP_REQUEST_ENDPOINT = "/auth/signup/otp/request";
     public static final String SIGNUP_OTP_VERIFY_ENDPOINT  = "/auth/signup/otp/verify";
     public static final String SIGNUP_COMPLETE_ENDPOINT    = "/auth/signup/complete";
+    public static final String NICKNAME_AVAILABLE_ENDPOINT = "/auth/signup/nickname-available";
 
     // ✅ 로그인/토큰/내정보 엔드포인트 상수
     public static final String LOGIN_ENDPOINT = "/auth/login";
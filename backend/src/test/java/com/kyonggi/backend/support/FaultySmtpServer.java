@@ -0,0 +1,137 @@
+package com.kyonggi.backend.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * 장애 주입용 로컬 SMTP 서버 (테스트 전용)
+ *
+ * MailHog는 항상 정상이라 SMTP 장애를 재현할 수 없어서, 최소한의 SMTP 대화만 하는 서버를 띄운다.
+ * mode를 바꾸면 다음 연결부터 적용된다.
+ *
+ * - ACCEPT: 정상 수신 (received() 증가)
+ * - REJECT: 접속하자마자 421 (서비스 불가) → 연결 실패
+ * - DROP  : 접속하자마자 소켓을 끊는다 → 연결 실패
+ * - SLOW  : 정상 수신하지만 DATA 응답을 delayMillis만큼 늦게 준다
+ */
+public final class FaultySmtpServer implements AutoCloseable {
+
+    public enum Mode {
+        ACCEPT,
+        REJECT,
+        DROP,
+        SLOW
+    }
+
+    private final ServerSocket serverSocket;
+    private final AtomicInteger received = new AtomicInteger();
+    private volatile Mode mode = Mode.ACCEPT;
+    private volatile long delayMillis;
+
+    private FaultySmtpServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofVirtual().name("faulty-smtp-accept").start(this::acceptLoop);
+    }
+
+    public static FaultySmtpServer start() throws IOException {
+        return new FaultySmtpServer();
+    }
+
+    public FaultySmtpServer mode(Mode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    public FaultySmtpServer slow(long delayMillis) {
+        this.delayMillis = delayMillis;
+        this.mode = Mode.SLOW;
+        return this;
+    }
+
+    public int received() {
+        return received.get();
+    }
+
+    /**
+     * 이 서버로 보내는 기본 JavaMailSenderImpl (send마다 새 연결이라 mode 변경이 바로 반영된다)
+     */
+    public JavaMailSenderImpl sender() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost(serverSocket.getInetAddress().getHostAddress());
+        sender.setPort(serverSocket.getLocalPort());
+        sender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        sender.getJavaMailProperties().put("mail.smtp.timeout", "5000");
+        return sender;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().start(() -> handle(socket));
+            } catch (IOException e) {
+                return; // close()
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        Mode current = mode;
+        try (socket) {
+            if (current == Mode.DROP) {
+                return;
+            }
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            OutputStream out = socket.getOutputStream();
+            if (current == Mode.REJECT) {
+                reply(out, "421 service not available");
+                return;
+            }
+
+            reply(out, "220 faulty-smtp ESMTP");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "DATA" -> {
+                        reply(out, "354 end with <CRLF>.<CRLF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // 본문은 버린다
+                        }
+                        if (current == Mode.SLOW) {
+                            Thread.sleep(delayMillis);
+                        }
+                        received.incrementAndGet();
+                        reply(out, "250 queued");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 bye");
+                        return;
+                    }
+                    default -> reply(out, "250 OK"); // EHLO/HELO/MAIL/RCPT/RSET/NOOP
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            // 클라이언트가 끊은 경우 등: 무시
+        }
+    }
+
+    private static void reply(OutputStream out, String line) throws IOException {
+        out.write((line + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
@@ -82,6 +82,24 @@ public final class MailhogSupport {
         );
     }
 
+    /** MailHog에 쌓인 메일 수가 expected 이상이 될 때까지 기다렸다가 실제 수를 반환 */
+    public static int awaitMessageCount(int expected, Duration timeout) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int total = 0;
+
+        while (System.nanoTime() < deadline) {
+            HttpResponse<String> res = fetchV2Messages();
+            if (res.statusCode() / 100 == 2) {
+                total = om.readTree(res.body()).path("total").asInt(0);
+                if (total >= expected) return total;
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+
+        throw new AssertionError("MailHog message count " + total + " < expected " + expected
+                + " (baseUrl=" + baseUrl() + ")");
+    }
+
     private static HttpResponse<String> fetchV2Messages() throws Exception {
         HttpRequest req = HttpRequest.newBuilder()
                 .uri(URI.create(baseUrl() + "/api/v2/messages?limit=50"))